@@ -18,6 +18,15 @@ repositories {
     }
 }
 
+// JMH benchmarks comparing stub hot paths before and after patching (src/jmh/java).
+// Run with ./gradlew jmh, JMH options via -PjmhArgs="..."
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
 dependencies {
     // Hytale Server API (for ClassTransformer interface)
     // Use parent directory's libs folder (shared with runtime plugin)
@@ -27,6 +36,26 @@ dependencies {
     implementation("org.ow2.asm:asm:9.8")
     implementation("org.ow2.asm:asm-commons:9.8")
     implementation("org.ow2.asm:asm-util:9.8")
+
+    // Patch tests run against stub server classes in src/test/java, not HytaleServer.jar
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks in src/jmh/java"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(findProperty("jmhArgs")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: emptyList<String>())
 }
 
 // Task to update manifest.json with current version
@@ -0,0 +1,72 @@
+package com.hyfixes.early;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * The getComponent() rewrite ArchetypeChunkVisitor shipped before the bounds check:
+ * the method body wrapped in a catch for IndexOutOfBoundsException that prints a
+ * warning and returns null. Kept here only so GetComponentBenchmark can measure the
+ * current patch against it, not just against the unpatched method.
+ */
+final class CatchOnlyGetComponentVisitor extends ClassVisitor {
+
+    CatchOnlyGetComponentVisitor(ClassVisitor cv) {
+        super(Opcodes.ASM9, cv);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+        if (name.equals("getComponent") && descriptor.contains("Lcom/hypixel/hytale/component/Component;")) {
+            return new GetComponentMethodVisitor(mv);
+        }
+        return mv;
+    }
+
+    private static final class GetComponentMethodVisitor extends MethodVisitor {
+
+        private final Label tryStart = new Label();
+        private final Label tryEnd = new Label();
+        private final Label catchHandler = new Label();
+        private boolean started = false;
+
+        GetComponentMethodVisitor(MethodVisitor mv) {
+            super(Opcodes.ASM9, mv);
+        }
+
+        @Override
+        public void visitCode() {
+            super.visitCode();
+            mv.visitLabel(tryStart);
+            started = true;
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (opcode == Opcodes.ARETURN && started) {
+                mv.visitLabel(tryEnd);
+                super.visitInsn(opcode);
+
+                mv.visitLabel(catchHandler);
+                mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+                mv.visitLdcInsn("[HyFixes-Early] WARNING: getComponent() IndexOutOfBounds - returning null (stale entity ref)");
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+                mv.visitInsn(Opcodes.ACONST_NULL);
+                mv.visitInsn(Opcodes.ARETURN);
+
+                started = false;
+            } else {
+                super.visitInsn(opcode);
+            }
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            mv.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/IndexOutOfBoundsException");
+            super.visitMaxs(Math.max(maxStack, 2), maxLocals);
+        }
+    }
+}
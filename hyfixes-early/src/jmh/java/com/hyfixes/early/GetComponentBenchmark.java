@@ -0,0 +1,123 @@
+package com.hyfixes.early;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArchetypeChunk.getComponent() unpatched, with the earlier catch-only patch, and with
+ * the current ArchetypeChunkTransformer.
+ *
+ * original/catchOnly/patched look up live entities, where the current patch adds the
+ * entry bounds check and the catch-only one a try/catch around the body.
+ * The stale variants use an index past size(): the original throws
+ * ArrayIndexOutOfBoundsException, the catch-only patch catches it, prints a warning and
+ * returns null, and the current patch counts the access and returns null without throwing.
+ * System.out is swapped for a discarding stream so the catch-only warning is still
+ * formatted and written, but does not flood the benchmark output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetComponentBenchmark {
+
+    private static final String ARCHETYPE_CHUNK = "com.hypixel.hytale.component.ArchetypeChunk";
+    private static final int ENTITIES = 1024;   // power of two, indexes wrap with a mask
+
+    private static final Class<?> ORIGINAL_CLASS = StubVariants.original(ARCHETYPE_CHUNK);
+    private static final Class<?> CATCH_ONLY_CLASS =
+        StubVariants.rewritten(ARCHETYPE_CHUNK, CatchOnlyGetComponentVisitor::new);
+    private static final Class<?> PATCHED_CLASS = StubVariants.patched(ARCHETYPE_CHUNK);
+    private static final MethodHandle ORIGINAL =
+        StubVariants.method(ORIGINAL_CLASS, "getComponent", int.class, ComponentType.class);
+    private static final MethodHandle CATCH_ONLY =
+        StubVariants.method(CATCH_ONLY_CLASS, "getComponent", int.class, ComponentType.class);
+    private static final MethodHandle PATCHED =
+        StubVariants.method(PATCHED_CLASS, "getComponent", int.class, ComponentType.class);
+
+    private final ComponentType componentType = new ComponentType(0);
+    private Object originalChunk;
+    private Object catchOnlyChunk;
+    private Object patchedChunk;
+    private int index;
+    private PrintStream stdout;
+
+    @Setup
+    public void setup() throws Throwable {
+        originalChunk = newChunk(ORIGINAL_CLASS);
+        catchOnlyChunk = newChunk(CATCH_ONLY_CLASS);
+        patchedChunk = newChunk(PATCHED_CLASS);
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    private Object newChunk(Class<?> chunkClass) throws Throwable {
+        Object chunk = StubVariants.newInstance(chunkClass, new Class<?>[] { int.class, int.class }, 1, ENTITIES);
+        MethodHandle setComponent = StubVariants.method(chunkClass, "setComponent",
+            int.class, ComponentType.class, Component.class);
+        for (int i = 0; i < ENTITIES; i++) {
+            setComponent.invoke(chunk, i, componentType, new Component() { });
+        }
+        return chunk;
+    }
+
+    @Benchmark
+    public Component original() throws Throwable {
+        index = (index + 1) & (ENTITIES - 1);
+        return (Component) ORIGINAL.invokeExact(originalChunk, index, componentType);
+    }
+
+    @Benchmark
+    public Component catchOnly() throws Throwable {
+        index = (index + 1) & (ENTITIES - 1);
+        return (Component) CATCH_ONLY.invokeExact(catchOnlyChunk, index, componentType);
+    }
+
+    @Benchmark
+    public Component patched() throws Throwable {
+        index = (index + 1) & (ENTITIES - 1);
+        return (Component) PATCHED.invokeExact(patchedChunk, index, componentType);
+    }
+
+    @Benchmark
+    public Component staleOriginal() throws Throwable {
+        try {
+            return (Component) ORIGINAL.invokeExact(originalChunk, ENTITIES, componentType);
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Component staleCatchOnly() throws Throwable {
+        return (Component) CATCH_ONLY.invokeExact(catchOnlyChunk, ENTITIES, componentType);
+    }
+
+    @Benchmark
+    public Component stalePatched() throws Throwable {
+        return (Component) PATCHED.invokeExact(patchedChunk, ENTITIES, componentType);
+    }
+}
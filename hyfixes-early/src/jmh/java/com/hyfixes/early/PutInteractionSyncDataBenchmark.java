@@ -0,0 +1,71 @@
+package com.hyfixes.early;
+
+import com.hypixel.hytale.protocol.InteractionSyncData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InteractionChain.putInteractionSyncData() before and after InteractionChainTransformer,
+ * which replaces the whole method body. Both overwrite entries of a filled sync buffer,
+ * the path every client sync packet takes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PutInteractionSyncDataBenchmark {
+
+    private static final String INTERACTION_CHAIN = "com.hypixel.hytale.server.core.entity.InteractionChain";
+    private static final int SYNC_ENTRIES = 64;   // power of two, indexes wrap with a mask
+
+    private static final Class<?> ORIGINAL_CLASS = StubVariants.original(INTERACTION_CHAIN);
+    private static final Class<?> PATCHED_CLASS = StubVariants.patched(INTERACTION_CHAIN);
+    private static final MethodHandle ORIGINAL =
+        StubVariants.method(ORIGINAL_CLASS, "putInteractionSyncData", int.class, InteractionSyncData.class);
+    private static final MethodHandle PATCHED =
+        StubVariants.method(PATCHED_CLASS, "putInteractionSyncData", int.class, InteractionSyncData.class);
+
+    private final InteractionSyncData data = new InteractionSyncData();
+    private Object originalChain;
+    private Object patchedChain;
+    private int index;
+
+    @Setup
+    public void setup() throws Throwable {
+        originalChain = newChain(ORIGINAL_CLASS, ORIGINAL);
+        patchedChain = newChain(PATCHED_CLASS, PATCHED);
+    }
+
+    private Object newChain(Class<?> chainClass, MethodHandle put) throws Throwable {
+        Object chain = StubVariants.newInstance(chainClass, new Class<?>[] { long.class }, 0L);
+        for (int i = 0; i < SYNC_ENTRIES; i++) {
+            put.invoke(chain, i, new InteractionSyncData());
+        }
+        return chain;
+    }
+
+    @Benchmark
+    public void original() throws Throwable {
+        index = (index + 1) & (SYNC_ENTRIES - 1);
+        ORIGINAL.invokeExact(originalChain, index, data);
+    }
+
+    @Benchmark
+    public void patched() throws Throwable {
+        index = (index + 1) & (SYNC_ENTRIES - 1);
+        PATCHED.invokeExact(patchedChain, index, data);
+    }
+}
@@ -0,0 +1,64 @@
+package com.hyfixes.early;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.protocol.InteractionSyncData;
+import com.hypixel.hytale.server.core.entity.InteractionChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InteractionManager.serverTick() before and after InteractionManagerTransformer, which
+ * wraps the body in a RuntimeException handler and routes every return through one exit.
+ * The chain already has its client data, so both take the normal return.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerTickBenchmark {
+
+    private static final String INTERACTION_MANAGER = "com.hypixel.hytale.server.core.entity.InteractionManager";
+
+    private static final Class<?> ORIGINAL_CLASS = StubVariants.original(INTERACTION_MANAGER);
+    private static final Class<?> PATCHED_CLASS = StubVariants.patched(INTERACTION_MANAGER);
+    private static final MethodHandle ORIGINAL =
+        StubVariants.method(ORIGINAL_CLASS, "serverTick", Ref.class, InteractionChain.class, long.class);
+    private static final MethodHandle PATCHED =
+        StubVariants.method(PATCHED_CLASS, "serverTick", Ref.class, InteractionChain.class, long.class);
+
+    private final Ref ref = new Ref();
+    private final InteractionChain chain = new InteractionChain(0);
+    private Object originalManager;
+    private Object patchedManager;
+    private long tick;
+
+    @Setup
+    public void setup() {
+        chain.putInteractionSyncData(0, new InteractionSyncData());
+        originalManager = StubVariants.newInstance(ORIGINAL_CLASS, new Class<?>[0]);
+        patchedManager = StubVariants.newInstance(PATCHED_CLASS, new Class<?>[0]);
+    }
+
+    @Benchmark
+    public InteractionSyncData original() throws Throwable {
+        return (InteractionSyncData) ORIGINAL.invokeExact(originalManager, ref, chain, ++tick);
+    }
+
+    @Benchmark
+    public InteractionSyncData patched() throws Throwable {
+        return (InteractionSyncData) PATCHED.invokeExact(patchedManager, ref, chain, ++tick);
+    }
+}
@@ -0,0 +1,76 @@
+package com.hyfixes.early;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.function.UnaryOperator;
+
+/**
+ * The forms of a stub server class the benchmarks compare: as compiled, as rewritten
+ * by the hub's patches, or as rewritten by some other visitor (e.g. an earlier version
+ * of a patch kept as a baseline). Each is defined in its own class loader, so both run
+ * side by side in one JVM, and is called through a MethodHandle with the receiver
+ * erased to Object. The handles live in static finals, where the JIT treats them as
+ * constants and inlines the target.
+ */
+final class StubVariants {
+
+    private StubVariants() {
+    }
+
+    static Class<?> original(String className) {
+        try {
+            return StubClasses.define(className, StubClasses.read(className));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot load stub " + className, e);
+        }
+    }
+
+    static Class<?> patched(String className) {
+        try {
+            return StubClasses.define(className, StubClasses.patched(className));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot load patched stub " + className, e);
+        }
+    }
+
+    /**
+     * The stub rewritten by a single visitor, with frames computed the way the hub does.
+     */
+    static Class<?> rewritten(String className, UnaryOperator<ClassVisitor> visitor) {
+        try {
+            ClassReader reader = new ClassReader(StubClasses.read(className));
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES);
+            reader.accept(visitor.apply(writer), ClassReader.SKIP_FRAMES);
+            return StubClasses.define(className, writer.toByteArray());
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot load rewritten stub " + className, e);
+        }
+    }
+
+    /**
+     * Handle to an instance method, private ones included, taking the receiver as Object.
+     */
+    static MethodHandle method(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return handle.asType(handle.type().changeParameterType(0, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No method " + owner.getName() + "." + name, e);
+        }
+    }
+
+    static Object newInstance(Class<?> owner, Class<?>[] parameterTypes, Object... args) {
+        try {
+            return owner.getDeclaredConstructor(parameterTypes).newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot construct " + owner.getName(), e);
+        }
+    }
+}
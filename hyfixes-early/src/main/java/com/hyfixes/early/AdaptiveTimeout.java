@@ -0,0 +1,73 @@
+package com.hyfixes.early;
+
+/**
+ * Per-connection RTT estimator for the transformed PacketHandler.getOperationTimeoutThreshold().
+ *
+ * Keeps a smoothed RTT and RTT variance per PacketHandler, Jacobson/Karels style (as in TCP's
+ * retransmission timer, RFC 6298):
+ *
+ *   err    = sample - SRTT
+ *   SRTT   = SRTT + err / 8
+ *   RTTVAR = RTTVAR + (|err| - RTTVAR) / 4
+ *
+ * and returns SRTT * pingMultiplier + k * RTTVAR, in ping units. The transformed method adds
+ * baseTimeoutMs and caps the result, so a player with a steady ping gets the same threshold as
+ * the fixed formula, while one whose ping swings gets slack in proportion to the jitter.
+ *
+ * Samples are the ping metric's running average (HistoricMetric.getAverage(0) - the metric does
+ * not expose individual pongs), read when the server asks for the threshold, at most once per
+ * {@value #SAMPLE_INTERVAL_MS}ms so frequent callers do not flatten the variance. A zero average
+ * (no pongs yet) is not used as a sample. Because the input is already averaged, RTTVAR measures
+ * how far the average drifts between samples rather than per-pong jitter: it stays near zero
+ * for a steady connection and grows while the ping is moving.
+ *
+ * RTTVAR starts at 0 (not sample / 2 as in RFC 6298), so from the first call a steady ping gets
+ * exactly the fixed formula's SRTT * pingMultiplier.
+ *
+ * The state is a small double[] injected into each PacketHandler. Concurrent callers may lose an
+ * update to each other, which only delays convergence. Called from server code, so this class
+ * must only depend on the JDK.
+ */
+public final class AdaptiveTimeout {
+
+    static final int STATE_SIZE = 3;
+
+    private static final int SRTT = 0;
+    private static final int RTTVAR = 1;
+    private static final int LAST_SAMPLE_MS = 2;   // 0 = no sample yet
+
+    private static final double ALPHA = 1.0 / 8;
+    private static final double BETA = 1.0 / 4;
+    private static final long SAMPLE_INTERVAL_MS = 1000;
+
+    private AdaptiveTimeout() {
+    }
+
+    /**
+     * Fold in the current average ping and return the ping-based part of the timeout.
+     *
+     * @param state per-handler state, {@link #STATE_SIZE} doubles
+     * @param averagePing current ping metric average, in PingInfo.TIME_UNIT
+     * @return SRTT * pingMultiplier + varianceMultiplier * RTTVAR, in PingInfo.TIME_UNIT
+     */
+    public static double scaledPing(double[] state, double averagePing, double pingMultiplier,
+                                    double varianceMultiplier) {
+        double nowMs = System.nanoTime() / 1_000_000.0;
+        if (averagePing > 0) {
+            if (state[LAST_SAMPLE_MS] == 0) {
+                state[SRTT] = averagePing;
+                state[RTTVAR] = 0;
+                state[LAST_SAMPLE_MS] = nowMs;
+            } else if (nowMs - state[LAST_SAMPLE_MS] >= SAMPLE_INTERVAL_MS) {
+                double err = averagePing - state[SRTT];
+                state[SRTT] += ALPHA * err;
+                state[RTTVAR] += BETA * (Math.abs(err) - state[RTTVAR]);
+                state[LAST_SAMPLE_MS] = nowMs;
+            }
+        }
+        if (state[LAST_SAMPLE_MS] == 0) {
+            return averagePing * pingMultiplier;
+        }
+        return state[SRTT] * pingMultiplier + varianceMultiplier * state[RTTVAR];
+    }
+}
@@ -13,7 +13,7 @@ import org.objectweb.asm.Opcodes;
  *   throw new IllegalArgumentException("Duplicate block components at: " + position);
  *
  * The transformed code logs a warning and returns:
- *   System.out.println("[HyFixes-Early] WARNING: Duplicate block components, ignoring");
+ *   hyfixes$event(...);  // EarlyEventSink: "[HyFixes-Early] WARNING: Duplicate block components, ignoring"
  *   return;
  *
  * We detect the pattern by watching for:
@@ -86,9 +86,7 @@ public class AddEntityReferenceMethodVisitor extends MethodVisitor {
             target.visitInsn(Opcodes.POP); // Remove the exception from stack
 
             // Log warning
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] WARNING: Duplicate block component detected - ignoring (teleporter fix)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.DUPLICATE_BLOCK_COMPONENT);
 
             // Return instead of throwing (method returns void)
             target.visitInsn(Opcodes.RETURN);
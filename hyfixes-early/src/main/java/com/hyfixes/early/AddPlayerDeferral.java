@@ -0,0 +1,125 @@
+package com.hyfixes.early;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Defers World.addPlayer() while the player is still being drained from their old world (Issue #7).
+ *
+ * Called by the transformed World.addPlayer() in place of throwing
+ * "Player is already in a world". Instead of parking the calling thread until the
+ * drain finishes, the add is retried on the target world's executor every
+ * {@code delayMs} until the player's reference clears or {@code maxWaitMs} passes.
+ * The caller gets a future right away; it completes with addPlayer()'s own result,
+ * or exceptionally with the original IllegalStateException once the deadline passes.
+ *
+ * Retries only ever run on the world's own thread. If the world is not an Executor, or
+ * World/PlayerRef cannot be resolved, the transformed method falls back to the blocking
+ * retry loop. Progress goes to {@link EarlyEventSink} with the same events that loop raises.
+ *
+ * Called from server code, so this class must only depend on the JDK.
+ */
+public final class AddPlayerDeferral {
+
+    private static final MethodType ADD_PLAYER_TYPE = MethodType.methodType(
+        Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
+
+    // World.addPlayer(PlayerRef, Transform, Boolean, Boolean) per World class
+    private static final ClassValue<MethodHandle> addPlayerMethods = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            for (Method method : type.getMethods()) {
+                if (method.getName().equals("addPlayer") && method.getParameterCount() == 4
+                        && CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+                    try {
+                        return MethodHandles.publicLookup().unreflect(method).asType(ADD_PLAYER_TYPE);
+                    } catch (IllegalAccessException e) {
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }
+    };
+
+    // PlayerRef.getReference() per PlayerRef class
+    private static final ClassValue<MethodHandle> referenceGetters = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup().unreflect(type.getMethod("getReference"))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
+
+    private AddPlayerDeferral() {
+    }
+
+    /**
+     * Called by transformed World.addPlayer() when playerRef.getReference() is still set.
+     *
+     * @return a future for the deferred add - never null
+     * @throws IllegalStateException if the world is not an Executor or World/PlayerRef cannot
+     *         be resolved; the caller then falls back to its blocking retry loop
+     */
+    public static CompletableFuture<Object> deferAddPlayer(Object world, Object playerRef, Object transform,
+                                                           Object arg3, Object arg4, long delayMs, long maxWaitMs) {
+        MethodHandle addPlayer = addPlayerMethods.get(world.getClass());
+        MethodHandle getReference = referenceGetters.get(playerRef.getClass());
+        if (addPlayer == null || getReference == null) {
+            throw new IllegalStateException("addPlayer/getReference not resolvable");
+        }
+        // addPlayer() must run on the world thread - never on the delayed executor's own thread
+        if (!(world instanceof Executor worldExecutor)) {
+            throw new IllegalStateException("World is not an Executor");
+        }
+
+        EarlyEventSink.record(EarlyEventSink.ADD_PLAYER_WAITING, 0);
+
+        Executor retryExecutor = CompletableFuture.delayedExecutor(Math.max(1, delayMs), TimeUnit.MILLISECONDS, worldExecutor);
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        retryExecutor.execute(() -> attempt(result, retryExecutor, deadline, addPlayer, getReference,
+            world, playerRef, transform, arg3, arg4, maxWaitMs));
+        return result;
+    }
+
+    private static void attempt(CompletableFuture<Object> result, Executor retryExecutor, long deadline,
+                                MethodHandle addPlayer, MethodHandle getReference,
+                                Object world, Object playerRef, Object transform, Object arg3, Object arg4,
+                                long maxWaitMs) {
+        try {
+            if (getReference.invokeExact(playerRef) != null) {
+                if (System.nanoTime() - deadline < 0) {
+                    retryExecutor.execute(() -> attempt(result, retryExecutor, deadline, addPlayer, getReference,
+                        world, playerRef, transform, arg3, arg4, maxWaitMs));
+                    return;
+                }
+                EarlyEventSink.record(EarlyEventSink.ADD_PLAYER_RETRY_FAILED, maxWaitMs);
+                result.completeExceptionally(new IllegalStateException("Player is already in a world"));
+                return;
+            }
+
+            EarlyEventSink.record(EarlyEventSink.ADD_PLAYER_RESOLVED, 0);
+            Object future = addPlayer.invokeExact(world, playerRef, transform, arg3, arg4);
+            ((CompletableFuture<?>) future).whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -32,53 +28,37 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/20">GitHub Issue #20</a>
  */
-public class ArchetypeChunkTransformer implements ClassTransformer {
+public class ArchetypeChunkTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.component.ArchetypeChunk";
 
     @Override
-    public int priority() {
-        // High priority - core ECS component
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the ArchetypeChunk class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("archetypeChunk")) {
-            info("ArchetypeChunkTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "archetypeChunk";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming ArchetypeChunk class...");
         verbose("Fixing getComponent() IndexOutOfBoundsException (Issue #20)");
         verbose("Fixing copySerializableEntity() IndexOutOfBoundsException (Issue #29)");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new ArchetypeChunkVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("ArchetypeChunk transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new ArchetypeChunkVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform ArchetypeChunk!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("ArchetypeChunk transformation COMPLETE!");
+        return true;
     }
 }
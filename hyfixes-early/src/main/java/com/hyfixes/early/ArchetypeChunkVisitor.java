@@ -1,15 +1,20 @@
 package com.hyfixes.early;
 
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Label;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.hyfixes.early.EarlyLogger.*;
 
 /**
  * ASM ClassVisitor that transforms ArchetypeChunk.getComponent()
- * to handle IndexOutOfBoundsException gracefully.
+ * to handle stale entity indexes gracefully.
  *
  * The bug occurs when:
  * 1. Entity references become stale (entity removed from chunk)
@@ -17,59 +22,194 @@ import static com.hyfixes.early.EarlyLogger.*;
  * 3. getComponent() throws IndexOutOfBoundsException
  *
  * The fix:
- * Wrap the method body in a try-catch for IndexOutOfBoundsException
- * and return null instead of crashing.
+ * getComponent() is one of the hottest methods in the ECS, and NPC-heavy worlds hit the
+ * stale case constantly, so it is handled without an exception: an explicit
+ * {@code index < 0 || index >= size()} check at method entry returns null. The body is
+ * still wrapped in a try-catch for IndexOutOfBoundsException as a fallback (e.g. a
+ * component array shorter than the chunk size).
+ *
+ * Stale accesses are counted in a LongAdder injected as the public static field
+ * {@value #STALE_COUNTER_FIELD} instead of printing a line per hit.
+ *
+ * The size source (size() method or entitiesSize field) may be declared after
+ * getComponent(), so getComponent() is buffered and emitted from visitEnd().
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/20">GitHub Issue #20</a>
  */
 public class ArchetypeChunkVisitor extends ClassVisitor {
 
+    static final String STALE_COUNTER_FIELD = "hyfixes$staleComponentAccesses";
+    private static final String LONG_ADDER = "java/util/concurrent/atomic/LongAdder";
+
+    private String className;
+    private boolean hasSizeMethod = false;
+    private boolean hasSizeField = false;
+    private boolean sawClinit = false;
+
+    // getComponent() bodies waiting for visitEnd(), with the writer's visitor for each
+    private final List<MethodNode> pendingNodes = new ArrayList<>();
+    private final List<MethodVisitor> pendingTargets = new ArrayList<>();
+
     public ArchetypeChunkVisitor(ClassVisitor cv) {
         super(Opcodes.ASM9, cv);
     }
 
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        if (name.equals("entitiesSize") && descriptor.equals("I")) {
+            hasSizeField = true;
+        }
+        return super.visitField(access, name, descriptor, signature, value);
+    }
+
     @Override
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
         MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
 
+        if (name.equals("size") && descriptor.equals("()I")) {
+            hasSizeMethod = true;
+        }
+
+        if (name.equals("<clinit>")) {
+            sawClinit = true;
+            return new StaticInitVisitor(mv, className);
+        }
+
         // Target: getComponent methods that return Component
         if (name.equals("getComponent") && descriptor.contains("Lcom/hypixel/hytale/component/Component;")) {
             verbose("Found getComponent method: " + descriptor);
+            if (descriptor.startsWith("(I") && (access & Opcodes.ACC_STATIC) == 0) {
+                MethodNode node = new MethodNode(Opcodes.ASM9, access, name, descriptor, signature, exceptions);
+                pendingNodes.add(node);
+                pendingTargets.add(mv);
+                return node;
+            }
             verbose("Wrapping with IndexOutOfBoundsException handler");
-            return new GetComponentMethodVisitor(mv, access, descriptor);
+            return new GetComponentMethodVisitor(mv, className, null);
         }
 
         // Also target: copySerializableEntity method
         if (name.equals("copySerializableEntity")) {
             verbose("Found copySerializableEntity method: " + descriptor);
             verbose("Wrapping with IndexOutOfBoundsException handler");
-            return new CopySerializableEntityMethodVisitor(mv, access, descriptor);
+            return new CopySerializableEntityMethodVisitor(mv, className, descriptor);
         }
 
         return mv;
     }
 
+    @Override
+    public void visitEnd() {
+        String sizeSource = hasSizeMethod ? "size()" : hasSizeField ? "entitiesSize" : null;
+        for (int i = 0; i < pendingNodes.size(); i++) {
+            if (sizeSource != null) {
+                verbose("Adding index bounds check against " + sizeSource + " to getComponent()");
+            } else {
+                verbose("No size() or entitiesSize in ArchetypeChunk - IndexOutOfBoundsException handler only");
+            }
+            pendingNodes.get(i).accept(new GetComponentMethodVisitor(pendingTargets.get(i), className, sizeSource));
+        }
+
+        FieldVisitor fv = super.visitField(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC,
+            STALE_COUNTER_FIELD, "L" + LONG_ADDER + ";", null, null);
+        if (fv != null) {
+            fv.visitEnd();
+        }
+
+        if (!sawClinit) {
+            MethodVisitor clinit = super.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+            clinit.visitCode();
+            emitCounterInit(clinit, className);
+            clinit.visitInsn(Opcodes.RETURN);
+            clinit.visitMaxs(2, 0);
+            clinit.visitEnd();
+        }
+
+        super.visitEnd();
+    }
+
+    private static void emitCounterInit(MethodVisitor mv, String owner) {
+        mv.visitTypeInsn(Opcodes.NEW, LONG_ADDER);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, LONG_ADDER, "<init>", "()V", false);
+        mv.visitFieldInsn(Opcodes.PUTSTATIC, owner, STALE_COUNTER_FIELD, "L" + LONG_ADDER + ";");
+    }
+
+    private static void emitCountStale(MethodVisitor mv, String owner) {
+        mv.visitFieldInsn(Opcodes.GETSTATIC, owner, STALE_COUNTER_FIELD, "L" + LONG_ADDER + ";");
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, LONG_ADDER, "increment", "()V", false);
+    }
+
+    /**
+     * Initializes the stale access counter at the start of an existing static initializer.
+     */
+    private static class StaticInitVisitor extends MethodVisitor {
+
+        private final String owner;
+
+        StaticInitVisitor(MethodVisitor mv, String owner) {
+            super(Opcodes.ASM9, mv);
+            this.owner = owner;
+        }
+
+        @Override
+        public void visitCode() {
+            super.visitCode();
+            emitCounterInit(mv, owner);
+        }
+    }
+
     /**
-     * Wraps getComponent() in a try-catch for IndexOutOfBoundsException.
+     * Adds the entry bounds check to getComponent() and wraps the body in a
+     * try-catch for IndexOutOfBoundsException. Both paths count and return null.
      */
     private static class GetComponentMethodVisitor extends MethodVisitor {
 
-        private final MethodVisitor target;
+        private final String owner;
+        private final String sizeSource;  // "size()", "entitiesSize" or null for catch-only
         private final Label tryStart = new Label();
         private final Label tryEnd = new Label();
         private final Label catchHandler = new Label();
-        private final Label methodEnd = new Label();
         private boolean started = false;
 
-        public GetComponentMethodVisitor(MethodVisitor mv, int access, String descriptor) {
+        public GetComponentMethodVisitor(MethodVisitor mv, String owner, String sizeSource) {
             super(Opcodes.ASM9, mv);
-            this.target = mv;
+            this.owner = owner;
+            this.sizeSource = sizeSource;
         }
 
         @Override
         public void visitCode() {
             super.visitCode();
 
+            if (sizeSource != null) {
+                // if (index < 0 || index >= size) { staleAccesses.increment(); return null; }
+                Label stale = new Label();
+                Label inBounds = new Label();
+                mv.visitVarInsn(Opcodes.ILOAD, 1);
+                mv.visitJumpInsn(Opcodes.IFLT, stale);
+                mv.visitVarInsn(Opcodes.ILOAD, 1);
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                if (sizeSource.equals("size()")) {
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, "size", "()I", false);
+                } else {
+                    mv.visitFieldInsn(Opcodes.GETFIELD, owner, sizeSource, "I");
+                }
+                mv.visitJumpInsn(Opcodes.IF_ICMPLT, inBounds);
+                mv.visitLabel(stale);
+                emitCountStale(mv, owner);
+                mv.visitInsn(Opcodes.ACONST_NULL);
+                mv.visitInsn(Opcodes.ARETURN);
+                mv.visitLabel(inBounds);
+            }
+
             // Start try block
             mv.visitLabel(tryStart);
             started = true;
@@ -83,15 +223,10 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
                 mv.visitLabel(tryEnd);
                 super.visitInsn(opcode);
 
-                // Add catch handler
+                // Add catch handler: count and return null
                 mv.visitLabel(catchHandler);
-
-                // Log warning
-                mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-                mv.visitLdcInsn("[HyFixes-Early] WARNING: getComponent() IndexOutOfBounds - returning null (stale entity ref)");
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
-
-                // Return null
+                mv.visitInsn(Opcodes.POP);
+                emitCountStale(mv, owner);
                 mv.visitInsn(Opcodes.ACONST_NULL);
                 mv.visitInsn(Opcodes.ARETURN);
 
@@ -106,7 +241,7 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
             // Register the try-catch block
             mv.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/IndexOutOfBoundsException");
 
-            // Need extra stack space for exception handling
+            // Need extra stack space for the bounds check and exception handling
             super.visitMaxs(Math.max(maxStack, 2), maxLocals);
         }
     }
@@ -118,6 +253,7 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
     private static class CopySerializableEntityMethodVisitor extends MethodVisitor {
 
         private final MethodVisitor target;
+        private final String owner;
         private final String descriptor;
         private final Label tryStart = new Label();
         private final Label tryEnd = new Label();
@@ -125,9 +261,10 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
         private boolean started = false;
         private boolean handlerAdded = false;
 
-        public CopySerializableEntityMethodVisitor(MethodVisitor mv, int access, String descriptor) {
+        public CopySerializableEntityMethodVisitor(MethodVisitor mv, String owner, String descriptor) {
             super(Opcodes.ASM9, mv);
             this.target = mv;
+            this.owner = owner;
             this.descriptor = descriptor;
         }
 
@@ -151,10 +288,8 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
                 // Add catch handler
                 mv.visitLabel(catchHandler);
 
-                // Log warning
-                mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-                mv.visitLdcInsn("[HyFixes-Early] WARNING: copySerializableEntity() IndexOutOfBounds - skipping (stale entity ref)");
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+                // Record warning
+                EarlyEvents.emit(mv, owner, EarlyEventSink.COPY_SERIALIZABLE_STALE);
 
                 // Return appropriate default value based on return type
                 emitDefaultReturn(opcode);
@@ -19,7 +19,7 @@ import org.objectweb.asm.Opcodes;
  * The transformed code adds a null check:
  *   BeaconSpawnController spawnController = legacySpawnBeaconEntity.getSpawnController();
  *   if (spawnController == null) {
- *       System.out.println("[HyFixes-Early] null spawnController, despawning NPC");
+ *       hyfixes$event(...);  // EarlyEventSink: "[HyFixes-Early] null spawnController, despawning NPC"
  *       npcEntity.setToDespawn();
  *       return;
  *   }
@@ -88,7 +88,7 @@ public class BeaconAddRemoveMethodVisitor extends MethodVisitor {
 
             // Generate null check:
             // if (spawnController == null) {
-            //     System.out.println("[HyFixes-Early] WARNING: null spawnController...");
+            //     hyfixes$event(NULL_SPAWN_CONTROLLER);
             //     npcEntity.setToDespawn();
             //     return;
             // }
@@ -100,9 +100,7 @@ public class BeaconAddRemoveMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNONNULL, continueLabel);
 
             // spawnController is null - log warning
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] WARNING: null spawnController in BeaconAddRemoveSystem - despawning NPC (missing beacon type?)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.NULL_SPAWN_CONTROLLER);
 
             // Despawn the NPC (same as what happens when hasSlots() returns false)
             target.visitVarInsn(Opcodes.ALOAD, npcEntityLocalVar);
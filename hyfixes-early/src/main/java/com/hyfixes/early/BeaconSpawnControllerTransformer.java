@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -27,50 +23,36 @@ import static com.hyfixes.early.EarlyLogger.*;
  * Transform createRandomSpawnJob() to add a null check at the method entry.
  * If spawn is null, log a warning and return null instead of crashing.
  */
-public class BeaconSpawnControllerTransformer implements ClassTransformer {
+public class BeaconSpawnControllerTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("beaconSpawnController")) {
-            info("BeaconSpawnControllerTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "beaconSpawnController";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming BeaconSpawnController...");
         verbose("Fixing null spawn crash in createRandomSpawnJob()");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new BeaconSpawnControllerVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("BeaconSpawnController transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new BeaconSpawnControllerVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform BeaconSpawnController!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("BeaconSpawnController transformation COMPLETE!");
+        return true;
     }
 }
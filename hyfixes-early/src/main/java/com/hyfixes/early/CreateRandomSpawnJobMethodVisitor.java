@@ -88,9 +88,7 @@ public class CreateRandomSpawnJobMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNONNULL, continueLabel);
 
             // spawn is null - log warning
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] WARNING: null spawn from getRandomSpawn() - returning null (missing spawn config in beacon?)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.NULL_RANDOM_SPAWN);
 
             // Return null instead of crashing
             target.visitInsn(Opcodes.ACONST_NULL);
@@ -0,0 +1,243 @@
+package com.hyfixes.early;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log sink for events raised by HyFixes bytecode fixes while the server is running.
+ *
+ * Injected code used to call System.out.println directly from world threads. PrintStream
+ * is synchronized and unbuffered, so a log storm (e.g. thousands of duplicate block
+ * components after a teleporter paste) had every world thread queueing on stdout.
+ *
+ * Injected code now only calls {@link #record(int, long)} (through the per-class bridge
+ * added by {@link EarlyEvents}), which claims a slot in a lock-free ring buffer and
+ * stores the fix id and one primitive argument - no locks, no allocation, no formatting.
+ * A daemon thread drains the ring every {@value #FLUSH_INTERVAL_MS}ms, folds repeated
+ * events together and prints each fix at most once per {@value #REPORT_INTERVAL_MS}ms
+ * with a repeat count. Every event is also counted in {@link EarlyFixCounters}; fixes
+ * without a message are only counted.
+ *
+ * Not every event is a failure the fix prevented - some only report progress (a normal
+ * BlockCounter decrement, the first half of the addPlayer retry). {@link #isPreventedFailure}
+ * tells the two apart so the runtime plugin only adds real saves to its crash totals.
+ *
+ * This class is loaded by the server's class loader from transformed code, so it must
+ * only depend on the JDK.
+ */
+public final class EarlyEventSink {
+
+    // Fix ids - index into MESSAGES
+    public static final int DUPLICATE_BLOCK_COMPONENT = 0;
+    public static final int COPY_SERIALIZABLE_STALE = 1;
+    public static final int NULL_SPAWN_CONTROLLER = 2;
+    public static final int NULL_RANDOM_SPAWN = 3;
+    public static final int NULL_MARKER_NPC_REFERENCES = 4;
+    public static final int INTERACTION_REMOVE_OUT_OF_ORDER = 5;
+    public static final int PLAYER_REMOVE_FALLBACK = 6;
+    public static final int PLAYER_REMOVE_CHUNK_TRACKER_CLEARED = 7;
+    public static final int PLAYER_REMOVE_FALLBACK_FAILED = 8;
+    public static final int SPAWN_NPC_MISSING_REFERENCES = 9;
+    public static final int THREAD_STOP_INTERRUPT = 10;
+    public static final int BLOCK_COUNTER_DECREMENTED = 11;
+    public static final int TRACKED_PLACEMENT_NULL = 12;
+    public static final int TRACKED_PLACEMENT_NO_BLOCK_NAME = 13;
+    public static final int UUID_COMPONENT_NULL = 14;
+    public static final int MAP_UNLOAD_ITERATOR_CORRUPTION = 15;
+    public static final int ADD_PLAYER_WAITING = 16;
+    public static final int ADD_PLAYER_RETRY_FAILED = 17;
+    public static final int ADD_PLAYER_RESOLVED = 18;
+    public static final int SYNC_BUFFER_EXPANDED = 19;
+    public static final int SERVER_TICK_TIMEOUT_RECOVERED = 20;
+
+    // %d is replaced with the event argument; null = count-only (see EarlyFixCounters)
+    private static final String[] MESSAGES = {
+        "WARNING: Duplicate block component detected - ignoring (teleporter fix)",
+        "WARNING: copySerializableEntity() IndexOutOfBounds - skipping (stale entity ref)",
+        "WARNING: null spawnController in BeaconAddRemoveSystem - despawning NPC (missing beacon type?)",
+        "WARNING: null spawn from getRandomSpawn() - returning null (missing spawn config in beacon?)",
+        "Skipping null npcReferences in onEntityRemove() - spawn marker had no NPC refs",
+        "WARNING: Suppressed out-of-order removal in InteractionChain (Issue #40)",
+        "Player ref invalid during removal - performing fallback cleanup",
+        "ChunkTracker cleared - memory leak prevented",
+        "Fallback cleanup failed - memory may leak",
+        "Creating missing npcReferences array in spawnNPC (storedFlock was null)",
+        "Thread.stop() not supported on Java 21+, using interrupt() instead",
+        "BlockCounter decremented for tracked placement",
+        "WARNING: TrackedPlacement component was null on entity remove - BlockCounter not decremented",
+        "WARNING: TrackedPlacement.blockName was null/empty on entity remove - BlockCounter not decremented",
+        "Warning: uuidComponent is null during entity removal - skipping UUID cleanup",
+        "WARNING: Iterator corruption in WorldMapTracker.unloadImages() - recovered gracefully (Issue #16)",
+        "Player reference not null - waiting for drain (race condition handling)",
+        "Retry FAILED - player still in world after %dms, throwing exception",
+        "Race condition RESOLVED - player reference cleared during retry wait",
+        null,
+        null,
+    };
+
+    // true = the event means a crash/failure was prevented, false = informational; aligned with MESSAGES
+    private static final boolean[] PREVENTS_FAILURE = {
+        true,   // DUPLICATE_BLOCK_COMPONENT
+        true,   // COPY_SERIALIZABLE_STALE
+        true,   // NULL_SPAWN_CONTROLLER
+        true,   // NULL_RANDOM_SPAWN
+        true,   // NULL_MARKER_NPC_REFERENCES
+        true,   // INTERACTION_REMOVE_OUT_OF_ORDER
+        true,   // PLAYER_REMOVE_FALLBACK
+        false,  // PLAYER_REMOVE_CHUNK_TRACKER_CLEARED - part of the fallback above
+        false,  // PLAYER_REMOVE_FALLBACK_FAILED
+        true,   // SPAWN_NPC_MISSING_REFERENCES
+        true,   // THREAD_STOP_INTERRUPT
+        false,  // BLOCK_COUNTER_DECREMENTED - every normal removal
+        true,   // TRACKED_PLACEMENT_NULL
+        true,   // TRACKED_PLACEMENT_NO_BLOCK_NAME
+        true,   // UUID_COMPONENT_NULL
+        true,   // MAP_UNLOAD_ITERATOR_CORRUPTION
+        false,  // ADD_PLAYER_WAITING - the race is counted once, when RESOLVED
+        false,  // ADD_PLAYER_RETRY_FAILED
+        true,   // ADD_PLAYER_RESOLVED
+        false,  // SYNC_BUFFER_EXPANDED - normal handling of out-of-order sync data, not a crash
+        true,   // SERVER_TICK_TIMEOUT_RECOVERED
+    };
+
+    public static final int FIX_COUNT = MESSAGES.length;
+
+    private static final String PREFIX = "[HyFixes-Early] ";
+    private static final int CAPACITY = 8192; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long FLUSH_INTERVAL_MS = 250;
+    private static final long REPORT_INTERVAL_MS = 10_000;
+
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Ring buffer: slot i holds the event with sequence published[i] - 1
+    private static final int[] ids = new int[CAPACITY];
+    private static final long[] args = new long[CAPACITY];
+    private static final long[] published = new long[CAPACITY];
+    private static final AtomicLong writeSequence = new AtomicLong();
+
+    // Consumer state - only touched by the drainer and the shutdown flush, under CONSUMER_LOCK
+    private static final Object CONSUMER_LOCK = new Object();
+    private static long readSequence = 0;
+    private static long dropped = 0;
+    private static final long[] pendingCounts = new long[FIX_COUNT];
+    private static final long[] pendingArgs = new long[FIX_COUNT];
+    private static final long[] lastReportNanos = new long[FIX_COUNT];
+    private static final boolean[] reported = new boolean[FIX_COUNT];
+
+    static {
+        Thread drainer = new Thread(EarlyEventSink::drainLoop, "HyFixes-Early-Events");
+        drainer.setDaemon(true);
+        drainer.start();
+
+        // Print whatever is still folded in the rate-limit window on shutdown
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(true), "HyFixes-Early-Events-Flush"));
+    }
+
+    private EarlyEventSink() {
+    }
+
+    /**
+     * Whether an event of this fix means a failure was prevented (false = informational only).
+     */
+    public static boolean isPreventedFailure(int fixId) {
+        return fixId >= 0 && fixId < PREVENTS_FAILURE.length && PREVENTS_FAILURE[fixId];
+    }
+
+    /**
+     * Record a fix event. Called from transformed server code on game threads.
+     */
+    public static void record(int fixId, long arg) {
+        if (fixId < 0 || fixId >= FIX_COUNT) {
+            return;
+        }
+        EarlyFixCounters.increment(fixId);
+        if (MESSAGES[fixId] == null) {
+            return;
+        }
+        long sequence = writeSequence.getAndIncrement();
+        int slot = (int) (sequence & MASK);
+        // Seqlock write: invalidate the slot before touching its payload, so a drainer
+        // still reading the previous lap's event sees the stamp change and drops it
+        PUBLISHED.setOpaque(published, slot, -1L);
+        VarHandle.storeStoreFence();
+        ids[slot] = fixId;
+        args[slot] = arg;
+        PUBLISHED.setRelease(published, slot, sequence + 1);
+    }
+
+    private static void drainLoop() {
+        while (true) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MS));
+            flush(false);
+        }
+    }
+
+    private static void flush(boolean force) {
+        synchronized (CONSUMER_LOCK) {
+            try {
+                drain();
+                report(force);
+            } catch (Throwable t) {
+                // Never let logging kill the drainer
+            }
+        }
+    }
+
+    private static void drain() {
+        long limit = writeSequence.get();
+        if (limit - readSequence > CAPACITY) {
+            // Writers lapped us - those events are gone
+            dropped += limit - CAPACITY - readSequence;
+            readSequence = limit - CAPACITY;
+        }
+        while (readSequence < limit) {
+            int slot = (int) (readSequence & MASK);
+            long stamp = (long) PUBLISHED.getAcquire(published, slot);
+            if (stamp < readSequence + 1) {
+                // Claimed but not yet published (-1 while being written) - pick it up next flush
+                return;
+            }
+            int fixId = ids[slot];
+            long arg = args[slot];
+            // Keep the payload reads above the re-check
+            VarHandle.loadLoadFence();
+            if (stamp != readSequence + 1 || (long) PUBLISHED.getAcquire(published, slot) != stamp) {
+                // Overwritten by a later lap while we read it
+                dropped++;
+            } else {
+                pendingCounts[fixId]++;
+                pendingArgs[fixId] = arg;
+            }
+            readSequence++;
+        }
+    }
+
+    private static void report(boolean force) {
+        long now = System.nanoTime();
+        for (int fixId = 0; fixId < FIX_COUNT; fixId++) {
+            long count = pendingCounts[fixId];
+            if (count == 0) {
+                continue;
+            }
+            if (!force && reported[fixId] && now - lastReportNanos[fixId] < TimeUnit.MILLISECONDS.toNanos(REPORT_INTERVAL_MS)) {
+                continue; // keep folding until the window passes
+            }
+            String message = MESSAGES[fixId].replace("%d", Long.toString(pendingArgs[fixId]));
+            if (count > 1) {
+                message += " (x" + count + ")";
+            }
+            System.out.println(PREFIX + message);
+            pendingCounts[fixId] = 0;
+            lastReportNanos[fixId] = now;
+            reported[fixId] = true;
+        }
+        if (dropped > 0) {
+            System.out.println(PREFIX + "Event log overflowed - " + dropped + " event(s) not reported");
+            dropped = 0;
+        }
+    }
+}
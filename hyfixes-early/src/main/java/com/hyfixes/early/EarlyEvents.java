@@ -0,0 +1,112 @@
+package com.hyfixes.early;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Emits calls from transformed code to {@link EarlyEventSink}.
+ *
+ * Injected code never references the sink directly. Every transformed class gets a
+ * private static bridge method:
+ *
+ *   private static synthetic void hyfixes$event(int fixId, long arg) {
+ *       try { EarlyEventSink.record(fixId, arg); } catch (Throwable t) { }
+ *   }
+ *
+ * so a call site is just two constants and an INVOKESTATIC. It works whatever is on the
+ * operand stack (unlike an inline try/catch), and if the sink is not visible to the
+ * server's class loader the event is dropped instead of failing the fixed method.
+ *
+ * The bridge is added by {@link BridgeVisitor}, which HyFixesTransformerHub puts at the
+ * end of every visitor chain, so it exists exactly once per class however many patches ran.
+ */
+public final class EarlyEvents {
+
+    static final String BRIDGE_NAME = "hyfixes$event";
+    static final String BRIDGE_DESC = "(IJ)V";
+    private static final String SINK_CLASS = "com/hyfixes/early/EarlyEventSink";
+
+    private EarlyEvents() {
+    }
+
+    /**
+     * Emit: hyfixes$event(fixId, 0L)
+     */
+    public static void emit(MethodVisitor mv, String owner, int fixId) {
+        mv.visitLdcInsn(fixId);
+        mv.visitInsn(Opcodes.LCONST_0);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, owner, BRIDGE_NAME, BRIDGE_DESC, false);
+    }
+
+    /**
+     * Emit: hyfixes$event(fixId, arg)
+     */
+    public static void emit(MethodVisitor mv, String owner, int fixId, long arg) {
+        mv.visitLdcInsn(fixId);
+        mv.visitLdcInsn(arg);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, owner, BRIDGE_NAME, BRIDGE_DESC, false);
+    }
+
+    /**
+     * Emit: hyfixes$event(fixId, (long) intLocal)
+     */
+    public static void emitIntLocal(MethodVisitor mv, String owner, int fixId, int intLocal) {
+        mv.visitLdcInsn(fixId);
+        mv.visitVarInsn(Opcodes.ILOAD, intLocal);
+        mv.visitInsn(Opcodes.I2L);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, owner, BRIDGE_NAME, BRIDGE_DESC, false);
+    }
+
+    /**
+     * Adds the hyfixes$event bridge method to the class being written.
+     */
+    public static class BridgeVisitor extends ClassVisitor {
+
+        private String owner;
+        private boolean isInterface;
+
+        public BridgeVisitor(ClassVisitor cv) {
+            super(Opcodes.ASM9, cv);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.owner = name;
+            this.isInterface = (access & Opcodes.ACC_INTERFACE) != 0;
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public void visitEnd() {
+            if (!isInterface) {
+                addBridge();
+            }
+            super.visitEnd();
+        }
+
+        private void addBridge() {
+            MethodVisitor mv = super.visitMethod(
+                Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_SYNTHETIC,
+                BRIDGE_NAME, BRIDGE_DESC, null, null);
+            Label tryStart = new Label();
+            Label tryEnd = new Label();
+            Label catchHandler = new Label();
+
+            mv.visitCode();
+            mv.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/Throwable");
+            mv.visitLabel(tryStart);
+            mv.visitVarInsn(Opcodes.ILOAD, 0);
+            mv.visitVarInsn(Opcodes.LLOAD, 1);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, SINK_CLASS, "record", "(IJ)V", false);
+            mv.visitLabel(tryEnd);
+            mv.visitInsn(Opcodes.RETURN);
+            mv.visitLabel(catchHandler);
+            mv.visitInsn(Opcodes.POP);
+            mv.visitInsn(Opcodes.RETURN);
+            mv.visitMaxs(3, 3);
+            mv.visitEnd();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.hyfixes.early;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Per-fix counters for the bytecode fixes, indexed by the fix ids in {@link EarlyEventSink}.
+ *
+ * Every event recorded by transformed code is counted here before it goes to the log
+ * ring, so the count stays exact even when the log line is rate-limited or the ring
+ * overflows. Some fixes (e.g. sync buffer expansion) are count-only and never log.
+ *
+ * Each counter sits on its own 64-byte cache line so world threads hitting different
+ * fixes do not contend, and is bumped with a single VarHandle getAndAdd.
+ *
+ * The runtime plugin cannot link against this class (it lives in the early plugin,
+ * loaded by the server's class loader), so it reads {@link #snapshot()} reflectively -
+ * see com.hyfixes.util.EarlyFixStats. Like EarlyEventSink, this class must only depend
+ * on the JDK.
+ */
+public final class EarlyFixCounters {
+
+    // 8 longs = one cache line per counter
+    private static final int STRIDE = 8;
+
+    private static final VarHandle COUNT = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final long[] counts = new long[EarlyEventSink.FIX_COUNT * STRIDE];
+
+    private EarlyFixCounters() {
+    }
+
+    /**
+     * Count one occurrence of a fix. Called from EarlyEventSink.record().
+     */
+    static void increment(int fixId) {
+        COUNT.getAndAdd(counts, fixId * STRIDE, 1L);
+    }
+
+    /**
+     * Copy of all counters, indexed by fix id. Lock-free; each value is read with
+     * opaque semantics, so the snapshot is not atomic across fixes.
+     */
+    public static long[] snapshot() {
+        long[] snapshot = new long[EarlyEventSink.FIX_COUNT];
+        for (int fixId = 0; fixId < snapshot.length; fixId++) {
+            snapshot[fixId] = (long) COUNT.getOpaque(counts, fixId * STRIDE);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,141 @@
+package com.hyfixes.early;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ClassWriter used by HyFixesTransformerHub.
+ *
+ * Frames only have to be recomputed for the methods a patch rewrites: the writer shares
+ * the reader's constant pool, and every method a patch passes through untouched is copied
+ * byte-for-byte, frames included. For the rewritten ones, ASM's default
+ * getCommonSuperClass() calls Class.forName() on both types, which during early boot
+ * loads (and initializes) server classes from inside another class's transform - in the
+ * worst case the very class being transformed.
+ *
+ * This writer answers getCommonSuperClass() from class file headers instead: the super
+ * class and interface flag are read from the .class resource with a ClassReader, without
+ * defining anything, and cached for the life of the hub. Only when a type's class file
+ * cannot be found does it fall back to ASM's class-loading lookup.
+ */
+public class HierarchyClassWriter extends ClassWriter {
+
+    private static final String OBJECT = "java/lang/Object";
+
+    // internal name -> super name ("" for java/lang/Object), or MISSING
+    private static final Map<String, String> SUPER_NAMES = new ConcurrentHashMap<>();
+    private static final Set<String> INTERFACES = ConcurrentHashMap.newKeySet();
+    private static final String MISSING = "?";
+
+    private static final AtomicInteger resolved = new AtomicInteger();
+    private static final AtomicInteger fallbacks = new AtomicInteger();
+
+    public HierarchyClassWriter(ClassReader classReader, int flags) {
+        super(classReader, flags);
+    }
+
+    @Override
+    protected String getCommonSuperClass(String type1, String type2) {
+        String common = commonSuperClass(type1, type2);
+        if (common != null) {
+            resolved.incrementAndGet();
+            return common;
+        }
+        fallbacks.incrementAndGet();
+        return super.getCommonSuperClass(type1, type2);
+    }
+
+    /**
+     * Lookup statistics for verbose logging.
+     */
+    public static String getStats() {
+        return resolved.get() + " common superclass lookup(s) from class files, "
+                + fallbacks.get() + " via class loading";
+    }
+
+    private String commonSuperClass(String type1, String type2) {
+        if (type1.equals(type2)) {
+            return type1;
+        }
+        Set<String> ancestors1 = ancestors(type1);
+        Set<String> ancestors2 = ancestors(type2);
+        if (ancestors1 == null || ancestors2 == null) {
+            return null;
+        }
+        if (INTERFACES.contains(type1) || INTERFACES.contains(type2)) {
+            // The verifier treats interface types as Object, so this is always a valid merge
+            return OBJECT;
+        }
+        // Walk type2 up until it reaches one of type1's superclasses
+        for (String type = type2; type != null; type = superName(type)) {
+            if (ancestors1.contains(type)) {
+                return type;
+            }
+        }
+        return OBJECT;
+    }
+
+    // type and all of its superclasses, or null if any class file is missing
+    private Set<String> ancestors(String type) {
+        Set<String> ancestors = new HashSet<>();
+        for (String current = type; current != null; ) {
+            String superName = SUPER_NAMES.computeIfAbsent(current, this::readSuperName);
+            if (superName.equals(MISSING)) {
+                return null;
+            }
+            ancestors.add(current);
+            current = superName.isEmpty() ? null : superName;
+        }
+        return ancestors;
+    }
+
+    private String superName(String type) {
+        String superName = SUPER_NAMES.get(type);
+        return superName == null || superName.isEmpty() || superName.equals(MISSING) ? null : superName;
+    }
+
+    private String readSuperName(String type) {
+        if (type.equals(OBJECT)) {
+            return "";
+        }
+        byte[] header = readClassFile(type);
+        if (header == null) {
+            return MISSING;
+        }
+        ClassReader reader = new ClassReader(header);
+        if ((reader.getAccess() & Opcodes.ACC_INTERFACE) != 0) {
+            INTERFACES.add(type);
+        }
+        String superName = reader.getSuperName();
+        return superName == null ? "" : superName;
+    }
+
+    private byte[] readClassFile(String type) {
+        ClassLoader[] loaders = {
+            getClassLoader(),
+            Thread.currentThread().getContextClassLoader(),
+            ClassLoader.getSystemClassLoader()
+        };
+        for (ClassLoader loader : loaders) {
+            if (loader == null) {
+                continue;
+            }
+            try (InputStream in = loader.getResourceAsStream(type + ".class")) {
+                if (in != null) {
+                    return in.readAllBytes();
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,180 @@
+package com.hyfixes.early;
+
+import com.hyfixes.early.config.EarlyConfigManager;
+import com.hypixel.hytale.plugin.early.ClassTransformer;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hyfixes.early.EarlyLogger.*;
+
+/**
+ * HyFixes Early Plugin - Transformer Hub
+ *
+ * The only ClassTransformer HyFixes registers. The early plugin loader hands every
+ * server class to every registered transformer, so with one transformer per fix
+ * each class load went through ~19 string compares (and the hot config lookups)
+ * before being returned untouched.
+ *
+ * The hub instead builds a target-class table once, dropping patches disabled in
+ * config, and answers every other class with a single HashMap miss. A targeted
+ * class is read once and written once with all of its patches chained on the
+ * same ClassReader/ClassWriter pass.
+ *
+ * The writer shares the reader's constant pool, so methods no patch touches are copied
+ * through verbatim; frames are only recomputed for rewritten methods, and input frames
+ * are skipped rather than expanded since they would be discarded anyway. Superclass
+ * merges for those frames are answered from class files by {@link HierarchyClassWriter}
+ * instead of loading server classes mid-transform.
+ *
+ * Results are kept in a {@link TransformCache}, so a restart with the same server jar,
+ * plugin build and config loads the patched classes from disk instead of running ASM.
+ *
+ * With early.verifyTransforms on, the cache is bypassed and every rewritten class is
+ * checked by {@link TransformVerifier} before it is returned.
+ */
+public class HyFixesTransformerHub implements ClassTransformer {
+
+    static final Patch[] PATCHES = {
+        new InteractionChainTransformer(),
+        new InteractionManagerTransformer(),
+        new WorldTransformer(),
+        new SpawnReferenceSystemsTransformer(),
+        new BeaconSpawnControllerTransformer(),
+        new BlockComponentChunkTransformer(),
+        new SpawnMarkerSystemsTransformer(),
+        new SpawnMarkerEntityTransformer(),
+        new TrackedPlacementTransformer(),
+        new CommandBufferTransformer(),
+        new WorldMapTrackerTransformer(),
+        new ArchetypeChunkTransformer(),
+        new PacketHandlerTransformer(),
+        new UUIDSystemTransformer(),
+        new TickingThreadTransformer(),
+        new UniverseTransformer(),
+        new LivingEntityTransformer(),
+        new SetMemoriesCapacityTransformer(),
+    };
+
+    private final Map<String, List<Patch>> patchesByClass = new HashMap<>();
+    private final TransformCache cache;
+    private final boolean verify;
+
+    public HyFixesTransformerHub() {
+        EarlyConfigManager config = EarlyConfigManager.getInstance();
+        for (Patch patch : PATCHES) {
+            if (patch.configKey() != null && !config.isTransformerEnabled(patch.configKey())) {
+                info(patch.getClass().getSimpleName() + " DISABLED by config");
+                continue;
+            }
+            patchesByClass.computeIfAbsent(patch.targetClass(), k -> new ArrayList<>()).add(patch);
+        }
+        for (List<Patch> patches : patchesByClass.values()) {
+            patches.sort(Comparator.comparingInt(Patch::priority).reversed());
+        }
+        verify = TransformVerifier.isEnabled();
+        // Verification must see every patch run, so cached output is not used
+        cache = TransformCache.isEnabled() && !verify ? new TransformCache(config.getConfig()) : null;
+        verbose("Transformer hub ready: " + patchesByClass.size() + " target class(es)" +
+                (cache == null ? ", transform cache disabled" : "") +
+                (verify ? ", verifying transforms" : ""));
+    }
+
+    @Override
+    public int priority() {
+        return 100;
+    }
+
+    @Override
+    public byte[] transform(String className, String packageName, byte[] classBytes) {
+        List<Patch> patches = patchesByClass.get(className);
+        if (patches == null) {
+            return classBytes;
+        }
+
+        byte[] cacheKey = null;
+        if (cache != null) {
+            cacheKey = cache.key(classBytes, patches);
+            byte[] cached = cache.load(className, cacheKey);
+            if (cached != null) {
+                info("Loaded " + className + " from transform cache (" + patches.size() + " patch(es))");
+                return cached;
+            }
+        }
+
+        for (Patch patch : patches) {
+            patch.announce();
+        }
+
+        List<Patch> active = new ArrayList<>(patches);
+        long startNanos = System.nanoTime();
+        try {
+            byte[] transformedBytes = rewrite(className, classBytes, active);
+            if (transformedBytes == null) {
+                if (cache != null) {
+                    cache.store(className, cacheKey, classBytes);
+                }
+                return classBytes;
+            }
+            verbose("Original size: " + classBytes.length + " bytes");
+            verbose("Transformed size: " + transformedBytes.length + " bytes");
+            verbose("Frames: " + HierarchyClassWriter.getStats());
+            if (verify && !TransformVerifier.verify(className, classBytes, transformedBytes,
+                    System.nanoTime() - startNanos)) {
+                return classBytes;
+            }
+            if (cache != null) {
+                cache.store(className, cacheKey, transformedBytes);
+            }
+            return transformedBytes;
+
+        } catch (Exception e) {
+            error("ERROR: Failed to transform " + className + "!");
+            error("Returning original bytecode to prevent crash.", e);
+            return classBytes;
+        }
+    }
+
+    /**
+     * Rewrite a class with the given patches in one ClassReader/ClassWriter pass.
+     *
+     * A patch that reports it did not apply is removed from {@code active} and the class
+     * rewritten without it, so its partial edits never reach the server.
+     *
+     * @return the rewritten class, or null if every patch was rejected
+     */
+    static byte[] rewrite(String className, byte[] classBytes, List<Patch> active) {
+        while (!active.isEmpty()) {
+            ClassReader reader = new ClassReader(classBytes);
+            // COMPUTE_FRAMES implies max stack/locals; untouched methods are copied as-is
+            ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES);
+
+            ClassVisitor[] visitors = new ClassVisitor[active.size()];
+            // Bridge for EarlyEventSink calls - added once per class, after every patch
+            ClassVisitor chain = new EarlyEvents.BridgeVisitor(writer);
+            for (int i = active.size() - 1; i >= 0; i--) {
+                visitors[i] = active.get(i).createVisitor(chain, className);
+                chain = visitors[i];
+            }
+            reader.accept(chain, ClassReader.SKIP_FRAMES);
+
+            List<Patch> rejected = new ArrayList<>();
+            for (int i = 0; i < visitors.length; i++) {
+                if (!active.get(i).complete(visitors[i])) {
+                    rejected.add(active.get(i));
+                }
+            }
+            if (rejected.isEmpty()) {
+                return writer.toByteArray();
+            }
+            active.removeAll(rejected);
+        }
+        return null;
+    }
+}
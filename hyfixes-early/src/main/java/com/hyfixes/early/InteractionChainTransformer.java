@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -28,53 +24,37 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/blob/main/HYTALE_CORE_BUGS.md">HYTALE_CORE_BUGS.md</a>
  */
-public class InteractionChainTransformer implements ClassTransformer {
+public class InteractionChainTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.entity.InteractionChain";
 
     @Override
-    public int priority() {
-        // High priority - we want this transformation to happen early
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the InteractionChain class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("interactionChain")) {
-            info("InteractionChainTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "interactionChain";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming InteractionChain class...");
         verbose("Fixing putInteractionSyncData() buffer overflow bug");
         verbose("Fixing removeInteractionEntry() out-of-order bug (Issue #40)");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new InteractionChainVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("InteractionChain transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new InteractionChainVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform InteractionChain!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("InteractionChain transformation COMPLETE!");
+        return true;
     }
 }
@@ -1,6 +1,7 @@
 package com.hyfixes.early;
 
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -19,6 +20,7 @@ public class InteractionChainVisitor extends ClassVisitor {
     private static final String PUT_SYNC_DATA_METHOD = "putInteractionSyncData";
     private static final String UPDATE_SYNC_POSITION_METHOD = "updateSyncPosition";
     private static final String REMOVE_INTERACTION_ENTRY_METHOD = "removeInteractionEntry";
+    private static final String TEMP_SYNC_DATA_FIELD = "tempSyncData";
 
     private String className;
 
@@ -32,6 +34,16 @@ public class InteractionChainVisitor extends ClassVisitor {
         super.visit(version, access, name, signature, superName, interfaces);
     }
 
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        // putInteractionSyncData() may swap tempSyncData for a SyncDataBuffer, so it can't stay final
+        if (name.equals(TEMP_SYNC_DATA_FIELD) && (access & Opcodes.ACC_FINAL) != 0) {
+            verbose("Removing final from " + name + " for sync buffer swap");
+            access &= ~Opcodes.ACC_FINAL;
+        }
+        return super.visitField(access, name, descriptor, signature, value);
+    }
+
     @Override
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
         MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
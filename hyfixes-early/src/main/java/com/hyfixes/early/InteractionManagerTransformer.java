@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -26,51 +22,37 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/40">Issue #40</a>
  */
-public class InteractionManagerTransformer implements ClassTransformer {
+public class InteractionManagerTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.entity.InteractionManager";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("interactionManager")) {
-            info("InteractionManagerTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "interactionManager";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming InteractionManager class...");
         verbose("  - Fixing serverTick() client timeout bug (Issue #40)");
         verbose("  - Suppressing 'Client finished chain' log spam");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new InteractionManagerVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("InteractionManager transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new InteractionManagerVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform InteractionManager!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("InteractionManager transformation COMPLETE!");
+        return true;
     }
 }
@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -24,50 +20,36 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/45">Issue #45</a>
  */
-public class LivingEntityTransformer implements ClassTransformer {
+public class LivingEntityTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.entity.LivingEntity";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("livingEntity")) {
-            info("LivingEntityTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "livingEntity";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming LivingEntity class...");
         verbose("Fixing inventory sharing bug (Issue #45)");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new LivingEntityVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("LivingEntity transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new LivingEntityVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform LivingEntity!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("LivingEntity transformation COMPLETE!");
+        return true;
     }
 }
@@ -85,9 +85,7 @@ public class MarkerRemoveMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNONNULL, continueLabel);
 
             // npcReferences is null - log warning and return early
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] Skipping null npcReferences in onEntityRemove() - spawn marker had no NPC refs");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.NULL_MARKER_NPC_REFERENCES);
 
             // Return early - nothing to iterate over
             target.visitInsn(Opcodes.RETURN);
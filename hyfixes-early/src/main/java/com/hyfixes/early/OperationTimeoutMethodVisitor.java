@@ -9,6 +9,11 @@ import org.objectweb.asm.Opcodes;
  *
  * Original formula: (avg_ping * 2.0) + 3000L
  * New formula:      (avg_ping * pingMultiplier) + baseTimeoutMs
+ *
+ * Adaptive mode:    min((SRTT * pingMultiplier + k * RTTVAR) + baseTimeoutMs, maxTimeoutMs)
+ *                   with SRTT/RTTVAR tracked per handler by {@link AdaptiveTimeout} in the
+ *                   injected field {@value #RTT_STATE_FIELD}. If AdaptiveTimeout cannot be
+ *                   reached, the fixed formula is used.
  */
 public class OperationTimeoutMethodVisitor extends MethodVisitor {
 
@@ -16,6 +21,13 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
     private final MethodVisitor target;
     private final long baseTimeoutMs;
     private final double pingMultiplier;
+    private final boolean adaptive;
+    private final double rttVarianceMultiplier;
+    private final long maxTimeoutMs;
+
+    static final String RTT_STATE_FIELD = "hyfixes$rttState";
+    static final String RTT_STATE_DESC = "[D";
+    private static final String ADAPTIVE_TIMEOUT = "com/hyfixes/early/AdaptiveTimeout";
 
     // Class/field references - CORRECTED paths from decompiled HytaleServer.jar
     private static final String PONG_TYPE = "com/hypixel/hytale/protocol/packets/connection/PongType";
@@ -24,12 +36,16 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
     private static final String TIME_UNIT = "java/util/concurrent/TimeUnit";
 
     public OperationTimeoutMethodVisitor(MethodVisitor methodVisitor, String className,
-                                          long baseTimeoutMs, double pingMultiplier) {
+                                          long baseTimeoutMs, double pingMultiplier,
+                                          boolean adaptive, double rttVarianceMultiplier, long maxTimeoutMs) {
         super(Opcodes.ASM9, null);  // null parent - we generate entirely new bytecode
         this.target = methodVisitor;
         this.className = className;
         this.baseTimeoutMs = baseTimeoutMs;
         this.pingMultiplier = pingMultiplier;
+        this.adaptive = adaptive;
+        this.rttVarianceMultiplier = rttVarianceMultiplier;
+        this.maxTimeoutMs = maxTimeoutMs;
     }
 
     @Override
@@ -47,7 +63,11 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
          *   - 2.0 -> pingMultiplier (configurable)
          *   - 3000L -> baseTimeoutMs (configurable)
          *
-         * Local vars: 0=this, 1-2=average (double takes 2 slots)
+         * Adaptive mode replaces average * pingMultiplier with
+         *   AdaptiveTimeout.scaledPing(rttState, average, pingMultiplier, k)
+         * and caps the result at maxTimeoutMs.
+         *
+         * Local vars: 0=this, 1-2=average (double takes 2 slots), 3-4=scaled ping, 5=rttState
          */
 
         target.visitCode();
@@ -63,15 +83,19 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
         target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, HISTORIC_METRIC, "getAverage", "(I)D", false);
         target.visitVarInsn(Opcodes.DSTORE, 1);  // store average in locals 1-2
 
-        // return PingInfo.TIME_UNIT.toMillis(Math.round(average * pingMultiplier)) + baseTimeoutMs;
+        if (adaptive) {
+            generateAdaptiveScaledPing();
+        } else {
+            generateFixedScaledPing();
+        }
+
+        // return PingInfo.TIME_UNIT.toMillis(Math.round(scaled)) + baseTimeoutMs;
 
         // Get PingInfo.TIME_UNIT
         target.visitFieldInsn(Opcodes.GETSTATIC, PING_INFO, "TIME_UNIT", "L" + TIME_UNIT + ";");
 
-        // Math.round(average * pingMultiplier)
-        target.visitVarInsn(Opcodes.DLOAD, 1);  // load average
-        target.visitLdcInsn(pingMultiplier);    // push pingMultiplier (configurable!)
-        target.visitInsn(Opcodes.DMUL);         // average * pingMultiplier
+        // Math.round(scaled)
+        target.visitVarInsn(Opcodes.DLOAD, 3);  // load scaled ping
         target.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "round", "(D)J", false);
 
         // TIME_UNIT.toMillis(...)
@@ -81,13 +105,78 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
         target.visitLdcInsn(baseTimeoutMs);     // push baseTimeoutMs (configurable!)
         target.visitInsn(Opcodes.LADD);
 
+        if (adaptive) {
+            // Math.min(timeout, maxTimeoutMs) - jitter slack must not keep dead connections around
+            target.visitLdcInsn(maxTimeoutMs);
+            target.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "min", "(JJ)J", false);
+        }
+
         // return
         target.visitInsn(Opcodes.LRETURN);
 
-        target.visitMaxs(6, 3);
+        target.visitMaxs(8, 6);
         target.visitEnd();
     }
 
+    /**
+     * scaled = average * pingMultiplier
+     */
+    private void generateFixedScaledPing() {
+        target.visitVarInsn(Opcodes.DLOAD, 1);  // load average
+        target.visitLdcInsn(pingMultiplier);    // push pingMultiplier (configurable!)
+        target.visitInsn(Opcodes.DMUL);         // average * pingMultiplier
+        target.visitVarInsn(Opcodes.DSTORE, 3);
+    }
+
+    /**
+     * try {
+     *     double[] state = this.hyfixes$rttState;
+     *     if (state == null) { state = new double[AdaptiveTimeout.STATE_SIZE]; this.hyfixes$rttState = state; }
+     *     scaled = AdaptiveTimeout.scaledPing(state, average, pingMultiplier, k);
+     * } catch (Throwable t) {
+     *     scaled = average * pingMultiplier;
+     * }
+     */
+    private void generateAdaptiveScaledPing() {
+        Label tryStart = new Label();
+        Label tryEnd = new Label();
+        Label catchHandler = new Label();
+        Label haveState = new Label();
+        Label done = new Label();
+
+        target.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/Throwable");
+        target.visitLabel(tryStart);
+
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, RTT_STATE_FIELD, RTT_STATE_DESC);
+        target.visitVarInsn(Opcodes.ASTORE, 5);
+        target.visitVarInsn(Opcodes.ALOAD, 5);
+        target.visitJumpInsn(Opcodes.IFNONNULL, haveState);
+        target.visitLdcInsn(AdaptiveTimeout.STATE_SIZE);
+        target.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_DOUBLE);
+        target.visitVarInsn(Opcodes.ASTORE, 5);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ALOAD, 5);
+        target.visitFieldInsn(Opcodes.PUTFIELD, className, RTT_STATE_FIELD, RTT_STATE_DESC);
+        target.visitLabel(haveState);
+
+        target.visitVarInsn(Opcodes.ALOAD, 5);
+        target.visitVarInsn(Opcodes.DLOAD, 1);
+        target.visitLdcInsn(pingMultiplier);
+        target.visitLdcInsn(rttVarianceMultiplier);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, ADAPTIVE_TIMEOUT, "scaledPing", "([DDDD)D", false);
+        target.visitVarInsn(Opcodes.DSTORE, 3);
+        target.visitLabel(tryEnd);
+        target.visitJumpInsn(Opcodes.GOTO, done);
+
+        // AdaptiveTimeout not visible to the server's class loader - fixed formula
+        target.visitLabel(catchHandler);
+        target.visitInsn(Opcodes.POP);
+        generateFixedScaledPing();
+
+        target.visitLabel(done);
+    }
+
     // Override all visit methods to ignore original bytecode
     @Override
     public void visitInsn(int opcode) {
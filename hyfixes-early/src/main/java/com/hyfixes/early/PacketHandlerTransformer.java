@@ -1,9 +1,6 @@
 package com.hyfixes.early;
 
 import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -26,57 +23,50 @@ import static com.hyfixes.early.EarlyLogger.*;
  * Default config doubles the timeout allowance, giving laggy players
  * more time to respond without causing any client/server desync.
  *
+ * With interactionTimeout.adaptive (default), avg_ping is replaced by a per-connection
+ * smoothed RTT plus rttVarianceMultiplier * RTT variance, capped at maxTimeoutMs:
+ * steady connections keep the same threshold, jittery ones get extra slack.
+ *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/25">GitHub Issue #25</a>
  */
-public class PacketHandlerTransformer implements ClassTransformer {
+public class PacketHandlerTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.io.PacketHandler";
 
     @Override
-    public int priority() {
-        // High priority - we want this transformation to happen early
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the PacketHandler class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("interactionTimeout")) {
-            info("PacketHandlerTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "interactionTimeout";
+    }
 
+    @Override
+    public void announce() {
         var config = EarlyConfigManager.getInstance().getInteractionTimeoutConfig();
         separator();
         info("Transforming PacketHandler class...");
         verbose("Fixing interaction timeout (hatchet/tree bug)");
         verbose("Config: baseTimeoutMs=" + config.baseTimeoutMs +
-                           ", pingMultiplier=" + config.pingMultiplier);
+                           ", pingMultiplier=" + config.pingMultiplier +
+                           ", adaptive=" + config.adaptive +
+                           (config.adaptive ? ", rttVarianceMultiplier=" + config.rttVarianceMultiplier +
+                                   ", maxTimeoutMs=" + config.maxTimeoutMs : ""));
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new PacketHandlerVisitor(writer, config.baseTimeoutMs, config.pingMultiplier);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("PacketHandler transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        var config = EarlyConfigManager.getInstance().getInteractionTimeoutConfig();
+        return new PacketHandlerVisitor(next, config.baseTimeoutMs, config.pingMultiplier,
+                config.adaptive, config.rttVarianceMultiplier, config.maxTimeoutMs);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform PacketHandler!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("PacketHandler transformation COMPLETE!");
+        return true;
     }
 }
@@ -1,6 +1,7 @@
 package com.hyfixes.early;
 
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -19,6 +20,9 @@ import static com.hyfixes.early.EarlyLogger.*;
  * Our fix replaces the hardcoded values with configurable ones:
  * (avg_ping * pingMultiplier) + baseTimeoutMs
  *
+ * In adaptive mode the average ping is replaced by a per-connection smoothed RTT plus
+ * k * RTT variance, kept in a double[] field added to PacketHandler (see {@link AdaptiveTimeout}).
+ *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/25">GitHub Issue #25</a>
  */
 public class PacketHandlerVisitor extends ClassVisitor {
@@ -30,6 +34,10 @@ public class PacketHandlerVisitor extends ClassVisitor {
     private String className;
     private final long baseTimeoutMs;
     private final double pingMultiplier;
+    private final boolean adaptive;
+    private final double rttVarianceMultiplier;
+    private final long maxTimeoutMs;
+    private boolean transformed = false;
 
     /**
      * Creates a new PacketHandlerVisitor.
@@ -37,11 +45,18 @@ public class PacketHandlerVisitor extends ClassVisitor {
      * @param classVisitor the downstream visitor in the chain
      * @param baseTimeoutMs base timeout in milliseconds added to ping calculation (default: 6000)
      * @param pingMultiplier multiplier applied to average ping (default: 3.0)
+     * @param adaptive track smoothed RTT and variance per connection (default: true)
+     * @param rttVarianceMultiplier weight of the RTT variance in adaptive mode (default: 4.0)
+     * @param maxTimeoutMs cap on the adaptive threshold (default: 30000)
      */
-    public PacketHandlerVisitor(ClassVisitor classVisitor, long baseTimeoutMs, double pingMultiplier) {
+    public PacketHandlerVisitor(ClassVisitor classVisitor, long baseTimeoutMs, double pingMultiplier,
+                                boolean adaptive, double rttVarianceMultiplier, long maxTimeoutMs) {
         super(Opcodes.ASM9, classVisitor);
         this.baseTimeoutMs = baseTimeoutMs;
         this.pingMultiplier = pingMultiplier;
+        this.adaptive = adaptive;
+        this.rttVarianceMultiplier = rttVarianceMultiplier;
+        this.maxTimeoutMs = maxTimeoutMs;
     }
 
     @Override
@@ -56,10 +71,27 @@ public class PacketHandlerVisitor extends ClassVisitor {
 
         if (name.equals(TARGET_METHOD) && descriptor.equals(TARGET_DESCRIPTOR)) {
             verbose("Found method: " + name + descriptor);
-            verbose("Applying configurable timeout fix...");
-            return new OperationTimeoutMethodVisitor(mv, className, baseTimeoutMs, pingMultiplier);
+            verbose("Applying configurable timeout fix" + (adaptive ? " (adaptive RTT)" : "") + "...");
+            transformed = true;
+            return new OperationTimeoutMethodVisitor(mv, className, baseTimeoutMs, pingMultiplier,
+                    adaptive, rttVarianceMultiplier, maxTimeoutMs);
         }
 
         return mv;
     }
+
+    @Override
+    public void visitEnd() {
+        if (transformed && adaptive) {
+            // private transient synthetic double[] hyfixes$rttState - per-connection RTT estimator
+            FieldVisitor fv = super.visitField(
+                Opcodes.ACC_PRIVATE | Opcodes.ACC_TRANSIENT | Opcodes.ACC_SYNTHETIC,
+                OperationTimeoutMethodVisitor.RTT_STATE_FIELD, OperationTimeoutMethodVisitor.RTT_STATE_DESC,
+                null, null);
+            if (fv != null) {
+                fv.visitEnd();
+            }
+        }
+        super.visitEnd();
+    }
 }
@@ -0,0 +1,47 @@
+package com.hyfixes.early;
+
+import org.objectweb.asm.ClassVisitor;
+
+/**
+ * A single HyFixes bytecode fix for one server class.
+ *
+ * Patches are not registered with the early plugin loader directly. They are
+ * listed in {@link HyFixesTransformerHub}, which looks each loaded class up in a
+ * target table and runs every patch for that class in one read/write pass.
+ */
+public interface Patch {
+
+    /**
+     * Fully qualified (dotted) name of the class this patch rewrites.
+     */
+    String targetClass();
+
+    /**
+     * Key passed to EarlyConfigManager.isTransformerEnabled(), or null if the
+     * patch cannot be disabled.
+     */
+    String configKey();
+
+    /**
+     * Patches for the same class are chained highest priority first.
+     */
+    default int priority() {
+        return 100;
+    }
+
+    /**
+     * Log what is about to be fixed. Called once, right before the pass.
+     */
+    void announce();
+
+    /**
+     * Wrap the next visitor in the chain with this patch's visitor.
+     */
+    ClassVisitor createVisitor(ClassVisitor next, String className);
+
+    /**
+     * Called after the pass with the visitor returned by createVisitor().
+     * Log the outcome and return false to discard this patch's changes.
+     */
+    boolean complete(ClassVisitor visitor);
+}
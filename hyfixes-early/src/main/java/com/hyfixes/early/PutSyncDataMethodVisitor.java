@@ -19,9 +19,14 @@ import org.objectweb.asm.Opcodes;
  *   if (adjustedIndex < 0) {
  *       // EXPAND BUFFER instead of dropping
  *       expansion = -adjustedIndex
- *       for (i = 0; i < expansion; i++) {
- *           tempSyncData.add(0, null)  // prepend nulls
+ *       try {
+ *           // Swap in a circular buffer (once per chain) - O(1) per prepended slot
+ *           tempSyncData = SyncDataBuffer.prepend(tempSyncData, expansion)
+ *       } catch (Throwable t) {
+ *           // Buffer class not linkable - one bulk shift instead of one per slot
+ *           tempSyncData.addAll(0, Collections.nCopies(expansion, null))
  *       }
+ *       hyfixes$event(SYNC_BUFFER_EXPANDED, expansion)  // counted only, see EarlyFixCounters
  *       tempSyncDataOffset = index  // reset offset
  *       adjustedIndex = 0
  *   }
@@ -37,6 +42,7 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
     private static final String TEMP_SYNC_DATA_DESC = "Ljava/util/List;";
     private static final String TEMP_SYNC_DATA_OFFSET_FIELD = "tempSyncDataOffset";
     private static final String LOGGER_FIELD = "LOGGER";
+    private static final String SYNC_DATA_BUFFER_CLASS = "com/hyfixes/early/SyncDataBuffer";
 
     public PutSyncDataMethodVisitor(MethodVisitor methodVisitor, String className) {
         // Pass null to parent - we'll generate our own bytecode entirely
@@ -57,8 +63,10 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
         Label addData = new Label();
         Label logGap = new Label();
         Label endMethod = new Label();
-        Label loopStart = new Label();
-        Label loopEnd = new Label();
+        Label tryStart = new Label();
+        Label tryEnd = new Label();
+        Label catchHandler = new Label();
+        Label expanded = new Label();
 
         // --- Calculate adjustedIndex ---
         // int adjustedIndex = index - tempSyncDataOffset;
@@ -83,27 +91,34 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
         target.visitInsn(Opcodes.INEG);  // negate
         target.visitVarInsn(Opcodes.ISTORE, 4);  // store expansion in local 4
 
-        // for (int i = 0; i < expansion; i++) { tempSyncData.add(0, null); }
-        target.visitInsn(Opcodes.ICONST_0);
-        target.visitVarInsn(Opcodes.ISTORE, 5);  // i = 0
-
-        target.visitLabel(loopStart);
-        target.visitVarInsn(Opcodes.ILOAD, 5);   // load i
-        target.visitVarInsn(Opcodes.ILOAD, 4);   // load expansion
-        target.visitJumpInsn(Opcodes.IF_ICMPGE, loopEnd);  // if i >= expansion, exit loop
-
-        // tempSyncData.add(0, null)
+        // try { tempSyncData = SyncDataBuffer.prepend(tempSyncData, expansion); }
+        target.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/Throwable");
+        target.visitLabel(tryStart);
+        target.visitVarInsn(Opcodes.ALOAD, 0);  // this (for PUTFIELD)
+        target.visitVarInsn(Opcodes.ALOAD, 0);  // this
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitVarInsn(Opcodes.ILOAD, 4);  // expansion
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SYNC_DATA_BUFFER_CLASS, "prepend",
+            "(Ljava/util/List;I)Ljava/util/List;", false);
+        target.visitFieldInsn(Opcodes.PUTFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitLabel(tryEnd);
+        target.visitJumpInsn(Opcodes.GOTO, expanded);
+
+        // catch (Throwable t) { tempSyncData.addAll(0, Collections.nCopies(expansion, null)); }
+        target.visitLabel(catchHandler);
+        target.visitInsn(Opcodes.POP);          // discard exception
         target.visitVarInsn(Opcodes.ALOAD, 0);  // this
         target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
         target.visitInsn(Opcodes.ICONST_0);     // index 0
+        target.visitVarInsn(Opcodes.ILOAD, 4);  // expansion
         target.visitInsn(Opcodes.ACONST_NULL);  // null value
-        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "add", "(ILjava/lang/Object;)V", true);
-
-        // i++
-        target.visitIincInsn(5, 1);
-        target.visitJumpInsn(Opcodes.GOTO, loopStart);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Collections", "nCopies",
+            "(ILjava/lang/Object;)Ljava/util/List;", false);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "addAll", "(ILjava/util/Collection;)Z", true);
+        target.visitInsn(Opcodes.POP);          // discard return value
 
-        target.visitLabel(loopEnd);
+        target.visitLabel(expanded);
+        EarlyEvents.emitIntLocal(target, className, EarlyEventSink.SYNC_BUFFER_EXPANDED, 4);
 
         // Update offset: tempSyncDataOffset = tempSyncDataOffset + adjustedIndex
         // Since adjustedIndex is negative, this shifts the offset down to accommodate the new elements
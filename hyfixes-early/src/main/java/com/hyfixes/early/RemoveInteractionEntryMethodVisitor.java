@@ -56,10 +56,8 @@ public class RemoveInteractionEntryMethodVisitor extends MethodVisitor {
             mv.visitLabel(catchHandler);
             // Stack has the exception on it
 
-            // Log warning: System.out.println("[HyFixes-Early] WARNING: Suppressed out-of-order removal in InteractionChain (Issue #40)");
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyFixes-Early] WARNING: Suppressed out-of-order removal in InteractionChain (Issue #40)");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            // Record warning (printed by EarlyEventSink): "[HyFixes-Early] WARNING: Suppressed out-of-order removal in InteractionChain (Issue #40)"
+            EarlyEvents.emit(mv, className, EarlyEventSink.INTERACTION_REMOVE_OUT_OF_ORDER);
 
             // Pop the exception from stack (it's consumed by entering handler)
             // Return normally (void method)
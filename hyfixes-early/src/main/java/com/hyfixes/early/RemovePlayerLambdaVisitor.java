@@ -102,9 +102,7 @@ public class RemovePlayerLambdaVisitor extends MethodVisitor {
             mv.visitVarInsn(Opcodes.ASTORE, 10);
 
             // Log warning
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyFixes] Player ref invalid during removal - performing fallback cleanup");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(mv, className, EarlyEventSink.PLAYER_REMOVE_FALLBACK);
 
             // === TRY FALLBACK CLEANUP ===
             Label cleanupTryStart = new Label();
@@ -132,9 +130,7 @@ public class RemovePlayerLambdaVisitor extends MethodVisitor {
                 false);
 
             // Log success
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyFixes] ChunkTracker cleared - memory leak prevented");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(mv, className, EarlyEventSink.PLAYER_REMOVE_CHUNK_TRACKER_CLEARED);
 
             mv.visitLabel(cleanupTryEnd);
             mv.visitJumpInsn(Opcodes.GOTO, cleanupDone);
@@ -142,9 +138,7 @@ public class RemovePlayerLambdaVisitor extends MethodVisitor {
             // Catch any cleanup errors
             mv.visitLabel(cleanupCatch);
             mv.visitInsn(Opcodes.POP);  // Discard cleanup exception
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyFixes] Fallback cleanup failed - memory may leak");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(mv, className, EarlyEventSink.PLAYER_REMOVE_FALLBACK_FAILED);
 
             mv.visitLabel(cleanupDone);
 
@@ -145,6 +145,7 @@ public class ServerTickMethodVisitor extends MethodVisitor {
         mv.visitInsn(Opcodes.POP); // pop the exception
 
         mv.visitLabel(afterCancel);
+        EarlyEvents.emit(mv, className, EarlyEventSink.SERVER_TICK_TIMEOUT_RECOVERED);
 
         // Return null (graceful failure instead of kick)
         mv.visitInsn(Opcodes.ACONST_NULL);
@@ -12,17 +12,23 @@ import org.objectweb.asm.Opcodes;
  * to check if the inventory is already owned by a different player. If so, it clones
  * the inventory to prevent shared reference bugs.
  *
+ * Only Player entities can share an inventory reference, so the injected code
+ * does an instanceof Player check first. NPC inventory assignment (thousands per
+ * spawn wave) costs a single type check and never calls into the guard.
+ *
  * Transformation:
  * Before: public Inventory setInventory(Inventory inventory, ...) { ... }
  * After:  public Inventory setInventory(Inventory inventory, ...) {
- *             inventory = InventoryOwnershipGuard.validateAndClone(this, inventory);
+ *             if (this instanceof Player) {
+ *                 inventory = (Inventory) InventoryOwnershipGuard.validateAndClone(this, inventory);
+ *             }
  *             ... original code ...
  *         }
  */
 public class SetInventoryMethodVisitor extends MethodVisitor {
 
     private static final String GUARD_CLASS = "com/hyfixes/guard/InventoryOwnershipGuard";
-    private static final String LIVING_ENTITY_CLASS = "com/hypixel/hytale/server/core/entity/LivingEntity";
+    private static final String PLAYER_CLASS = "com/hypixel/hytale/server/core/entity/entities/Player";
     private static final String INVENTORY_CLASS = "com/hypixel/hytale/server/core/inventory/Inventory";
 
     private final String methodName;
@@ -46,17 +52,24 @@ public class SetInventoryMethodVisitor extends MethodVisitor {
     }
 
     private void injectValidation() {
-        // Generate: inventory = InventoryOwnershipGuard.validateAndClone(this, inventory);
+        // Generate: if (this instanceof Player) inventory = (Inventory) InventoryOwnershipGuard.validateAndClone(this, inventory);
         //
         // Stack operations:
-        // 1. ALOAD 0 - push 'this' (LivingEntity)
-        // 2. ALOAD 1 - push 'inventory' parameter
-        // 3. INVOKESTATIC validateAndClone
-        // 4. ASTORE 1 - store result back to inventory parameter
+        // 1. ALOAD 0, INSTANCEOF Player, IFEQ afterCatch - skip everything for non-players
+        // 2. ALOAD 0 - push 'this' (LivingEntity)
+        // 3. ALOAD 1 - push 'inventory' parameter
+        // 4. INVOKESTATIC validateAndClone, CHECKCAST Inventory
+        // 5. ASTORE 1 - store result back to inventory parameter
 
         Label tryStart = new Label();
         Label tryEnd = new Label();
         Label catchHandler = new Label();
+        Label afterCatch = new Label();
+
+        // Fast path: non-player entities never reach the guard
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitTypeInsn(Opcodes.INSTANCEOF, PLAYER_CLASS);
+        mv.visitJumpInsn(Opcodes.IFEQ, afterCatch);
 
         // Try block for the guard call (in case guard class isn't loaded)
         mv.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/Throwable");
@@ -69,14 +82,16 @@ public class SetInventoryMethodVisitor extends MethodVisitor {
         // Load inventory parameter (slot 1)
         mv.visitVarInsn(Opcodes.ALOAD, 1);
 
-        // Call static method: InventoryOwnershipGuard.validateAndClone(LivingEntity, Inventory)
+        // Call static method: InventoryOwnershipGuard.validateAndClone(Object, Object) -> Object
+        // (descriptor must match the guard's declared signature exactly)
         mv.visitMethodInsn(
             Opcodes.INVOKESTATIC,
             GUARD_CLASS,
             "validateAndClone",
-            "(L" + LIVING_ENTITY_CLASS + ";L" + INVENTORY_CLASS + ";)L" + INVENTORY_CLASS + ";",
+            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;",
             false
         );
+        mv.visitTypeInsn(Opcodes.CHECKCAST, INVENTORY_CLASS);
 
         // Store result back to inventory parameter
         mv.visitVarInsn(Opcodes.ASTORE, 1);
@@ -84,7 +99,6 @@ public class SetInventoryMethodVisitor extends MethodVisitor {
         mv.visitLabel(tryEnd);
 
         // Jump over catch block
-        Label afterCatch = new Label();
         mv.visitJumpInsn(Opcodes.GOTO, afterCatch);
 
         // Catch handler - just swallow the exception and continue with original inventory
@@ -93,6 +107,6 @@ public class SetInventoryMethodVisitor extends MethodVisitor {
 
         mv.visitLabel(afterCatch);
 
-        verbose("Injected inventory ownership validation into " + methodName);
+        verbose("Injected inventory ownership validation (Player fast path) into " + methodName);
     }
 }
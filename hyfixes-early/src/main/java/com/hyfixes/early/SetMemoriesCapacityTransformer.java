@@ -1,10 +1,6 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
-import org.objectweb.asm.ClassWriter;
 
 import static com.hyfixes.early.EarlyLogger.*;
 
@@ -21,46 +17,37 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/52">Issue #52</a>
  */
-public class SetMemoriesCapacityTransformer implements ClassTransformer {
+public class SetMemoriesCapacityTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.adventure.memories.interactions.SetMemoriesCapacityInteraction";
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the target class
-        if (!TARGET_CLASS.equals(className)) {
-            return classBytes;
-        }
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
 
-        // Check if transformer is enabled
-        // Note: Using a general "memoriesInteraction" config key
-        // For now, always enable this fix since it prevents player kicks
+    @Override
+    public String configKey() {
+        // No config key - always enabled since it prevents player kicks
+        return null;
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming SetMemoriesCapacityInteraction class...");
         verbose("  Target: " + TARGET_CLASS);
-        verbose("  Original size: " + classBytes.length + " bytes");
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            // COMPUTE_FRAMES is required because we inject bytecode with jump instructions
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new SetMemoriesCapacityVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformed = writer.toByteArray();
-            verbose("  Transformed size: " + transformed.length + " bytes");
-            info("SetMemoriesCapacityInteraction transformation COMPLETE!");
-            separator();
+    }
 
-            return transformed;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new SetMemoriesCapacityVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform SetMemoriesCapacityInteraction!");
-            error("  Exception: " + e.getMessage());
-            e.printStackTrace();
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("SetMemoriesCapacityInteraction transformation COMPLETE!");
+        separator();
+        return true;
     }
 }
@@ -1,9 +1,6 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
 
@@ -35,51 +32,43 @@ import static com.hyfixes.early.EarlyLogger.*;
  * Our fix injects code at label984 that creates and populates the array
  * if it's still null after the if block.
  */
-public class SpawnMarkerEntityTransformer implements ClassTransformer {
+public class SpawnMarkerEntityTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.spawning.spawnmarkers.SpawnMarkerEntity";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("spawnMarkerEntity")) {
-            info("SpawnMarkerEntityTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "spawnMarkerEntity";
+    }
 
+    @Override
+    public void announce() {
         info("Transforming SpawnMarkerEntity class...");
         verbose("Fix 1: Constructor - initialize npcReferences to empty array");
         verbose("Fix 2: setNpcReferences() - convert null to empty array");
         verbose("Fix 3: spawnNPC() - create array when storedFlock is null");
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            SpawnMarkerEntityVisitor visitor = new SpawnMarkerEntityVisitor(writer, className);
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new SpawnMarkerEntityVisitor(next, className);
+    }
 
-            if (visitor.isFullyTransformed()) {
-                info("SpawnMarkerEntity transformation COMPLETE! (both fixes applied)");
-                return writer.toByteArray();
-            } else if (visitor.isTransformed()) {
-                info("SpawnMarkerEntity transformation PARTIAL - some fixes applied");
-                return writer.toByteArray();
-            } else {
-                info("WARNING: SpawnMarkerEntity transformation may not have applied!");
-                return writer.toByteArray();
-            }
-        } catch (Exception e) {
-            error("ERROR transforming SpawnMarkerEntity: " + e.getMessage(), e);
-            return classBytes;
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        SpawnMarkerEntityVisitor markerVisitor = (SpawnMarkerEntityVisitor) visitor;
+        if (markerVisitor.isFullyTransformed()) {
+            info("SpawnMarkerEntity transformation COMPLETE! (both fixes applied)");
+        } else if (markerVisitor.isTransformed()) {
+            info("SpawnMarkerEntity transformation PARTIAL - some fixes applied");
+        } else {
+            info("WARNING: SpawnMarkerEntity transformation may not have applied!");
         }
+        return true;
     }
 }
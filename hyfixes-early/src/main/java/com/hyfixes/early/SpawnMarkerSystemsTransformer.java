@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -31,51 +27,36 @@ import static com.hyfixes.early.EarlyLogger.*;
  * - Eliminates need for runtime SpawnMarkerReferenceSanitizer (was fixing 7000+ entities/session)
  * - Much more efficient - only runs on entity removal, not every tick
  */
-public class SpawnMarkerSystemsTransformer implements ClassTransformer {
+public class SpawnMarkerSystemsTransformer implements Patch {
 
-    // Target the MarkerAddRemoveSystem inner class
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.npc.systems.SpawnReferenceSystems$MarkerAddRemoveSystem";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("spawnMarkerSystems")) {
-            info("SpawnMarkerSystemsTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "spawnMarkerSystems";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming SpawnReferenceSystems$MarkerAddRemoveSystem...");
         verbose("Fixing null npcReferences crash in onEntityRemove()");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new SpawnMarkerSystemsVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("MarkerAddRemoveSystem transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new SpawnMarkerSystemsVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform MarkerAddRemoveSystem!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("MarkerAddRemoveSystem transformation COMPLETE!");
+        return true;
     }
 }
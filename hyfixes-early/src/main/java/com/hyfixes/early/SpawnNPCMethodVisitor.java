@@ -152,9 +152,7 @@ public class SpawnNPCMethodVisitor extends MethodVisitor {
         target.visitJumpInsn(Opcodes.IFNULL, skipLabel);  // if null, skip
 
         // Log that we're fixing the null array
-        target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-        target.visitLdcInsn("[HyFixes-Early] Creating missing npcReferences array in spawnNPC (storedFlock was null)");
-        target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+        EarlyEvents.emit(target, SPAWN_MARKER_ENTITY, EarlyEventSink.SPAWN_NPC_MISSING_REFERENCES);
 
         // this.npcReferences = new InvalidatablePersistentRef[1];
         target.visitVarInsn(Opcodes.ALOAD, 0);  // this
@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -27,51 +23,36 @@ import static com.hyfixes.early.EarlyLogger.*;
  * Transform onEntityAdded() to add a null check after getSpawnController().
  * If null, log a warning and despawn the NPC gracefully instead of crashing.
  */
-public class SpawnReferenceSystemsTransformer implements ClassTransformer {
+public class SpawnReferenceSystemsTransformer implements Patch {
 
-    // Target the inner class
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.npc.systems.SpawnReferenceSystems$BeaconAddRemoveSystem";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("spawnReferenceSystems")) {
-            info("SpawnReferenceSystemsTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "spawnReferenceSystems";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming SpawnReferenceSystems$BeaconAddRemoveSystem...");
         verbose("Fixing null spawnController crash in onEntityAdded()");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new SpawnReferenceSystemsVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("SpawnReferenceSystems transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new SpawnReferenceSystemsVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform SpawnReferenceSystems!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("SpawnReferenceSystems transformation COMPLETE!");
+        return true;
     }
 }
@@ -0,0 +1,168 @@
+package com.hyfixes.early;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Circular-array List used as InteractionChain.tempSyncData once sync data arrives out of order.
+ *
+ * The transformed putInteractionSyncData() grows the buffer at the front when a packet's
+ * index is below tempSyncDataOffset. On the original ArrayList every prepended slot shifts
+ * the whole list, so a burst of out-of-order packets costs O(expansion x size). This list
+ * keeps a head index into a power-of-two array: add/remove at either end is O(1), get/set
+ * is one masked array read, and the rest of InteractionChain still sees a plain List.
+ *
+ * Chains only switch to it on their first out-of-order packet (see {@link #prepend}).
+ * Expansions are counted by the transformed method (EarlyEventSink.SYNC_BUFFER_EXPANDED).
+ *
+ * Instances end up inside server objects, so this class must only depend on the JDK.
+ */
+public class SyncDataBuffer<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    public SyncDataBuffer(List<? extends E> initial) {
+        elements = new Object[capacityFor(initial.size())];
+        for (E element : initial) {
+            elements[size++] = element;
+        }
+    }
+
+    /**
+     * Called by transformed InteractionChain.putInteractionSyncData() when adjustedIndex < 0.
+     * Converts the chain's list on first use and prepends {@code count} empty slots.
+     *
+     * @return the list to store back into tempSyncData
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Object> prepend(List<Object> list, int count) {
+        SyncDataBuffer<Object> buffer;
+        if (list instanceof SyncDataBuffer) {
+            buffer = (SyncDataBuffer<Object>) list;
+        } else {
+            buffer = new SyncDataBuffer<>(list);
+        }
+        buffer.addFirstNulls(count);
+        return buffer;
+    }
+
+    private void addFirstNulls(int count) {
+        if (count <= 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        // Slots in front of head are already null (cleared on removal / fresh from grow)
+        head = (head - count) & (elements.length - 1);
+        size += count;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[slot(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int slot = slot(index);
+        E previous = (E) elements[slot];
+        elements[slot] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        int mask = elements.length - 1;
+        if (index == 0) {
+            head = (head - 1) & mask;
+        } else if (index < size) {
+            // Shift whichever side is shorter
+            if (index < size / 2) {
+                head = (head - 1) & mask;
+                for (int i = 0; i < index; i++) {
+                    elements[slot(i)] = elements[slot(i + 1)];
+                }
+            } else {
+                for (int i = size; i > index; i--) {
+                    elements[slot(i)] = elements[slot(i - 1)];
+                }
+            }
+        }
+        elements[slot(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        int mask = elements.length - 1;
+        E removed = (E) elements[slot(index)];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+            elements[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= elements.length) {
+            return;
+        }
+        Object[] grown = new Object[capacityFor(required)];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[slot(i)];
+        }
+        elements = grown;
+        head = 0;
+    }
+
+    private static int capacityFor(int required) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -15,7 +15,7 @@ import org.objectweb.asm.Opcodes;
  *   try {
  *       tempThread.stop();
  *   } catch (UnsupportedOperationException e) {
- *       System.err.println("[HyFixes] Thread.stop() not supported, using interrupt()");
+ *       hyfixes$event(...);  // EarlyEventSink: "[HyFixes] Thread.stop() not supported, using interrupt()"
  *       tempThread.interrupt();
  *   }
  */
@@ -84,9 +84,7 @@ public class ThreadStopMethodVisitor extends MethodVisitor {
             mv.visitInsn(Opcodes.POP);
 
             // Log warning
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyFixes] Thread.stop() not supported on Java 21+, using interrupt() instead");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(mv, className, EarlyEventSink.THREAD_STOP_INTERRUPT);
 
             // Load thread from local variable and call interrupt()
             mv.visitVarInsn(Opcodes.ALOAD, threadLocalVar);
@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -30,10 +26,20 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/11">GitHub Issue #11</a>
  */
-public class TrackedPlacementTransformer implements ClassTransformer {
+public class TrackedPlacementTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.modules.interaction.blocktrack.TrackedPlacement$OnAddRemove";
 
+    @Override
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public String configKey() {
+        return "trackedPlacement";
+    }
+
     @Override
     public int priority() {
         // Standard priority
@@ -41,42 +47,22 @@ public class TrackedPlacementTransformer implements ClassTransformer {
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the TrackedPlacement$OnAddRemove inner class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("trackedPlacement")) {
-            info("TrackedPlacementTransformer DISABLED by config");
-            return classBytes;
-        }
-
+    public void announce() {
         separator();
         info("Transforming TrackedPlacement$OnAddRemove class...");
         verbose("Fixing BlockCounter decrement null check bug");
         verbose("Issue: https://github.com/John-Willikers/hyfixes/issues/11");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new TrackedPlacementVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("TrackedPlacement$OnAddRemove transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new TrackedPlacementVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform TrackedPlacement$OnAddRemove!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("TrackedPlacement$OnAddRemove transformation COMPLETE!");
+        return true;
     }
 }
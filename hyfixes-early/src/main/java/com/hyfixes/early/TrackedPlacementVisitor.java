@@ -22,26 +22,34 @@ import static com.hyfixes.early.EarlyLogger.*;
  *   if (reason != RemoveReason.REMOVE) return;
  *   TrackedPlacement tracked = commandBuffer.getComponent(ref, COMPONENT_TYPE);
  *   if (tracked == null) {
- *       System.out.println("[HyFixes-Early] WARNING: TrackedPlacement null on remove");
+ *       hyfixes$event(TRACKED_PLACEMENT_NULL);  // logged by EarlyEventSink
  *       return;
  *   }
  *   String blockName = tracked.blockName;
  *   if (blockName == null || blockName.isEmpty()) {
- *       System.out.println("[HyFixes-Early] WARNING: blockName null/empty on remove");
+ *       hyfixes$event(TRACKED_PLACEMENT_NO_BLOCK_NAME);
  *       return;
  *   }
  *   BlockCounter counter = commandBuffer.getResource(BLOCK_COUNTER_RESOURCE_TYPE);
  *   counter.untrackBlock(blockName);
- *   System.out.println("[HyFixes-Early] Decremented counter for: " + blockName);
+ *   hyfixes$event(BLOCK_COUNTER_DECREMENTED);
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/11">GitHub Issue #11</a>
  */
 public class TrackedPlacementVisitor extends ClassVisitor {
 
+    private String className;
+
     public TrackedPlacementVisitor(ClassVisitor cv) {
         super(Opcodes.ASM9, cv);
     }
 
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
     @Override
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
         MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
@@ -49,7 +57,7 @@ public class TrackedPlacementVisitor extends ClassVisitor {
         // Target: onEntityRemove(Ref, RemoveReason, Store, CommandBuffer)V
         if (name.equals("onEntityRemove") && descriptor.contains("RemoveReason")) {
             verbose("Found onEntityRemove method - replacing with null-safe version");
-            return new OnEntityRemoveMethodVisitor(mv);
+            return new OnEntityRemoveMethodVisitor(mv, className);
         }
 
         return mv;
@@ -61,10 +69,12 @@ public class TrackedPlacementVisitor extends ClassVisitor {
     private static class OnEntityRemoveMethodVisitor extends MethodVisitor {
 
         private final MethodVisitor target;
+        private final String owner;
 
-        public OnEntityRemoveMethodVisitor(MethodVisitor mv) {
+        public OnEntityRemoveMethodVisitor(MethodVisitor mv, String owner) {
             super(Opcodes.ASM9, null); // Don't pass to super - we're replacing entirely
             this.target = mv;
+            this.owner = owner;
         }
 
         @Override
@@ -188,20 +198,9 @@ public class TrackedPlacementVisitor extends ClassVisitor {
                 false);
 
             // ========================================
-            // Log success (for debugging)
+            // Record success (for debugging)
             // ========================================
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-
-            // Create the log message using StringBuilder
-            target.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder");
-            target.visitInsn(Opcodes.DUP);
-            target.visitLdcInsn("[HyFixes-Early] BlockCounter decremented for: ");
-            target.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "(Ljava/lang/String;)V", false);
-            target.visitVarInsn(Opcodes.ALOAD, 6);
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
-
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, owner, EarlyEventSink.BLOCK_COUNTER_DECREMENTED);
 
             // Jump to return
             target.visitJumpInsn(Opcodes.GOTO, returnLabel);
@@ -210,18 +209,14 @@ public class TrackedPlacementVisitor extends ClassVisitor {
             // trackedNullLabel: Log warning and return
             // ========================================
             target.visitLabel(trackedNullLabel);
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] WARNING: TrackedPlacement component was null on entity remove - BlockCounter not decremented");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, owner, EarlyEventSink.TRACKED_PLACEMENT_NULL);
             target.visitJumpInsn(Opcodes.GOTO, returnLabel);
 
             // ========================================
             // blockNameNullLabel: Log warning and return
             // ========================================
             target.visitLabel(blockNameNullLabel);
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] WARNING: TrackedPlacement.blockName was null/empty on entity remove - BlockCounter not decremented");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, owner, EarlyEventSink.TRACKED_PLACEMENT_NO_BLOCK_NAME);
 
             // ========================================
             // returnLabel: return;
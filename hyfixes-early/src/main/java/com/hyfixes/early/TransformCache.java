@@ -0,0 +1,201 @@
+package com.hyfixes.early;
+
+import com.google.gson.Gson;
+import com.hyfixes.early.config.EarlyConfigManager;
+import com.hyfixes.early.config.EarlyPluginConfig;
+import com.hypixel.hytale.plugin.early.ClassTransformer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hyfixes.early.EarlyLogger.*;
+
+/**
+ * Disk cache of transformed class bytes, stored under mods/hyfixes/cache/classes.
+ *
+ * Rewriting a class with COMPUTE_FRAMES makes ASM rebuild the stack map frames of every
+ * patched method and resolve common superclasses, which is the most expensive part of
+ * the early plugin's boot. The output depends on the input class bytes, the patch code, the
+ * config values the patches read and - through the frames and common superclasses ASM
+ * computes - the hierarchy of the other server classes the patched methods touch. So it is
+ * cached under a key hashed from all of them:
+ *
+ *   SHA-256(input class bytes | server build | patch set version | config flags | patch names)
+ *
+ * The server build is HytaleServer.jar's name, size and modification time (as in the
+ * runtime plugin's HytaleAccess fingerprint), so a server update invalidates every entry
+ * even for target classes whose own bytes did not change. The patch set version is the same
+ * for the early plugin jar, so any rebuild of the plugin invalidates every entry as well.
+ * A restart on an unchanged HytaleServer.jar and config only hashes the target classes and
+ * reads the cached output; no ASM work runs.
+ *
+ * File layout: magic, key (32 bytes), SHA-256 of the output (32 bytes), output length,
+ * output bytes. An entry is only used if the key matches and the output hash verifies.
+ */
+public final class TransformCache {
+
+    private static final Path CACHE_DIR = Paths.get("mods", "hyfixes", "cache", "classes");
+    private static final int MAGIC = 0x48594643; // "HYFC"
+    private static final int HASH_LENGTH = 32;
+    private static final int HEADER_LENGTH = 4 + HASH_LENGTH + HASH_LENGTH + 4;
+
+    private final byte[] serverBuild;
+    private final byte[] patchSetVersion;
+    private final byte[] configFlags;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public TransformCache(EarlyPluginConfig config) {
+        this.serverBuild = jarIdentity(ClassTransformer.class, "server").getBytes(StandardCharsets.UTF_8);
+        this.patchSetVersion = jarIdentity(TransformCache.class, "early plugin").getBytes(StandardCharsets.UTF_8);
+        // Everything a patch may read from config; logging settings do not change output
+        Gson gson = new Gson();
+        this.configFlags = (gson.toJson(config.transformers) + gson.toJson(config.world)
+                + gson.toJson(config.interactionTimeout)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the cache is turned on (early.transformCache in config.json).
+     */
+    public static boolean isEnabled() {
+        return EarlyConfigManager.getInstance().isTransformCacheEnabled();
+    }
+
+    /**
+     * Compute the cache key for a class and the patches that will run on it.
+     */
+    public byte[] key(byte[] classBytes, List<Patch> patches) {
+        MessageDigest digest = sha256();
+        digest.update(classBytes);
+        digest.update(serverBuild);
+        digest.update(patchSetVersion);
+        digest.update(configFlags);
+        for (Patch patch : patches) {
+            digest.update(patch.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Return the cached output for this key, or null if there is no valid entry.
+     */
+    public byte[] load(String className, byte[] key) {
+        Path file = fileFor(className);
+        if (!Files.isRegularFile(file)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try {
+            // Plain read, not a mapping: entries are a few KB, and a live mapping would
+            // keep the file locked on Windows until GC, failing store()'s atomic replace
+            byte[] entry = Files.readAllBytes(file);
+            int size = entry.length;
+            if (size < HEADER_LENGTH) {
+                misses.incrementAndGet();
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            byte[] storedKey = new byte[HASH_LENGTH];
+            byte[] storedHash = new byte[HASH_LENGTH];
+            if (buffer.getInt() != MAGIC) {
+                misses.incrementAndGet();
+                return null;
+            }
+            buffer.get(storedKey);
+            buffer.get(storedHash);
+            int length = buffer.getInt();
+            if (!Arrays.equals(storedKey, key) || length != size - HEADER_LENGTH) {
+                misses.incrementAndGet();
+                return null;
+            }
+            byte[] output = new byte[length];
+            buffer.get(output);
+            if (!MessageDigest.isEqual(storedHash, sha256().digest(output))) {
+                verbose("Cached transform for " + className + " failed verification, rebuilding");
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return output;
+        } catch (IOException e) {
+            verbose("Could not read cached transform for " + className + ": " + e.getMessage());
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Store the output for this key. Failures are logged and otherwise ignored.
+     */
+    public void store(String className, byte[] key, byte[] output) {
+        Path file = fileFor(className);
+        try {
+            Files.createDirectories(CACHE_DIR);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + output.length);
+            buffer.putInt(MAGIC);
+            buffer.put(key);
+            buffer.put(sha256().digest(output));
+            buffer.putInt(output.length);
+            buffer.put(output);
+
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, buffer.array());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            verbose("Could not cache transform for " + className + ": " + e.getMessage());
+        }
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private static Path fileFor(String className) {
+        return CACHE_DIR.resolve(className + ".bin");
+    }
+
+    /**
+     * Name, size and modification time of the jar the anchor class was loaded from.
+     */
+    private static String jarIdentity(Class<?> anchor, String description) {
+        try {
+            CodeSource source = anchor.getProtectionDomain().getCodeSource();
+            if (source != null && source.getLocation() != null) {
+                File jar = new File(source.getLocation().toURI());
+                if (jar.isFile()) {
+                    return jar.getName() + "|" + jar.length() + "|" + jar.lastModified();
+                }
+            }
+        } catch (Exception e) {
+            verbose("Could not locate " + description + " jar: " + e.getMessage());
+        }
+        // Not running from a jar (development) - fall back to something per-process
+        // so stale entries are never reused
+        return "dev|" + System.nanoTime();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.hyfixes.early;
+
+import com.hyfixes.early.config.EarlyConfigManager;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.util.CheckClassAdapter;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hyfixes.early.EarlyLogger.*;
+
+/**
+ * Optional self-check for rewritten classes (early.verifyTransforms in config.json).
+ *
+ * A broken patch normally shows up as a VerifyError when the server first loads the
+ * class, and a patch whose pattern stopped matching shows up as nothing at all. With
+ * verification on, the hub checks every class it rewrites before returning it:
+ *
+ * - CheckClassAdapter with data flow checking: structure, descriptors, labels, and
+ *   stack/local types per instruction (BasicVerifier - no class loading, so it is safe
+ *   to run while the server is still booting)
+ * - a per-method diff against the original: which methods changed, and how many
+ *   instructions and exception handlers each patch added to them
+ *
+ * A class that fails the check is logged and the original bytes are used instead. A class
+ * where no method changed is reported as a no-op. The per-method growth is a rough
+ * measure of what each fix adds to its hot paths, e.g. the getComponent() bounds check
+ * or the serverTick() wrapper.
+ */
+public final class TransformVerifier {
+
+    private TransformVerifier() {
+    }
+
+    /**
+     * Whether verification is turned on (early.verifyTransforms in config.json).
+     */
+    public static boolean isEnabled() {
+        return EarlyConfigManager.getInstance().isVerifyTransformsEnabled();
+    }
+
+    /**
+     * Verify a rewritten class and log what changed.
+     *
+     * @return true if the class passed and may be used
+     */
+    public static boolean verify(String className, byte[] originalBytes, byte[] transformedBytes, long transformNanos) {
+        try {
+            check(transformedBytes);
+        } catch (Throwable t) {
+            error("VERIFY FAILED for " + className + " - using original bytecode: " + t.getMessage());
+            return false;
+        }
+
+        List<MethodChange> changes = changedMethods(originalBytes, transformedBytes);
+        for (MethodChange change : changes) {
+            if (change.added()) {
+                info("  + " + change.key() + " (added: " + change.insns() + " insns)");
+            } else {
+                info("  ~ " + change.key() + ": " + change.originalInsns() + " -> " + change.insns() + " insns, "
+                        + change.originalHandlers() + " -> " + change.handlers() + " handlers");
+            }
+        }
+
+        if (changes.isEmpty()) {
+            error("VERIFY WARNING: " + className + " passed but no method changed - patch pattern may no longer match");
+        } else {
+            info("Verified " + className + ": " + changes.size() + " method(s) changed, transform took "
+                    + (transformNanos / 1000) + "us");
+        }
+        return true;
+    }
+
+    /**
+     * A method that differs between the original and rewritten class.
+     * originalInsns and originalHandlers are -1 for a method the rewrite added.
+     */
+    record MethodChange(String key, int originalInsns, int insns, int originalHandlers, int handlers) {
+
+        boolean added() {
+            return originalInsns < 0;
+        }
+    }
+
+    /**
+     * CheckClassAdapter with data flow checking.
+     *
+     * @throws RuntimeException describing the first problem found
+     */
+    static void check(byte[] classBytes) {
+        new ClassReader(classBytes).accept(new CheckClassAdapter(new ClassNode(), true), 0);
+    }
+
+    /**
+     * Methods that were added or whose instructions or exception handlers differ from the
+     * original, in class file order. The event bridge is left out.
+     */
+    static List<MethodChange> changedMethods(byte[] originalBytes, byte[] transformedBytes) {
+        Map<String, MethodNode> originalMethods = methods(originalBytes);
+        List<MethodChange> changes = new ArrayList<>();
+        for (MethodNode method : parse(transformedBytes).methods) {
+            if (method.name.equals(EarlyEvents.BRIDGE_NAME)) {
+                continue; // added to every rewritten class
+            }
+            String key = method.name + method.desc;
+            MethodNode original = originalMethods.get(key);
+            int insns = countInstructions(method);
+            int handlers = method.tryCatchBlocks.size();
+            if (original == null) {
+                changes.add(new MethodChange(key, -1, insns, -1, handlers));
+                continue;
+            }
+            int originalInsns = countInstructions(original);
+            int originalHandlers = original.tryCatchBlocks.size();
+            // Same size can still be a rewrite (e.g. a renamed call), so compare the code too
+            if (insns != originalInsns || handlers != originalHandlers || !text(method).equals(text(original))) {
+                changes.add(new MethodChange(key, originalInsns, insns, originalHandlers, handlers));
+            }
+        }
+        return changes;
+    }
+
+    private static ClassNode parse(byte[] classBytes) {
+        ClassNode node = new ClassNode();
+        new ClassReader(classBytes).accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return node;
+    }
+
+    private static Map<String, MethodNode> methods(byte[] classBytes) {
+        List<MethodNode> list = parse(classBytes).methods;
+        Map<String, MethodNode> map = new HashMap<>();
+        for (MethodNode method : list) {
+            map.put(method.name + method.desc, method);
+        }
+        return map;
+    }
+
+    // Real opcodes only - labels and line numbers are not instructions
+    private static int countInstructions(MethodNode method) {
+        int count = 0;
+        for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (insn.getOpcode() >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<Object> text(MethodNode method) {
+        Textifier textifier = new Textifier();
+        method.accept(new TraceMethodVisitor(textifier));
+        return textifier.getText();
+    }
+}
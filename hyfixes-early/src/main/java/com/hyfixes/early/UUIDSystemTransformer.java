@@ -1,9 +1,6 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
 
@@ -16,47 +13,37 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/28">GitHub Issue #28</a>
  */
-public class UUIDSystemTransformer implements ClassTransformer {
+public class UUIDSystemTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.storage.EntityStore$UUIDSystem";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the target class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
+    public String configKey() {
+        return "uuidSystem";
+    }
 
-        // Check if transformer is enabled
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("uuidSystem")) {
-            info("UUIDSystemTransformer DISABLED by config");
-            return classBytes;
-        }
+    @Override
+    public void announce() {
+        info("Transforming: " + TARGET_CLASS);
+    }
 
-        try {
-            info("Transforming: " + TARGET_CLASS);
-
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-
-            UUIDSystemVisitor visitor = new UUIDSystemVisitor(writer);
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            if (visitor.isTransformed()) {
-                info("UUIDSystem transformation COMPLETE!");
-                return writer.toByteArray();
-            } else {
-                error("WARNING: UUIDSystem transformation did not apply!");
-                return classBytes;
-            }
-        } catch (Exception e) {
-            error("Error transforming UUIDSystem: " + e.getMessage(), e);
-            return classBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new UUIDSystemVisitor(next);
+    }
+
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        if (((UUIDSystemVisitor) visitor).isTransformed()) {
+            info("UUIDSystem transformation COMPLETE!");
+            return true;
         }
+        error("WARNING: UUIDSystem transformation did not apply!");
+        return false;
     }
 }
@@ -52,10 +52,8 @@ public class UnloadImagesMethodVisitor extends MethodVisitor {
             mv.visitLabel(catchHandler);
             // Stack has the exception on it, we need to handle it
 
-            // Log warning: System.out.println("[HyFixes-Early] WARNING: Iterator corruption in WorldMapTracker.unloadImages() - recovered gracefully");
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyFixes-Early] WARNING: Iterator corruption in WorldMapTracker.unloadImages() - recovered gracefully (Issue #16)");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            // Record warning (printed by EarlyEventSink): "[HyFixes-Early] WARNING: Iterator corruption in WorldMapTracker.unloadImages() - recovered gracefully"
+            EarlyEvents.emit(mv, className, EarlyEventSink.MAP_UNLOAD_ITERATOR_CORRUPTION);
 
             // Pop the exception (it's still on the stack)
             // Actually we consumed it by not using it, but let's be safe
@@ -15,9 +15,17 @@ import org.objectweb.asm.Opcodes;
  *       throw new IllegalStateException("Player is already in a world");
  *   }
  *
- * The transformed code (Option A - Retry Loop):
+ * The transformed code:
  *   if (playerRef.getReference() != null) {
- *       // Race condition - wait for drain to complete (5 retries x 20ms = 100ms max)
+ *       // Hand the add to AddPlayerDeferral, which retries it on the world's executor
+ *       // every retryDelayMs until the drain completes - the calling thread never waits
+ *       try {
+ *           return AddPlayerDeferral.deferAddPlayer(this, playerRef, transform, b1, b2,
+ *                                                   retryDelayMs, retryCount * retryDelayMs);
+ *       } catch (Throwable t) {
+ *           // World not an Executor / not resolvable - fall back to the blocking retry loop below
+ *       }
+ *       // Fallback: wait for drain to complete (5 retries x 20ms = 100ms max)
  *       // Unrolled loop to avoid frame computation issues
  *       Thread.sleep(20); if (playerRef.getReference() == null) goto continue;
  *       Thread.sleep(20); if (playerRef.getReference() == null) goto continue;
@@ -27,13 +35,15 @@ import org.objectweb.asm.Opcodes;
  *       // Still not null after 100ms - throw original exception
  *       throw new IllegalStateException("Player is already in a world");
  *   continue:
- *       System.out.println("[HyFixes-Early] Race condition resolved");
+ *       hyfixes$event(...);  // EarlyEventSink: "[HyFixes-Early] Race condition resolved"
  *   }
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/7">GitHub Issue #7</a>
  */
 public class WorldAddPlayerMethodVisitor extends MethodVisitor {
 
+    private static final String DEFERRAL_CLASS = "com/hyfixes/early/AddPlayerDeferral";
+
     private final String className;
     private final MethodVisitor target;
 
@@ -77,10 +87,10 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
             // Single label for successful continuation
             Label retryContinue = new Label();
 
+            injectDeferral(playerRefSlot);
+
             // Log that we're entering retry mode
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] Player reference not null - waiting for drain (race condition handling)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.ADD_PLAYER_WAITING);
 
             // Unrolled retry loop - retryCount iterations x retryDelayMs each
             // No try-catch needed - we'll use LockSupport.parkNanos which doesn't throw
@@ -121,9 +131,7 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNULL, retryContinue);
 
             // Still not null after configured wait time - log failure and throw
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] Retry FAILED - player still in world after " + totalWaitMs + "ms, throwing exception");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.ADD_PLAYER_RETRY_FAILED, totalWaitMs);
 
             // Recreate and throw the exception
             target.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalStateException");
@@ -142,9 +150,7 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
             target.visitLabel(retryContinue);
 
             // Log success
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyFixes-Early] Race condition RESOLVED - player reference cleared during retry wait");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            EarlyEvents.emit(target, className, EarlyEventSink.ADD_PLAYER_RESOLVED);
 
             // Continue with normal method execution
             sawPlayerAlreadyInWorldString = false;
@@ -154,6 +160,44 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
         target.visitInsn(opcode);
     }
 
+    /**
+     * Emit: try { return AddPlayerDeferral.deferAddPlayer(this, args..., delay, maxWait); } catch (Throwable t) {}
+     * Falls through to the blocking retry loop if the call throws.
+     */
+    private void injectDeferral(int playerRefSlot) {
+        Label tryStart = new Label();
+        Label tryEnd = new Label();
+        Label catchHandler = new Label();
+        Label afterCatch = new Label();
+
+        target.visitTryCatchBlock(tryStart, tryEnd, catchHandler, "java/lang/Throwable");
+        target.visitLabel(tryStart);
+
+        // this, playerRef, transform, Boolean, Boolean
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        for (int slot = playerRefSlot; slot < playerRefSlot + 4; slot++) {
+            target.visitVarInsn(Opcodes.ALOAD, slot);
+        }
+        target.visitLdcInsn(retryDelayMs);
+        target.visitLdcInsn(retryCount * retryDelayMs);
+        target.visitMethodInsn(
+            Opcodes.INVOKESTATIC,
+            DEFERRAL_CLASS,
+            "deferAddPlayer",
+            "(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;JJ)Ljava/util/concurrent/CompletableFuture;",
+            false
+        );
+        target.visitInsn(Opcodes.ARETURN);
+        target.visitLabel(tryEnd);
+
+        // Deferral unavailable - swallow and continue into the retry loop
+        target.visitLabel(catchHandler);
+        target.visitInsn(Opcodes.POP);
+        target.visitLabel(afterCatch);
+
+        verbose("Injected non-blocking addPlayer deferral (blocking retry loop kept as fallback)");
+    }
+
     @Override
     public void visitLdcInsn(Object value) {
         // Detect the "Player is already in a world" string constant
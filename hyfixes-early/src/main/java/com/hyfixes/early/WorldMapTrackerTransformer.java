@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -31,50 +27,36 @@ import static com.hyfixes.early.EarlyLogger.*;
  *
  * GitHub Issue: https://github.com/John-Willikers/hyfixes/issues/16
  */
-public class WorldMapTrackerTransformer implements ClassTransformer {
+public class WorldMapTrackerTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.WorldMapTracker";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("worldMapTracker")) {
-            info("WorldMapTrackerTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "worldMapTracker";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming WorldMapTracker...");
         verbose("Fixing iterator corruption crash in unloadImages()");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new WorldMapTrackerVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("WorldMapTracker transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new WorldMapTrackerVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform WorldMapTracker!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("WorldMapTracker transformation COMPLETE!");
+        return true;
     }
 }
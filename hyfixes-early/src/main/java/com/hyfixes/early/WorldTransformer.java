@@ -1,9 +1,5 @@
 package com.hyfixes.early;
 
-import com.hyfixes.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyfixes.early.EarlyLogger.*;
@@ -24,62 +20,48 @@ import static com.hyfixes.early.EarlyLogger.*;
  * Error: java.lang.IllegalStateException: Player is already in a world
  * at com.hypixel.hytale.server.core.universe.world.World.addPlayer(World.java:1008)
  *
- * The Fix (Option A - Retry Loop):
- * Instead of immediately throwing, we inject a retry loop that waits up to 100ms
- * (20 retries × 5ms each) for the reference to be cleared by the drain operation.
- * If the reference clears, we log success and continue. If it doesn't clear after
- * all retries, we throw the original exception (indicating a real problem, not a race).
+ * The Fix:
+ * Instead of immediately throwing, the add is handed to AddPlayerDeferral,
+ * which retries it on the world's executor every retryDelayMs
+ * until the drain clears the reference (or retryCount x retryDelayMs passes, in which
+ * case the returned future fails with the original exception). The calling thread
+ * is never parked, so a burst of portal joins does not stall the world tick.
+ * If the world is not an Executor, the older blocking retry loop is used.
  *
  * This properly handles the race condition while still catching genuine errors.
  *
  * @see <a href="https://github.com/John-Willikers/hyfixes/issues/7">GitHub Issue #7</a>
  */
-public class WorldTransformer implements ClassTransformer {
+public class WorldTransformer implements Patch {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.World";
 
     @Override
-    public int priority() {
-        // High priority - we want this transformation to happen early
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the World class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("world")) {
-            info("WorldTransformer DISABLED by config");
-            return classBytes;
-        }
+    public String configKey() {
+        return "world";
+    }
 
+    @Override
+    public void announce() {
         separator();
         info("Transforming World class...");
-        verbose("Fixing addPlayer() race condition with retry loop (Issue #7)");
+        verbose("Fixing addPlayer() race condition with deferred retry (Issue #7)");
         separator();
+    }
 
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new WorldVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("World transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next, String className) {
+        return new WorldVisitor(next);
+    }
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform World!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+    @Override
+    public boolean complete(ClassVisitor visitor) {
+        info("World transformation COMPLETE!");
+        return true;
     }
 }
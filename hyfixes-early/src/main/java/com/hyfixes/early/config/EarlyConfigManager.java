@@ -156,6 +156,20 @@ public class EarlyConfigManager {
         return config.early.logging.verbose;
     }
 
+    /**
+     * Check if transformed classes should be cached on disk.
+     */
+    public boolean isTransformCacheEnabled() {
+        return config.early.transformCache;
+    }
+
+    /**
+     * Check if rewritten classes should be verified before they are handed to the server.
+     */
+    public boolean isVerifyTransformsEnabled() {
+        return config.early.verifyTransforms;
+    }
+
     // ============================================
     // World transformer settings
     // ============================================
@@ -56,6 +56,12 @@ public class EarlyPluginConfig {
      */
     public static class EarlyConfig {
         public EarlyLoggingConfig logging = new EarlyLoggingConfig();
+
+        /** Cache transformed classes under mods/hyfixes/cache/classes */
+        public boolean transformCache = true;
+
+        /** Verify every rewritten class and log per-method bytecode growth (diagnostics) */
+        public boolean verifyTransforms = false;
     }
 
     /**
@@ -75,5 +81,14 @@ public class EarlyPluginConfig {
 
         /** Multiplier applied to average ping */
         public double pingMultiplier = 3.0;
+
+        /** Use a per-connection smoothed RTT plus variance instead of the raw average ping */
+        public boolean adaptive = true;
+
+        /** Weight of the RTT variance in adaptive mode (k in SRTT * pingMultiplier + k * RTTVAR) */
+        public double rttVarianceMultiplier = 4.0;
+
+        /** Upper bound on the adaptive timeout in milliseconds */
+        public long maxTimeoutMs = 30000;
     }
 }
@@ -0,0 +1,113 @@
+package com.hyfixes.early;
+
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every patch in the hub against a stub of its target class.
+ *
+ * The stubs under src/test/java/com/hypixel/hytale reproduce only the code shape each
+ * patch matches on - method names and descriptors, string constants, the locals the
+ * injected code reads - so a visitor change that stops matching fails here rather than
+ * turning into a silent no-op on the server. For each patch the rewritten class must:
+ *
+ * - not be rejected by the patch's complete()
+ * - pass CheckClassAdapter with data flow checking, as with early.verifyTransforms
+ * - differ from the stub in every method the patch targets
+ * - load and initialize in its own class loader, i.e. pass the JVM's verifier as well
+ */
+class PatchStubTest {
+
+    // Methods each patch must rewrite in its stub
+    private static final Map<String, List<String>> PATCHED_METHODS = Map.ofEntries(
+        entry("com.hypixel.hytale.component.ArchetypeChunk",
+            List.of("<clinit>", "getComponent", "copySerializableEntity")),
+        entry("com.hypixel.hytale.component.CommandBuffer",
+            List.of("lambda$removeComponent$0")),
+        entry("com.hypixel.hytale.server.core.entity.InteractionChain",
+            List.of("putInteractionSyncData", "updateSyncPosition", "removeInteractionEntry")),
+        entry("com.hypixel.hytale.server.core.entity.InteractionManager",
+            List.of("serverTick", "onClientFinished")),
+        entry("com.hypixel.hytale.server.core.entity.LivingEntity",
+            List.of("setInventory")),
+        entry("com.hypixel.hytale.server.core.io.PacketHandler",
+            List.of("getOperationTimeoutThreshold")),
+        entry("com.hypixel.hytale.server.core.modules.interaction.blocktrack.TrackedPlacement$OnAddRemove",
+            List.of("onEntityRemove")),
+        entry("com.hypixel.hytale.server.core.universe.Universe",
+            List.of("lambda$removePlayer$0")),
+        entry("com.hypixel.hytale.server.core.universe.world.World",
+            List.of("addPlayer")),
+        entry("com.hypixel.hytale.server.core.universe.world.WorldMapTracker",
+            List.of("unloadImages")),
+        entry("com.hypixel.hytale.server.core.universe.world.chunk.BlockComponentChunk",
+            List.of("addEntityReference")),
+        entry("com.hypixel.hytale.server.core.universe.world.storage.EntityStore$UUIDSystem",
+            List.of("onEntityRemove")),
+        entry("com.hypixel.hytale.server.core.util.thread.TickingThread",
+            List.of("stop")),
+        entry("com.hypixel.hytale.server.npc.systems.SpawnReferenceSystems$BeaconAddRemoveSystem",
+            List.of("onEntityAdded")),
+        entry("com.hypixel.hytale.server.npc.systems.SpawnReferenceSystems$MarkerAddRemoveSystem",
+            List.of("onEntityRemove")),
+        entry("com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
+            List.of("createRandomSpawnJob")),
+        entry("com.hypixel.hytale.server.spawning.spawnmarkers.SpawnMarkerEntity",
+            List.of("<init>", "spawnNPC", "setNpcReferences")),
+        entry("com.hypixel.hytale.builtin.adventure.memories.interactions.SetMemoriesCapacityInteraction",
+            List.of("firstRun"))
+    );
+
+    static Stream<Arguments> patches() {
+        return Arrays.stream(HyFixesTransformerHub.PATCHES)
+            .map(patch -> Arguments.of(Named.of(patch.getClass().getSimpleName(), patch)));
+    }
+
+    @Test
+    void everyPatchHasAStub() {
+        for (Patch patch : HyFixesTransformerHub.PATCHES) {
+            assertTrue(PATCHED_METHODS.containsKey(patch.targetClass()),
+                "No stub expectations for " + patch.targetClass());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("patches")
+    void patchAppliesToStub(Patch patch) throws Exception {
+        String className = patch.targetClass();
+        byte[] original = StubClasses.read(className);
+
+        List<Patch> active = new ArrayList<>(List.of(patch));
+        byte[] transformed = HyFixesTransformerHub.rewrite(className, original, active);
+        assertNotNull(transformed, patch.getClass().getSimpleName() + " rejected its stub");
+        assertEquals(List.of(patch), active);
+
+        assertDoesNotThrow(() -> TransformVerifier.check(transformed), "CheckClassAdapter failed for " + className);
+
+        Set<String> changed = TransformVerifier.changedMethods(original, transformed).stream()
+            .map(change -> change.key().substring(0, change.key().indexOf('(')))
+            .collect(Collectors.toSet());
+        for (String method : PATCHED_METHODS.get(className)) {
+            assertTrue(changed.contains(method), className + "." + method + " was not rewritten (changed: " + changed + ")");
+        }
+
+        assertEquals(className, StubClasses.define(className, transformed).getName());
+    }
+}
@@ -0,0 +1,82 @@
+package com.hyfixes.early;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Access to the stub server classes in src/test/java/com/hypixel/hytale, as compiled
+ * or rewritten by the hub's patches, and loading either form into its own class loader.
+ */
+final class StubClasses {
+
+    private StubClasses() {
+    }
+
+    /**
+     * Class file of a stub, as compiled.
+     */
+    static byte[] read(String className) throws IOException {
+        String resource = className.replace('.', '/') + ".class";
+        try (InputStream in = StubClasses.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("No stub class " + resource);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Class file of a stub after every patch for it, in the order the hub runs them.
+     */
+    static byte[] patched(String className) throws IOException {
+        List<Patch> active = new ArrayList<>();
+        for (Patch patch : HyFixesTransformerHub.PATCHES) {
+            if (patch.targetClass().equals(className)) {
+                active.add(patch);
+            }
+        }
+        active.sort(Comparator.comparingInt(Patch::priority).reversed());
+        byte[] transformed = HyFixesTransformerHub.rewrite(className, read(className), active);
+        if (transformed == null) {
+            throw new IllegalStateException("Every patch for " + className + " was rejected");
+        }
+        return transformed;
+    }
+
+    /**
+     * Define a class from the given bytes in a new loader and initialize it, which makes
+     * the JVM verify it. Every other class still comes from the test class path.
+     */
+    static Class<?> define(String className, byte[] classBytes) throws ClassNotFoundException {
+        return Class.forName(className, true, new Loader(className, classBytes));
+    }
+
+    private static final class Loader extends ClassLoader {
+
+        private final String className;
+        private final byte[] classBytes;
+
+        Loader(String className, byte[] classBytes) {
+            super(StubClasses.class.getClassLoader());
+            this.className = className;
+            this.classBytes = classBytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = defineClass(name, classBytes, 0, classBytes.length);
+                }
+                return loaded;
+            }
+        }
+    }
+}
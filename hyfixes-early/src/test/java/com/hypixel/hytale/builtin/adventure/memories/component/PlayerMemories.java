@@ -0,0 +1,23 @@
+package com.hypixel.hytale.builtin.adventure.memories.component;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+
+public class PlayerMemories implements Component {
+
+    private static ComponentType componentType = new ComponentType(-1);
+
+    private int capacity;
+
+    public static ComponentType getComponentType() {
+        return componentType;
+    }
+
+    public static void setComponentType(ComponentType type) {
+        componentType = type;
+    }
+
+    public void setMemoriesCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hypixel.hytale.builtin.adventure.memories.interactions;
+
+import com.hypixel.hytale.builtin.adventure.memories.component.PlayerMemories;
+import com.hypixel.hytale.protocol.InteractionState;
+import com.hypixel.hytale.protocol.InteractionType;
+import com.hypixel.hytale.server.core.entity.InteractionContext;
+import com.hypixel.hytale.server.core.modules.interaction.interaction.CooldownHandler;
+
+/**
+ * Stub of SetMemoriesCapacityInteraction: firstRun() looks PlayerMemories up by a
+ * ComponentType that is invalid until the memories module has registered it.
+ */
+public class SetMemoriesCapacityInteraction {
+
+    private int capacity;
+
+    protected void firstRun(InteractionType type, InteractionContext context, CooldownHandler cooldownHandler) {
+        PlayerMemories memories = (PlayerMemories) context.getComponent(PlayerMemories.getComponentType());
+        memories.setMemoriesCapacity(capacity);
+        context.getState().state = InteractionState.Finished;
+    }
+}
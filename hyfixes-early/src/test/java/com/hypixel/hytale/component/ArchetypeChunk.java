@@ -0,0 +1,39 @@
+package com.hypixel.hytale.component;
+
+/**
+ * Stub of ArchetypeChunk: one component column per type, bounded by size().
+ * getComponent() with a stale index throws ArrayIndexOutOfBoundsException, as on the server.
+ */
+public class ArchetypeChunk {
+
+    private final Component[][] components;
+    private int entitiesSize;
+
+    public ArchetypeChunk(int componentTypes, int capacity) {
+        this.components = new Component[componentTypes][capacity];
+    }
+
+    public int size() {
+        return entitiesSize;
+    }
+
+    public void setComponent(int index, ComponentType componentType, Component component) {
+        components[componentType.getIndex()][index] = component;
+        if (index >= entitiesSize) {
+            entitiesSize = index + 1;
+        }
+    }
+
+    public Component getComponent(int index, ComponentType componentType) {
+        Component[] column = components[componentType.getIndex()];
+        return column[index];
+    }
+
+    public Component[] copySerializableEntity(int index) {
+        Component[] entity = new Component[components.length];
+        for (int i = 0; i < components.length; i++) {
+            entity[i] = components[i][index];
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hypixel.hytale.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stub of CommandBuffer: removeComponent() queues a lambda that calls
+ * Store.removeComponent(), which CommandBufferTransformer turns into tryRemoveComponent().
+ */
+public class CommandBuffer {
+
+    private final Store store;
+    private final List<Consumer<Store>> queue = new ArrayList<>();
+
+    public CommandBuffer(Store store) {
+        this.store = store;
+    }
+
+    public Component getComponent(Ref ref, ComponentType componentType) {
+        return store.getComponent(ref, componentType);
+    }
+
+    public Resource getResource(ResourceType resourceType) {
+        return store.getResource(resourceType);
+    }
+
+    public void removeComponent(Ref ref, ComponentType componentType) {
+        queue.add(chunk -> {
+            if (!ref.isValid()) {
+                return;
+            }
+            chunk.removeComponent(ref, componentType);
+        });
+    }
+
+    public void consume() {
+        for (Consumer<Store> command : queue) {
+            command.accept(store);
+        }
+        queue.clear();
+    }
+}
@@ -0,0 +1,4 @@
+package com.hypixel.hytale.component;
+
+public interface Component {
+}
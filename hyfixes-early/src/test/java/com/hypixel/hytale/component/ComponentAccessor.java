@@ -0,0 +1,6 @@
+package com.hypixel.hytale.component;
+
+public interface ComponentAccessor {
+
+    Component getComponent(Ref ref, ComponentType componentType);
+}
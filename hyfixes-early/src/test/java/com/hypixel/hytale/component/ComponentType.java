@@ -0,0 +1,18 @@
+package com.hypixel.hytale.component;
+
+public class ComponentType {
+
+    private final int index;
+
+    public ComponentType(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isValid() {
+        return index >= 0;
+    }
+}
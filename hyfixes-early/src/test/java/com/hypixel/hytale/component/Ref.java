@@ -0,0 +1,14 @@
+package com.hypixel.hytale.component;
+
+public class Ref {
+
+    private boolean valid = true;
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+}
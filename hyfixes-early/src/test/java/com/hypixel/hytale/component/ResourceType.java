@@ -0,0 +1,14 @@
+package com.hypixel.hytale.component;
+
+public class ResourceType {
+
+    private final int index;
+
+    public ResourceType(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+}
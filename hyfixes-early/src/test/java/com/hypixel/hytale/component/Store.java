@@ -0,0 +1,39 @@
+package com.hypixel.hytale.component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class Store implements ComponentAccessor {
+
+    private final Map<Ref, Map<ComponentType, Component>> components = new HashMap<>();
+    private final Map<ResourceType, Resource> resources = new HashMap<>();
+
+    @Override
+    public Component getComponent(Ref ref, ComponentType componentType) {
+        Map<ComponentType, Component> entity = components.get(ref);
+        return entity != null ? entity.get(componentType) : null;
+    }
+
+    public void putComponent(Ref ref, ComponentType componentType, Component component) {
+        components.computeIfAbsent(ref, k -> new HashMap<>()).put(componentType, component);
+    }
+
+    public void removeComponent(Ref ref, ComponentType componentType) {
+        if (!tryRemoveComponent(ref, componentType)) {
+            throw new IllegalArgumentException("Entity does not have component " + componentType.getIndex());
+        }
+    }
+
+    public boolean tryRemoveComponent(Ref ref, ComponentType componentType) {
+        Map<ComponentType, Component> entity = components.get(ref);
+        return entity != null && entity.remove(componentType) != null;
+    }
+
+    public Resource getResource(ResourceType resourceType) {
+        return resources.get(resourceType);
+    }
+
+    public void putResource(ResourceType resourceType, Resource resource) {
+        resources.put(resourceType, resource);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hypixel.hytale.math.vector;
+
+public class Transform {
+
+    public double x;
+    public double y;
+    public double z;
+}
@@ -0,0 +1,16 @@
+package com.hypixel.hytale.metrics.metric;
+
+public class HistoricMetric {
+
+    private double sum;
+    private long count;
+
+    public void add(double value) {
+        sum += value;
+        count++;
+    }
+
+    public double getAverage(int period) {
+        return count == 0 ? 0 : sum / count;
+    }
+}
@@ -0,0 +1,14 @@
+package com.hypixel.hytale.plugin.early;
+
+/**
+ * Stub of the early plugin loader's transformer interface, so the hub compiles and runs
+ * in tests without HytaleServer.jar.
+ */
+public interface ClassTransformer {
+
+    default int priority() {
+        return 0;
+    }
+
+    byte[] transform(String className, String packageName, byte[] classBytes);
+}
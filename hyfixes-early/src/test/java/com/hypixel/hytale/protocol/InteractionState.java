@@ -0,0 +1,7 @@
+package com.hypixel.hytale.protocol;
+
+public enum InteractionState {
+    NotFinished,
+    Finished,
+    Failed
+}
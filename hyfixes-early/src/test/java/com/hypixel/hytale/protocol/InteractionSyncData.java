@@ -0,0 +1,6 @@
+package com.hypixel.hytale.protocol;
+
+public class InteractionSyncData {
+
+    public InteractionState state = InteractionState.NotFinished;
+}
@@ -0,0 +1,7 @@
+package com.hypixel.hytale.protocol.packets.connection;
+
+public enum PongType {
+    Raw,
+    Direct,
+    Tick
+}
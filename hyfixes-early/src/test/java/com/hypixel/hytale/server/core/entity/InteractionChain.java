@@ -0,0 +1,74 @@
+package com.hypixel.hytale.server.core.entity;
+
+import com.hypixel.hytale.protocol.InteractionSyncData;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Stub of InteractionChain: the client sync buffer (tempSyncData, indexed from
+ * tempSyncDataOffset) and the strictly ordered interaction entries.
+ */
+public class InteractionChain {
+
+    private static final Logger LOGGER = Logger.getLogger(InteractionChain.class.getName());
+
+    private final List<InteractionSyncData> tempSyncData = new ArrayList<>();
+    private int tempSyncDataOffset;
+    private final Deque<Integer> interactionEntries = new ArrayDeque<>();
+    private final long timestamp;
+
+    public InteractionChain(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void putInteractionSyncData(int index, InteractionSyncData data) {
+        int adjustedIndex = index - tempSyncDataOffset;
+        if (adjustedIndex < 0) {
+            LOGGER.severe("Attempted to store sync data at " + index + " before offset " + tempSyncDataOffset);
+            return;
+        }
+        if (adjustedIndex < tempSyncData.size()) {
+            tempSyncData.set(adjustedIndex, data);
+        } else if (adjustedIndex == tempSyncData.size()) {
+            tempSyncData.add(data);
+        } else {
+            LOGGER.warning("Temp sync data gap at " + index);
+        }
+    }
+
+    public InteractionSyncData getInteractionSyncData(int index) {
+        int adjustedIndex = index - tempSyncDataOffset;
+        if (adjustedIndex < 0 || adjustedIndex >= tempSyncData.size()) {
+            return null;
+        }
+        return tempSyncData.get(adjustedIndex);
+    }
+
+    public void updateSyncPosition(int index) {
+        if (tempSyncDataOffset == index) {
+            tempSyncDataOffset = index + 1;
+        } else if (index > tempSyncDataOffset) {
+            throw new IllegalArgumentException("Temp sync data sent out of order: " + index + " " + tempSyncDataOffset);
+        }
+    }
+
+    public void addInteractionEntry(int index) {
+        interactionEntries.addLast(index);
+    }
+
+    public void removeInteractionEntry(int index) {
+        Integer first = interactionEntries.peekFirst();
+        if (first == null || first != index) {
+            throw new IllegalArgumentException("Trying to remove out of order");
+        }
+        interactionEntries.removeFirst();
+    }
+}
@@ -0,0 +1,27 @@
+package com.hypixel.hytale.server.core.entity;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentAccessor;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.protocol.InteractionSyncData;
+
+public class InteractionContext {
+
+    private final Ref entity;
+    private final ComponentAccessor accessor;
+    private final InteractionSyncData state = new InteractionSyncData();
+
+    public InteractionContext(Ref entity, ComponentAccessor accessor) {
+        this.entity = entity;
+        this.accessor = accessor;
+    }
+
+    public InteractionSyncData getState() {
+        return state;
+    }
+
+    public Component getComponent(ComponentType componentType) {
+        return accessor.getComponent(entity, componentType);
+    }
+}
@@ -0,0 +1,45 @@
+package com.hypixel.hytale.server.core.entity;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.protocol.InteractionSyncData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Stub of InteractionManager: serverTick() reads the client's sync data for the chain and
+ * throws once the client is too far behind; finishing early is logged at SEVERE.
+ */
+public class InteractionManager {
+
+    private static final Logger LOGGER = Logger.getLogger(InteractionManager.class.getName());
+    private static final long CLIENT_TIMEOUT_TICKS = 100;
+
+    private final List<InteractionChain> chains = new ArrayList<>();
+
+    public void addChain(InteractionChain chain) {
+        chains.add(chain);
+    }
+
+    public void cancelChains(InteractionChain chain) {
+        chains.remove(chain);
+    }
+
+    private InteractionSyncData serverTick(Ref ref, InteractionChain chain, long tick) {
+        InteractionSyncData clientData = chain.getInteractionSyncData(0);
+        if (clientData == null) {
+            if (tick - chain.getTimestamp() > CLIENT_TIMEOUT_TICKS) {
+                throw new RuntimeException("Client took too long to send clientData");
+            }
+            return null;
+        }
+        return clientData;
+    }
+
+    public void onClientFinished(InteractionChain chain) {
+        if (chains.contains(chain)) {
+            LOGGER.severe("Client finished chain earlier than server");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hypixel.hytale.server.core.entity;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+
+/**
+ * Stub of LivingEntity: setInventory() stores the inventory it is given as-is.
+ */
+public class LivingEntity {
+
+    private Inventory inventory;
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public Inventory setInventory(Inventory inventory) {
+        Inventory previous = this.inventory;
+        this.inventory = inventory;
+        return previous;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hypixel.hytale.server.core.entity;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+
+import java.util.UUID;
+
+public class UUIDComponent implements Component {
+
+    private static final ComponentType COMPONENT_TYPE = new ComponentType(0);
+
+    private final UUID uuid;
+
+    public UUIDComponent(UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    public static ComponentType getComponentType() {
+        return COMPONENT_TYPE;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+}
@@ -0,0 +1,6 @@
+package com.hypixel.hytale.server.core.entity.entities;
+
+import com.hypixel.hytale.server.core.entity.LivingEntity;
+
+public class Player extends LivingEntity {
+}
@@ -0,0 +1,17 @@
+package com.hypixel.hytale.server.core.entity.reference;
+
+import com.hypixel.hytale.component.ComponentAccessor;
+import com.hypixel.hytale.component.Ref;
+
+public class InvalidatablePersistentRef {
+
+    private Ref entity;
+
+    public void setEntity(Ref entity, ComponentAccessor accessor) {
+        this.entity = entity;
+    }
+
+    public Ref getEntity(ComponentAccessor accessor) {
+        return entity != null && entity.isValid() ? entity : null;
+    }
+}
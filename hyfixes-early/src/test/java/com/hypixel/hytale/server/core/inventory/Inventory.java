@@ -0,0 +1,4 @@
+package com.hypixel.hytale.server.core.inventory;
+
+public class Inventory {
+}
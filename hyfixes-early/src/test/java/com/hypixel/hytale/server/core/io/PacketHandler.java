@@ -0,0 +1,40 @@
+package com.hypixel.hytale.server.core.io;
+
+import com.hypixel.hytale.metrics.metric.HistoricMetric;
+import com.hypixel.hytale.protocol.packets.connection.PongType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stub of PacketHandler: the fixed operation timeout, 2x average ping + 3s.
+ */
+public class PacketHandler {
+
+    private final PingInfo[] pingInfo = new PingInfo[PongType.values().length];
+
+    public PacketHandler() {
+        for (int i = 0; i < pingInfo.length; i++) {
+            pingInfo[i] = new PingInfo();
+        }
+    }
+
+    public PingInfo getPingInfo(PongType pongType) {
+        return pingInfo[pongType.ordinal()];
+    }
+
+    public long getOperationTimeoutThreshold() {
+        double average = this.getPingInfo(PongType.Tick).getPingMetricSet().getAverage(0);
+        return PingInfo.TIME_UNIT.toMillis(Math.round(average * 2.0)) + 3000L;
+    }
+
+    public static class PingInfo {
+
+        public static final TimeUnit TIME_UNIT = TimeUnit.MICROSECONDS;
+
+        private final HistoricMetric pingMetricSet = new HistoricMetric();
+
+        public HistoricMetric getPingMetricSet() {
+            return pingMetricSet;
+        }
+    }
+}
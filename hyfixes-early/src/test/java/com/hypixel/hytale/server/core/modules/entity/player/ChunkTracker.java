@@ -0,0 +1,17 @@
+package com.hypixel.hytale.server.core.modules.entity.player;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class ChunkTracker {
+
+    private final Set<Long> loaded = new HashSet<>();
+
+    public void track(long chunkIndex) {
+        loaded.add(chunkIndex);
+    }
+
+    public void clear() {
+        loaded.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package com.hypixel.hytale.server.core.modules.interaction.blocktrack;
+
+import com.hypixel.hytale.component.Resource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class BlockCounter implements Resource {
+
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    public void trackBlock(String blockName) {
+        counts.merge(blockName, 1, Integer::sum);
+    }
+
+    public void untrackBlock(String blockName) {
+        counts.computeIfPresent(blockName, (name, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.hypixel.hytale.server.core.modules.interaction.blocktrack;
+
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+
+/**
+ * Stub of TrackedPlacement: OnAddRemove.onEntityRemove() asserts the component is
+ * present and untracks its block name.
+ */
+public class TrackedPlacement implements Component {
+
+    public String blockName;
+
+    public static class OnAddRemove {
+
+        public static final ComponentType COMPONENT_TYPE = new ComponentType(1);
+        public static final ResourceType BLOCK_COUNTER_RESOURCE_TYPE = new ResourceType(0);
+
+        public void onEntityRemove(Ref ref, RemoveReason reason, Store store, CommandBuffer commandBuffer) {
+            if (reason != RemoveReason.REMOVE) {
+                return;
+            }
+            TrackedPlacement tracked = (TrackedPlacement) commandBuffer.getComponent(ref, COMPONENT_TYPE);
+            assert tracked != null;
+            BlockCounter counter = (BlockCounter) commandBuffer.getResource(BLOCK_COUNTER_RESOURCE_TYPE);
+            counter.untrackBlock(tracked.blockName);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.hypixel.hytale.server.core.modules.interaction.interaction;
+
+public class CooldownHandler {
+}
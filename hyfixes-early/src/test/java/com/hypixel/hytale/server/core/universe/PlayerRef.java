@@ -0,0 +1,41 @@
+package com.hypixel.hytale.server.core.universe;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.modules.entity.player.ChunkTracker;
+
+import java.util.UUID;
+
+public class PlayerRef {
+
+    private final UUID uuid;
+    private final ChunkTracker chunkTracker = new ChunkTracker();
+    private Ref reference;
+
+    public PlayerRef(UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public Ref getReference() {
+        return reference;
+    }
+
+    public void setReference(Ref reference) {
+        this.reference = reference;
+    }
+
+    public ChunkTracker getChunkTracker() {
+        return chunkTracker;
+    }
+
+    public void removeFromStore() {
+        if (reference == null || !reference.isValid()) {
+            throw new IllegalStateException("Invalid entity reference!");
+        }
+        reference.invalidate();
+        reference = null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hypixel.hytale.server.core.universe;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Stub of Universe: removePlayer() removes the player's entity on the world executor,
+ * which throws IllegalStateException when the reference is already gone.
+ */
+public class Universe {
+
+    private final Map<UUID, PlayerRef> players = new ConcurrentHashMap<>();
+    private final Executor worldExecutor;
+
+    public Universe(Executor worldExecutor) {
+        this.worldExecutor = worldExecutor;
+    }
+
+    public void removePlayer(PlayerRef playerRef) {
+        players.remove(playerRef.getUuid());
+        worldExecutor.execute(() -> playerRef.removeFromStore());
+    }
+}
@@ -0,0 +1,27 @@
+package com.hypixel.hytale.server.core.universe.world;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of World: addPlayer() rejects a player whose old world has not released them yet.
+ */
+public class World {
+
+    private final List<PlayerRef> players = new ArrayList<>();
+
+    public CompletableFuture<PlayerRef> addPlayer(PlayerRef playerRef, Transform transform,
+                                                  Boolean firstJoin, Boolean announce) {
+        if (playerRef.getReference() != null) {
+            throw new IllegalStateException("Player is already in a world");
+        }
+        playerRef.setReference(new Ref());
+        players.add(playerRef);
+        return CompletableFuture.completedFuture(playerRef);
+    }
+}
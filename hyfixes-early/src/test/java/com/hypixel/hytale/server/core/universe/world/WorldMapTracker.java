@@ -0,0 +1,30 @@
+package com.hypixel.hytale.server.core.universe.world;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Stub of WorldMapTracker: unloadImages() drops map images outside the view radius
+ * while iterating the loaded set.
+ */
+public class WorldMapTracker {
+
+    private final Set<Long> loadedImages = new HashSet<>();
+
+    public void loadImage(int x, int z) {
+        loadedImages.add(((long) x << 32) | (z & 0xFFFFFFFFL));
+    }
+
+    public void unloadImages(int chunkX, int chunkZ, int viewRadius) {
+        Iterator<Long> iterator = loadedImages.iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.next();
+            int x = (int) (key >> 32);
+            int z = (int) key;
+            if (Math.abs(x - chunkX) > viewRadius || Math.abs(z - chunkZ) > viewRadius) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hypixel.hytale.server.core.universe.world.chunk;
+
+import com.hypixel.hytale.component.Ref;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stub of BlockComponentChunk: a second entity for the same block index throws.
+ */
+public class BlockComponentChunk {
+
+    private final Map<Integer, Ref> entityReferences = new HashMap<>();
+
+    public void addEntityReference(int index, Ref reference) {
+        if (entityReferences.containsKey(index)) {
+            throw new IllegalArgumentException("Duplicate block components at: " + index);
+        }
+        entityReferences.put(index, reference);
+    }
+}
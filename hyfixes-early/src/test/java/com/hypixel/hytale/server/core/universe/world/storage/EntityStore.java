@@ -0,0 +1,27 @@
+package com.hypixel.hytale.server.core.universe.world.storage;
+
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class EntityStore {
+
+    /**
+     * Stub of EntityStore.UUIDSystem: onEntityRemove() reads the UUID without a null check.
+     */
+    public static class UUIDSystem {
+
+        private final Map<UUID, Ref> uuidToEntity = new HashMap<>();
+
+        public void onEntityRemove(Ref ref, RemoveReason reason, Store store, CommandBuffer commandBuffer) {
+            UUIDComponent uuidComponent = (UUIDComponent) commandBuffer.getComponent(ref, UUIDComponent.getComponentType());
+            this.uuidToEntity.remove(uuidComponent.getUuid());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.hypixel.hytale.server.core.util.thread;
+
+/**
+ * Stub of TickingThread: stop() falls back to Thread.stop(), which throws
+ * UnsupportedOperationException on current JDKs.
+ */
+public class TickingThread {
+
+    private static final long STOP_TIMEOUT_MS = 1000;
+
+    private Thread thread;
+
+    public void start(Runnable tick) {
+        thread = new Thread(tick, "TickingThread");
+        thread.start();
+    }
+
+    // Thread.stop() is deprecated on 17 and deprecated for removal from 18 on
+    @SuppressWarnings({"deprecation", "removal"})
+    public void stop() {
+        Thread thread = this.thread;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.stop();
+        }
+        this.thread = null;
+    }
+}
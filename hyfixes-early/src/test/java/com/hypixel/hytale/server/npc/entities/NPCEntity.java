@@ -0,0 +1,23 @@
+package com.hypixel.hytale.server.npc.entities;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+
+public class NPCEntity implements Component {
+
+    private static final ComponentType COMPONENT_TYPE = new ComponentType(2);
+
+    private boolean despawn;
+
+    public static ComponentType getComponentType() {
+        return COMPONENT_TYPE;
+    }
+
+    public void setToDespawn() {
+        despawn = true;
+    }
+
+    public boolean isDespawning() {
+        return despawn;
+    }
+}
@@ -0,0 +1,66 @@
+package com.hypixel.hytale.server.npc.systems;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.reference.InvalidatablePersistentRef;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+import com.hypixel.hytale.server.spawning.beacons.LegacySpawnBeaconEntity;
+import com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController;
+import com.hypixel.hytale.server.spawning.spawnmarkers.SpawnMarkerEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SpawnReferenceSystems {
+
+    /**
+     * Stub of MarkerAddRemoveSystem: onEntityRemove() iterates the marker's npcReferences
+     * without a null check.
+     */
+    public static class MarkerAddRemoveSystem {
+
+        private final ComponentType markerComponentType = new ComponentType(3);
+
+        public void onEntityRemove(Ref ref, RemoveReason reason, Store store, CommandBuffer commandBuffer) {
+            SpawnMarkerEntity marker = (SpawnMarkerEntity) commandBuffer.getComponent(ref, markerComponentType);
+            InvalidatablePersistentRef[] npcReferences = marker.getNpcReferences();
+            for (InvalidatablePersistentRef npcReference : npcReferences) {
+                Ref npcRef = npcReference.getEntity(store);
+                if (npcRef != null) {
+                    npcRef.invalidate();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stub of BeaconAddRemoveSystem: onEntityAdded() uses the beacon's spawn controller
+     * without a null check. The NPC is in local 8, as in the server build.
+     */
+    public static class BeaconAddRemoveSystem {
+
+        private final ComponentType beaconComponentType = new ComponentType(4);
+        private final Map<Ref, Ref> beaconReferences = new HashMap<>();
+
+        public void onEntityAdded(Ref ref, AddReason reason, Store store, CommandBuffer commandBuffer) {
+            Ref beaconRef = beaconReferences.get(ref);                                       // 5
+            if (beaconRef == null) {
+                return;
+            }
+            LegacySpawnBeaconEntity legacySpawnBeaconEntity =
+                (LegacySpawnBeaconEntity) commandBuffer.getComponent(beaconRef, beaconComponentType);  // 6
+            ComponentType npcComponentType = NPCEntity.getComponentType();                   // 7
+            NPCEntity npcEntity = (NPCEntity) commandBuffer.getComponent(ref, npcComponentType);       // 8
+            BeaconSpawnController spawnController = legacySpawnBeaconEntity.getSpawnController();
+            if (!spawnController.hasSlots()) {
+                npcEntity.setToDespawn();
+                return;
+            }
+            spawnController.createRandomSpawnJob(store);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.hypixel.hytale.server.spawning.assets.spawns.config;
+
+public class RoleSpawnParameters {
+
+    private final String id;
+
+    public RoleSpawnParameters(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.hypixel.hytale.server.spawning.beacons;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController;
+
+public class LegacySpawnBeaconEntity implements Component {
+
+    private BeaconSpawnController spawnController;
+
+    public BeaconSpawnController getSpawnController() {
+        return spawnController;
+    }
+
+    public void setSpawnController(BeaconSpawnController spawnController) {
+        this.spawnController = spawnController;
+    }
+}
@@ -0,0 +1,38 @@
+package com.hypixel.hytale.server.spawning.controllers;
+
+import com.hypixel.hytale.component.ComponentAccessor;
+import com.hypixel.hytale.server.spawning.assets.spawns.config.RoleSpawnParameters;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Stub of BeaconSpawnController: createRandomSpawnJob() uses the random spawn without
+ * checking it, and a beacon with no spawns configured yields null.
+ */
+public class BeaconSpawnController {
+
+    private final List<RoleSpawnParameters> spawns;
+    private final Random random = new Random();
+    private final int maxSlots;
+    private int usedSlots;
+
+    public BeaconSpawnController(List<RoleSpawnParameters> spawns, int maxSlots) {
+        this.spawns = spawns;
+        this.maxSlots = maxSlots;
+    }
+
+    public boolean hasSlots() {
+        return usedSlots < maxSlots;
+    }
+
+    public String createRandomSpawnJob(ComponentAccessor accessor) {
+        RoleSpawnParameters spawn = getRandomSpawn(accessor);
+        usedSlots++;
+        return spawn.getId();
+    }
+
+    private RoleSpawnParameters getRandomSpawn(ComponentAccessor accessor) {
+        return spawns.isEmpty() ? null : spawns.get(random.nextInt(spawns.size()));
+    }
+}
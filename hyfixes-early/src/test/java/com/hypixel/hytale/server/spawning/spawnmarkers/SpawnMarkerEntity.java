@@ -0,0 +1,66 @@
+package com.hypixel.hytale.server.spawning.spawnmarkers;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.reference.InvalidatablePersistentRef;
+import com.hypixel.hytale.server.spawning.assets.spawns.config.RoleSpawnParameters;
+
+/**
+ * Stub of SpawnMarkerEntity: npcReferences starts out null, and spawnNPC() only fills it
+ * for markers with a stored flock.
+ */
+public class SpawnMarkerEntity implements Component {
+
+    private static final long TIMEOUT_NANOS = 30_000_000_000L;
+
+    private InvalidatablePersistentRef[] npcReferences;
+    private Ref storedFlock;
+    private double x;
+    private double y;
+    private double z;
+    private double spawnRadius;
+    private long timeoutNanos;
+
+    public SpawnMarkerEntity() {
+        this.timeoutNanos = 0;
+    }
+
+    public InvalidatablePersistentRef[] getNpcReferences() {
+        return npcReferences;
+    }
+
+    public void setNpcReferences(InvalidatablePersistentRef[] npcReferences) {
+        this.npcReferences = npcReferences;
+    }
+
+    public void refreshTimeout() {
+        timeoutNanos = System.nanoTime() + TIMEOUT_NANOS;
+    }
+
+    public boolean spawnNPC(Ref markerRef, RoleSpawnParameters spawn, Store store) {
+        // Locals are declared so the spawned NPC's Ref lands in slot 23, where
+        // SpawnNPCMethodVisitor expects it (locals 0-3 are this and the arguments)
+        double spawnX = x;                  // 4-5
+        double spawnY = y;                  // 6-7
+        double spawnZ = z;                  // 8-9
+        double yaw = 0;                     // 10-11
+        double pitch = 0;                   // 12-13
+        double roll = 0;                    // 14-15
+        double radius = spawnRadius;        // 16-17
+        double minDistance = radius / 2;    // 18-19
+        double maxDistance = radius * 2;    // 20-21
+        int attempts = 1;                   // 22
+        Ref npcRef = new Ref();             // 23
+        if (spawn == null || spawnX + spawnY + spawnZ + yaw + pitch + roll > maxDistance * minDistance * attempts) {
+            return false;
+        }
+        if (this.storedFlock != null) {
+            InvalidatablePersistentRef reference = new InvalidatablePersistentRef();
+            reference.setEntity(npcRef, store);
+            this.npcReferences = new InvalidatablePersistentRef[] { reference };
+        }
+        this.refreshTimeout();
+        return true;
+    }
+}
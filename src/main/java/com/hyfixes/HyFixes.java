@@ -23,6 +23,7 @@ import com.hyfixes.listeners.RespawnBlockSanitizer;
 import com.hyfixes.listeners.DefaultWorldRecoverySanitizer;
 import com.hyfixes.listeners.SpawnBeaconSanitizer;
 import com.hyfixes.listeners.ChunkTrackerSanitizer;
+import com.hyfixes.listeners.RefInvalidationBus;
 import com.hyfixes.listeners.InstanceTeleportSanitizer;
 import com.hyfixes.listeners.TeleporterProtectionListener;
 import com.hyfixes.listeners.RespawnBlockProtectionListener;
@@ -31,6 +32,10 @@ import com.hyfixes.systems.ChunkProtectionRegistry;
 import com.hyfixes.systems.ChunkProtectionScanner;
 import com.hyfixes.systems.ChunkUnloadManager;
 import com.hyfixes.systems.InteractionChainMonitor;
+import com.hyfixes.systems.PlayerSanitizerSystem;
+import com.hyfixes.systems.TickClock;
+import com.hyfixes.util.HytaleAccess;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.hypixel.hytale.server.core.universe.Universe;
@@ -82,6 +87,8 @@ public class HyFixes extends JavaPlugin {
     private TeleporterProtectionListener teleporterProtectionListener;
     private RespawnBlockProtectionListener respawnBlockProtectionListener;
     private BedChunkDatabase bedChunkDatabase;
+    private RefInvalidationBus refInvalidationBus;
+    private PlayerSanitizerSystem playerSanitizerSystem;
 
     public HyFixes(@Nonnull JavaPluginInit init) {
         super(init);
@@ -104,6 +111,9 @@ public class HyFixes extends JavaPlugin {
             getLogger().at(Level.INFO).log("[CONFIG] Environment variable overrides applied");
         }
 
+        // Load cached reflection resolutions for this server build before any fix discovers APIs
+        HytaleAccess.load(Player.class);
+
         // Register bug fix systems
         registerBugFixes();
 
@@ -113,6 +123,22 @@ public class HyFixes extends JavaPlugin {
     private void registerBugFixes() {
         ConfigManager config = ConfigManager.getInstance();
 
+        // Shared: records entity refs invalidated by removal/disconnect so the
+        // ref-checking sanitizers below only sweep after something actually changed.
+        // Only needed when one of them is enabled - they fall back to their own checks without it
+        if (config.isSanitizerEnabled("chunkTracker") || config.isSanitizerEnabled("gatherObjective")) {
+            refInvalidationBus = new RefInvalidationBus(this);
+            refInvalidationBus.register();
+            getEntityStoreRegistry().registerSystem(refInvalidationBus);
+        }
+
+        // Shared: per-world tick numbers for the systems that spread their work over ticks
+        getEntityStoreRegistry().registerSystem(TickClock.getInstance());
+
+        // Shared: the per-player checks below are added to this single system
+        // and it is registered once at the end instead of each check on its own
+        playerSanitizerSystem = new PlayerSanitizerSystem(this);
+
         // Fix 1: Pickup item null targetRef crash
         // Hytale's PickupItemSystem.tick() crashes if getTargetRef() returns null
         if (config.isSanitizerEnabled("pickupItem")) {
@@ -173,7 +199,7 @@ public class HyFixes extends JavaPlugin {
             // Fix 6b: Main-thread chunk cleanup system (v1.2.2)
             // Runs cleanup methods on the main server thread to avoid InvocationTargetException
             chunkCleanupSystem = new ChunkCleanupSystem(this);
-            getEntityStoreRegistry().registerSystem(chunkCleanupSystem);
+            playerSanitizerSystem.addEveryTick(chunkCleanupSystem);
             getLogger().at(Level.INFO).log("[FIX] ChunkCleanupSystem registered - runs cleanup on main thread");
             
             // Fix 6c: Chunk protection system (v1.4.2)
@@ -254,7 +280,7 @@ public class HyFixes extends JavaPlugin {
         // Validates refs in quest objectives before they can crash
         if (config.isSanitizerEnabled("gatherObjective")) {
             gatherObjectiveTaskSanitizer = new GatherObjectiveTaskSanitizer(this);
-            getEntityStoreRegistry().registerSystem(gatherObjectiveTaskSanitizer);
+            playerSanitizerSystem.add(gatherObjectiveTaskSanitizer, gatherObjectiveTaskSanitizer::getFixedCount);
             getLogger().at(Level.INFO).log("[FIX] GatherObjectiveTaskSanitizer registered - prevents crash from null refs in quest objectives");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] GatherObjectiveTaskSanitizer - disabled via config");
@@ -273,14 +299,16 @@ public class HyFixes extends JavaPlugin {
         // Fix 9: InteractionChain monitoring (v1.3.0)
         // Tracks unfixable Hytale bugs for reporting to developers
         interactionChainMonitor = new InteractionChainMonitor(this);
-        getEntityStoreRegistry().registerSystem(interactionChainMonitor);
+        playerSanitizerSystem.addEveryTick(interactionChainMonitor);
         getLogger().at(Level.INFO).log("[MON] InteractionChainMonitor registered - tracks HyFixes statistics");
 
         // Fix 10: CraftingManager bench already set crash (v1.3.1)
         // Clears stale bench references before they cause IllegalArgumentException
         if (config.isSanitizerEnabled("craftingManager")) {
             craftingManagerSanitizer = new CraftingManagerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(craftingManagerSanitizer);
+            // Every tick: it tracks window flips, and a sampled observer would miss short open/close cycles
+            playerSanitizerSystem.addEveryTick(craftingManagerSanitizer);
+            getChunkStoreRegistry().registerSystem(craftingManagerSanitizer.getBenchRemovalListener());
             getLogger().at(Level.INFO).log("[FIX] CraftingManagerSanitizer registered - prevents bench already set crash");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] CraftingManagerSanitizer - disabled via config");
@@ -291,7 +319,8 @@ public class HyFixes extends JavaPlugin {
         // Validates interaction chains and removes ones with null context before they cause NPE
         if (config.isSanitizerEnabled("interactionManager")) {
             interactionManagerSanitizer = new InteractionManagerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(interactionManagerSanitizer);
+            // Every tick: stuck chains must be cancelled before the client's 2000ms timeout
+            playerSanitizerSystem.addEveryTick(interactionManagerSanitizer);
             getLogger().at(Level.INFO).log("[FIX] InteractionManagerSanitizer registered - prevents crafttable interaction crash");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] InteractionManagerSanitizer - disabled via config");
@@ -303,6 +332,7 @@ public class HyFixes extends JavaPlugin {
         if (config.isSanitizerEnabled("spawnBeacon")) {
             spawnBeaconSanitizer = new SpawnBeaconSanitizer(this);
             getEntityStoreRegistry().registerSystem(spawnBeaconSanitizer);
+            getEntityStoreRegistry().registerSystem(spawnBeaconSanitizer.getReassignmentCheck());
             getLogger().at(Level.INFO).log("[FIX] SpawnBeaconSanitizer registered - prevents spawn beacon null parameter crash");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] SpawnBeaconSanitizer - disabled via config");
@@ -330,7 +360,8 @@ public class HyFixes extends JavaPlugin {
         // Prevents world crash when ChunkTracker has invalid PlayerRefs after player disconnect
         if (config.isSanitizerEnabled("chunkTracker")) {
             chunkTrackerSanitizer = new ChunkTrackerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(chunkTrackerSanitizer);
+            // Every tick: it sweeps a world only while the RefInvalidationBus has a player delta for it
+            playerSanitizerSystem.addEveryTick(chunkTrackerSanitizer);
             getLogger().at(Level.INFO).log("[FIX] ChunkTrackerSanitizer registered - prevents chunk unload crash after player disconnect");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] ChunkTrackerSanitizer - disabled via config");
@@ -346,6 +377,10 @@ public class HyFixes extends JavaPlugin {
         // instanceTeleportSanitizer.register();
         getLogger().at(Level.INFO).log("[DISABLED] InstanceTeleportSanitizer - race condition cannot be safely fixed at plugin level");
 
+        // Register the combined per-player system now that every check has been added
+        getEntityStoreRegistry().registerSystem(playerSanitizerSystem);
+        getLogger().at(Level.INFO).log("[SYS] PlayerSanitizerSystem registered - " + playerSanitizerSystem.getCheckCount() + " per-player check(s) in one pass");
+
         // Register admin commands
         registerCommands();
     }
@@ -370,6 +405,9 @@ public class HyFixes extends JavaPlugin {
 
     @Override
     protected void shutdown() {
+        // Persist reflection resolutions made this run
+        HytaleAccess.save();
+
         // Stop the chunk unload manager
         if (chunkUnloadManager != null) {
             chunkUnloadManager.stop();
@@ -459,6 +497,20 @@ public class HyFixes extends JavaPlugin {
         return spawnBeaconSanitizer;
     }
 
+    /**
+     * Get the PlayerSanitizerSystem for commands and status.
+     */
+    public PlayerSanitizerSystem getPlayerSanitizerSystem() {
+        return playerSanitizerSystem;
+    }
+
+    /**
+     * Get the RefInvalidationBus shared by the ref-checking sanitizers, or null if none of them is enabled.
+     */
+    public RefInvalidationBus getRefInvalidationBus() {
+        return refInvalidationBus;
+    }
+
     /**
      * Get the ChunkTrackerSanitizer for commands and status.
      */
@@ -12,7 +12,9 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.Message;
 import com.hyfixes.util.ChatColorUtil;
+import com.hyfixes.util.HytaleAccess;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -49,9 +51,9 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
     // InteractionManager access
     @SuppressWarnings("rawtypes")
     private ComponentType interactionManagerType = null;
-    private Method getChainsMethod = null;
-    private Field contextField = null;
-    private Field targetEntityRefField = null;
+    private MethodHandle getChains = null;        // (Object)Object
+    private MethodHandle contextGetter = null;    // (Object)Object
+    private MethodHandle targetEntityRefGetter = null;  // (Object)Object
 
     public CleanInteractionsCommand(HyFixes plugin) {
         super("cleaninteractions", "hyfixes.command.cleaninteractions.desc");
@@ -610,41 +612,37 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
             plugin.getLogger().at(Level.INFO).log("[CleanInteractions] Discovering API...");
 
             // Get InteractionManager component type
-            Class<?> interactionModuleClass = Class.forName("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
-            Method getModuleMethod = interactionModuleClass.getMethod("get");
-            Object interactionModule = getModuleMethod.invoke(null);
-            Method getComponentTypeMethod = interactionModuleClass.getMethod("getInteractionManagerComponent");
-            interactionManagerType = (ComponentType) getComponentTypeMethod.invoke(interactionModule);
+            Class<?> interactionModuleClass = HytaleAccess.findClass("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
+            Object interactionModule = HytaleAccess.invokeStatic(interactionModuleClass, "get");
+            MethodHandle getComponentType = HytaleAccess.getter(interactionModuleClass, "getInteractionManagerComponent");
+            if (interactionModule == null || getComponentType == null) {
+                throw new IllegalStateException("InteractionModule not found");
+            }
+            interactionManagerType = (ComponentType) (Object) getComponentType.invokeExact(interactionModule);
 
             // Get InteractionManager.getChains()
-            Class<?> interactionManagerClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionManager");
-            getChainsMethod = interactionManagerClass.getMethod("getChains");
+            Class<?> interactionManagerClass = HytaleAccess.findClass("com.hypixel.hytale.server.core.entity.InteractionManager");
+            getChains = HytaleAccess.getter(interactionManagerClass, "getChains");
 
             // Get InteractionChain.context
-            Class<?> interactionChainClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain");
-            contextField = interactionChainClass.getDeclaredField("context");
-            contextField.setAccessible(true);
-
-            // Try to find InteractionContext fields for target entity
-            Class<?> interactionContextClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionContext");
+            Class<?> interactionChainClass = HytaleAccess.findClass("com.hypixel.hytale.server.core.entity.InteractionChain");
+            contextGetter = HytaleAccess.fieldGetter(interactionChainClass, "context");
+            if (getChains == null || contextGetter == null) {
+                throw new IllegalStateException("InteractionManager.getChains() or InteractionChain.context not found");
+            }
 
-            // Look for target entity ref field
-            String[] refFieldNames = {"targetEntity", "targetEntityRef", "target", "targetRef", "interactingWith"};
-            for (String fieldName : refFieldNames) {
-                try {
-                    targetEntityRefField = interactionContextClass.getDeclaredField(fieldName);
-                    targetEntityRefField.setAccessible(true);
-                    plugin.getLogger().at(Level.INFO).log("[CleanInteractions] Found target entity field: " + fieldName);
-                    break;
-                } catch (NoSuchFieldException e) {
-                    // Try next
-                }
+            // Look for target entity ref field on InteractionContext
+            Class<?> interactionContextClass = HytaleAccess.findClass("com.hypixel.hytale.server.core.entity.InteractionContext");
+            targetEntityRefGetter = HytaleAccess.fieldGetter(interactionContextClass,
+                    "targetEntity", "targetEntityRef", "target", "targetRef", "interactingWith");
+            if (targetEntityRefGetter != null) {
+                plugin.getLogger().at(Level.INFO).log("[CleanInteractions] Found target entity field");
             }
 
             initialized = true;
             plugin.getLogger().at(Level.INFO).log("[CleanInteractions] API discovery successful!");
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             plugin.getLogger().at(Level.WARNING).log("[CleanInteractions] API discovery failed: " + e.getMessage());
             e.printStackTrace();
             initFailed = true;
@@ -664,7 +662,7 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
             Object interactionManager = store.getComponent(playerRef, interactionManagerType);
             if (interactionManager != null) {
                 @SuppressWarnings("unchecked")
-                Map<Integer, Object> chains = (Map<Integer, Object>) getChainsMethod.invoke(interactionManager);
+                Map<Integer, Object> chains = (Map<Integer, Object>) (Object) getChains.invokeExact(interactionManager);
 
                 if (chains != null && !chains.isEmpty()) {
                     List<Integer> toRemove = new ArrayList<>();
@@ -680,7 +678,7 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
                             continue;
                         }
 
-                        Object context = contextField.get(chain);
+                        Object context = (Object) contextGetter.invokeExact(chain);
                         if (context == null) {
                             orphansFound++;
                             toRemove.add(entry.getKey());
@@ -689,9 +687,9 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
                         }
 
                         // Check if target entity ref is valid
-                        if (targetEntityRefField != null) {
+                        if (targetEntityRefGetter != null) {
                             try {
-                                Object targetRef = targetEntityRefField.get(context);
+                                Object targetRef = (Object) targetEntityRefGetter.invokeExact(context);
                                 if (targetRef instanceof Ref) {
                                     Ref<?> tRef = (Ref<?>) targetRef;
                                     if (!tRef.isValid()) {
@@ -700,7 +698,7 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
                                         orphanDetails.add("Chain " + entry.getKey() + " (invalid target ref)");
                                     }
                                 }
-                            } catch (Exception e) {
+                            } catch (Throwable e) {
                                 // Ignore field access errors
                             }
                         }
@@ -746,7 +744,7 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
                 sendMessage(player, "&7  2. The ghost may be a client-side artifact");
             }
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             sendMessage(player, "&c[HyFixes] Error during scan: " + e.getMessage());
             plugin.getLogger().at(Level.WARNING).log("[CleanInteractions] Scan error: " + e.getMessage());
             e.printStackTrace();
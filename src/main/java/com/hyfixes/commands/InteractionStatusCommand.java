@@ -11,6 +11,7 @@ import com.hyfixes.listeners.InstanceTeleportSanitizer;
 import com.hyfixes.systems.ChunkCleanupSystem;
 import com.hyfixes.systems.ChunkUnloadManager;
 import com.hyfixes.systems.InteractionChainMonitor;
+import com.hyfixes.systems.PlayerSanitizerSystem;
 import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
@@ -21,6 +22,7 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
 import com.hyfixes.util.ChatColorUtil;
+import com.hyfixes.util.HytaleAccess;
 
 /**
  * Command: /interactionstatus (alias: /hyfixstatus, /hfs)
@@ -91,6 +93,18 @@ public class InteractionStatusCommand extends AbstractPlayerCommand {
 
         sendMessage(player, "");
 
+        // PlayerSanitizerSystem scheduling status
+        PlayerSanitizerSystem playerSanitizerSystem = plugin.getPlayerSanitizerSystem();
+        if (playerSanitizerSystem != null) {
+            sendMessage(player, "&6--- Per-Player Sanitizer Scheduling ---");
+            String status = playerSanitizerSystem.getStatus();
+            for (String line : status.split("\n")) {
+                sendMessage(player, "&7" + line);
+            }
+        }
+
+        sendMessage(player, "");
+
         // GatherObjectiveTaskSanitizer status
         GatherObjectiveTaskSanitizer objectiveSanitizer = plugin.getGatherObjectiveTaskSanitizer();
         if (objectiveSanitizer != null) {
@@ -212,6 +226,14 @@ public class InteractionStatusCommand extends AbstractPlayerCommand {
 
         sendMessage(player, "");
 
+        // Shared reflection layer status
+        sendMessage(player, "&6--- Reflection Cache ---");
+        for (String line : HytaleAccess.getStatus().split("\n")) {
+            sendMessage(player, "&7" + line);
+        }
+
+        sendMessage(player, "");
+
         // Known unfixable bugs section
         sendMessage(player, "&6--- Known Unfixable Hytale Bugs ---");
         sendMessage(player, "&7These require fixes from Hytale developers:");
@@ -354,6 +354,22 @@ public class ConfigManager {
         return config.interactionManager.clientTimeoutMs;
     }
 
+    // ============================================
+    // Sanitizer scheduling settings
+    // ============================================
+
+    public boolean isSanitizerSchedulingAdaptive() {
+        return config.sanitizerScheduling.adaptive;
+    }
+
+    public int getSanitizerSampleIntervalTicks() {
+        return config.sanitizerScheduling.sampleIntervalTicks;
+    }
+
+    public int getSanitizerEscalationTicks() {
+        return config.sanitizerScheduling.escalationTicks;
+    }
+
     // ============================================
     // Instance tracker settings
     // ============================================
@@ -382,6 +398,10 @@ public class ConfigManager {
         return config.emptyArchetype.logEveryN;
     }
 
+    public int getEmptyArchetypeScanIntervalTicks() {
+        return config.emptyArchetype.scanIntervalTicks;
+    }
+
     // ============================================
     // World transformer settings
     // ============================================
@@ -22,6 +22,9 @@ public class HyFixesConfig {
     
     // Interaction manager settings
     public InteractionManagerConfig interactionManager = new InteractionManagerConfig();
+
+    /** Scheduling of the per-player sanitizers */
+    public SanitizerSchedulingConfig sanitizerScheduling = new SanitizerSchedulingConfig();
     
     // Instance tracker settings
     public InstanceTrackerConfig instanceTracker = new InstanceTrackerConfig();
@@ -112,6 +115,15 @@ public class HyFixesConfig {
         public long clientTimeoutMs = 2000;
     }
 
+    /**
+     * Per-player sanitizer scheduling configuration
+     */
+    public static class SanitizerSchedulingConfig {
+        public boolean adaptive = true;
+        public int sampleIntervalTicks = 40; // each player checked every 2 seconds while idle
+        public int escalationTicks = 600;    // check every tick for 30 seconds after a fix
+    }
+
     /**
      * Instance tracker configuration
      */
@@ -132,6 +144,7 @@ public class HyFixesConfig {
     public static class EmptyArchetypeConfig {
         public int skipFirstN = 1000;
         public int logEveryN = 10000;
+        public int scanIntervalTicks = 20; // each chunk's positions scanned once per second
     }
 
     /**
@@ -177,6 +190,12 @@ public class HyFixesConfig {
      */
     public static class EarlyConfig {
         public EarlyLoggingConfig logging = new EarlyLoggingConfig();
+
+        /** Cache transformed classes under mods/hyfixes/cache/classes */
+        public boolean transformCache = true;
+
+        /** Verify every rewritten class and log per-method bytecode growth (diagnostics) */
+        public boolean verifyTransforms = false;
     }
 
     /**
@@ -196,6 +215,15 @@ public class HyFixesConfig {
 
         /** Multiplier applied to average ping */
         public double pingMultiplier = 3.0;
+
+        /** Use a per-connection smoothed RTT plus variance instead of the raw average ping */
+        public boolean adaptive = true;
+
+        /** Weight of the RTT variance in adaptive mode (k in SRTT * pingMultiplier + k * RTTVAR) */
+        public double rttVarianceMultiplier = 4.0;
+
+        /** Upper bound on the adaptive timeout in milliseconds */
+        public long maxTimeoutMs = 30000;
     }
 
 
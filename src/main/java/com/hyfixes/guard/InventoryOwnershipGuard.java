@@ -1,11 +1,16 @@
 package com.hyfixes.guard;
 
+import com.hyfixes.util.WeakIdentityMap;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,35 +20,54 @@ import java.util.logging.Logger;
  * This class is called by the transformed LivingEntity.setInventory() method
  * to validate that an Inventory isn't being shared between multiple players.
  *
- * If a shared reference is detected, the inventory is deep-cloned to break
- * the shared reference before assignment.
+ * If a shared reference is detected, the inventory is cloned to break
+ * the shared reference before assignment. The clone gets fresh ItemContainers
+ * but shares the (immutable) ItemStacks; a full CODEC round trip is the fallback.
  */
 public class InventoryOwnershipGuard {
 
     private static final Logger LOGGER = Logger.getLogger("HyFixes");
 
     // Track inventory -> owner UUID
-    // Using IdentityHashMap semantics via System.identityHashCode for exact instance matching
-    private static final Map<Integer, UUID> inventoryOwners = new ConcurrentHashMap<>();
+    // Weak identity keys: exact instance matching, and entries vanish once the inventory is collected
+    private static final WeakIdentityMap<Object, UUID> inventoryOwners = new WeakIdentityMap<>();
 
     // Track individual ItemContainers for finer detection
-    private static final Map<Integer, UUID> containerOwners = new ConcurrentHashMap<>();
+    private static final WeakIdentityMap<Object, UUID> containerOwners = new WeakIdentityMap<>();
+
+    // Statistics - LongAdder so concurrent setInventory() calls don't contend on one counter
+    private static final LongAdder sharedReferencesDetected = new LongAdder();
+    private static final LongAdder inventoriesCloned = new LongAdder();
+    private static final LongAdder validationCalls = new LongAdder();
 
-    // Statistics
-    private static volatile int sharedReferencesDetected = 0;
-    private static volatile int inventoriesCloned = 0;
-    private static volatile int validationCalls = 0;
+    private static final String[] CONTAINER_GETTERS = {"getStorage", "getArmor", "getHotbar", "getUtility", "getTools", "getBackpack"};
 
-    // Cached reflection objects
-    private static Method getPlayerRefMethod;
-    private static Method getUuidMethod;
-    private static Class<?> playerClass;
-    private static boolean reflectionInitialized = false;
-    private static boolean reflectionFailed = false;
+    // Reflective lookups compiled once per Inventory / ItemContainer class
+    private static final ClassValue<InventoryPlan> inventoryPlans = new ClassValue<>() {
+        @Override
+        protected InventoryPlan computeValue(Class<?> type) {
+            return InventoryPlan.compile(type);
+        }
+    };
+
+    private static final ClassValue<MethodHandle> containerCloners = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.lookup().unreflect(type.getMethod("clone"))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
 
     /**
      * Called by transformed LivingEntity.setInventory() BEFORE inventory assignment.
      *
+     * The transformer only calls this for Player entities (it emits an instanceof
+     * check first), so NPC inventory assignment never reaches this method.
+     *
      * @param livingEntity The entity receiving the inventory
      * @param inventory The inventory being assigned
      * @return The original inventory if safe, or a cloned inventory if shared reference detected
@@ -53,20 +77,15 @@ public class InventoryOwnershipGuard {
             return inventory;
         }
 
-        validationCalls++;
+        validationCalls.increment();
 
         try {
-            // Initialize reflection on first call
-            if (!reflectionInitialized && !reflectionFailed) {
-                initializeReflection();
-            }
-
-            if (reflectionFailed) {
+            if (!PlayerAccess.AVAILABLE) {
                 return inventory;
             }
 
-            // Only validate for Player entities
-            if (!playerClass.isInstance(livingEntity)) {
+            // Only validate for Player entities (cheap safety net - the transformer already checks)
+            if (!PlayerAccess.PLAYER_CLASS.isInstance(livingEntity)) {
                 return inventory;
             }
 
@@ -75,33 +94,33 @@ public class InventoryOwnershipGuard {
                 return inventory;
             }
 
-            // Use identity hash code to track exact object instances
+            // Identity hash is only used for log output - lookups compare instances exactly
             int inventoryId = System.identityHashCode(inventory);
-            UUID currentOwner = inventoryOwners.get(inventoryId);
+            UUID currentOwner = inventoryOwners.get(inventory);
 
             if (currentOwner != null && !currentOwner.equals(newOwnerUuid)) {
                 // SHARED REFERENCE DETECTED!
-                sharedReferencesDetected++;
+                sharedReferencesDetected.increment();
 
                 LOGGER.log(Level.WARNING,
                     "[HyFixes] INVENTORY SHARING DETECTED! (Issue #45)\n" +
                     "  Inventory @{0} owned by {1} being assigned to {2}\n" +
-                    "  Forcing deep clone to prevent inventory sync.\n" +
+                    "  Forcing clone to prevent inventory sync.\n" +
                     "  Detection #{3}",
                     new Object[]{
                         Integer.toHexString(inventoryId),
                         currentOwner.toString().substring(0, 8) + "...",
                         newOwnerUuid.toString().substring(0, 8) + "...",
-                        sharedReferencesDetected
+                        sharedReferencesDetected.sum()
                     }
                 );
 
                 // Clone the inventory to break the shared reference
                 Object clonedInventory = cloneInventory(inventory);
                 if (clonedInventory != null) {
-                    inventoriesCloned++;
+                    inventoriesCloned.increment();
                     int clonedId = System.identityHashCode(clonedInventory);
-                    inventoryOwners.put(clonedId, newOwnerUuid);
+                    inventoryOwners.put(clonedInventory, newOwnerUuid);
                     registerContainers(clonedInventory, newOwnerUuid);
 
                     LOGGER.log(Level.INFO,
@@ -112,7 +131,7 @@ public class InventoryOwnershipGuard {
                             newOwnerUuid.toString().substring(0, 8) + "...",
                             Integer.toHexString(inventoryId),
                             Integer.toHexString(clonedId),
-                            inventoriesCloned
+                            inventoriesCloned.sum()
                         }
                     );
 
@@ -130,13 +149,13 @@ public class InventoryOwnershipGuard {
                 }
             } else {
                 // First assignment or same owner - register ownership
-                inventoryOwners.put(inventoryId, newOwnerUuid);
+                inventoryOwners.put(inventory, newOwnerUuid);
                 registerContainers(inventory, newOwnerUuid);
             }
 
         } catch (Exception e) {
             // Log but don't crash - return original inventory
-            if (validationCalls < 5) {
+            if (validationCalls.sum() < 5) {
                 LOGGER.log(Level.WARNING,
                     "[HyFixes] Error in inventory validation: " + e.getMessage());
             }
@@ -146,27 +165,47 @@ public class InventoryOwnershipGuard {
     }
 
     /**
-     * Initialize reflection objects for Player class access.
+     * Player accessors, resolved once when first used.
+     *
+     * Held in static final MethodHandles (instead of Method.invoke) so the JIT can
+     * inline the getPlayerRef().getUuid() chain like a direct call.
      */
-    private static synchronized void initializeReflection() {
-        if (reflectionInitialized || reflectionFailed) {
-            return;
-        }
-
-        try {
-            playerClass = Class.forName("com.hypixel.hytale.server.core.entity.entities.Player");
-            getPlayerRefMethod = playerClass.getMethod("getPlayerRef");
-
-            Class<?> playerRefClass = Class.forName("com.hypixel.hytale.server.core.universe.PlayerRef");
-            getUuidMethod = playerRefClass.getMethod("getUuid");
-
-            reflectionInitialized = true;
-            LOGGER.log(Level.INFO, "[HyFixes] InventoryOwnershipGuard initialized successfully");
+    private static final class PlayerAccess {
+        static final boolean AVAILABLE;
+        static final Class<?> PLAYER_CLASS;
+        static final MethodHandle GET_PLAYER_REF;  // (Object) -> Object
+        static final MethodHandle GET_UUID;        // (Object) -> UUID
+
+        static {
+            Class<?> playerClass = null;
+            MethodHandle getPlayerRef = null;
+            MethodHandle getUuid = null;
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+                playerClass = Class.forName("com.hypixel.hytale.server.core.entity.entities.Player");
+                getPlayerRef = lookup.unreflect(playerClass.getMethod("getPlayerRef"))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+
+                Class<?> playerRefClass = Class.forName("com.hypixel.hytale.server.core.universe.PlayerRef");
+                getUuid = lookup.unreflect(playerRefClass.getMethod("getUuid"))
+                    .asType(MethodType.methodType(UUID.class, Object.class));
+
+                LOGGER.log(Level.INFO, "[HyFixes] InventoryOwnershipGuard initialized successfully");
+
+            } catch (Throwable t) {
+                playerClass = null;
+                getPlayerRef = null;
+                getUuid = null;
+                LOGGER.log(Level.WARNING,
+                    "[HyFixes] Failed to initialize InventoryOwnershipGuard reflection: " + t.getMessage());
+            }
 
-        } catch (Exception e) {
-            reflectionFailed = true;
-            LOGGER.log(Level.WARNING,
-                "[HyFixes] Failed to initialize InventoryOwnershipGuard reflection: " + e.getMessage());
+            PLAYER_CLASS = playerClass;
+            GET_PLAYER_REF = getPlayerRef;
+            GET_UUID = getUuid;
+            AVAILABLE = playerClass != null;
         }
     }
 
@@ -175,12 +214,12 @@ public class InventoryOwnershipGuard {
      */
     private static UUID getEntityUuid(Object livingEntity) {
         try {
-            Object playerRef = getPlayerRefMethod.invoke(livingEntity);
+            Object playerRef = (Object) PlayerAccess.GET_PLAYER_REF.invokeExact(livingEntity);
             if (playerRef == null) {
                 return null;
             }
-            return (UUID) getUuidMethod.invoke(playerRef);
-        } catch (Exception e) {
+            return (UUID) PlayerAccess.GET_UUID.invokeExact(playerRef);
+        } catch (Throwable t) {
             return null;
         }
     }
@@ -190,27 +229,22 @@ public class InventoryOwnershipGuard {
      */
     private static void registerContainers(Object inventory, UUID ownerUuid) {
         try {
-            String[] containerGetters = {"getStorage", "getArmor", "getHotbar", "getUtility", "getTools", "getBackpack"};
+            InventoryPlan plan = inventoryPlans.get(inventory.getClass());
 
-            for (String getter : containerGetters) {
-                try {
-                    Method method = inventory.getClass().getMethod(getter);
-                    Object container = method.invoke(inventory);
-                    if (container != null) {
-                        int containerId = System.identityHashCode(container);
-                        UUID existingOwner = containerOwners.get(containerId);
-
-                        if (existingOwner != null && !existingOwner.equals(ownerUuid)) {
-                            LOGGER.log(Level.WARNING,
-                                "[HyFixes] ItemContainer from {0} already owned by {1}, now claimed by {2}",
-                                new Object[]{getter, existingOwner, ownerUuid}
-                            );
-                        }
-                        containerOwners.put(containerId, ownerUuid);
-                    }
-                } catch (NoSuchMethodException ignored) {
-                    // Method doesn't exist, skip
+            for (int i = 0; i < CONTAINER_GETTERS.length; i++) {
+                Object container = plan.getContainer(inventory, i);
+                if (container == null) {
+                    continue;
+                }
+
+                UUID existingOwner = containerOwners.get(container);
+                if (existingOwner != null && !existingOwner.equals(ownerUuid)) {
+                    LOGGER.log(Level.WARNING,
+                        "[HyFixes] ItemContainer from {0} already owned by {1}, now claimed by {2}",
+                        new Object[]{CONTAINER_GETTERS[i], existingOwner, ownerUuid}
+                    );
                 }
+                containerOwners.put(container, ownerUuid);
             }
         } catch (Exception e) {
             // Non-critical, just skip registration
@@ -218,17 +252,17 @@ public class InventoryOwnershipGuard {
     }
 
     /**
-     * Clone an Inventory using the CODEC (serialize -> deserialize).
+     * Clone an Inventory, preferring the cheap structural copy.
      */
     private static Object cloneInventory(Object inventory) {
-        // Try Method 1: CODEC-based cloning (most reliable)
-        Object cloned = cloneViaCodec(inventory);
+        // Try Method 1: Structural clone - fresh ItemContainers, shared ItemStack values
+        Object cloned = cloneViaContainers(inventory);
         if (cloned != null) {
             return cloned;
         }
 
-        // Try Method 2: Clone individual containers
-        cloned = cloneViaContainers(inventory);
+        // Try Method 2: CODEC-based cloning (full deep copy)
+        cloned = cloneViaCodec(inventory);
         if (cloned != null) {
             return cloned;
         }
@@ -239,119 +273,86 @@ public class InventoryOwnershipGuard {
 
     /**
      * Clone via CODEC serialization (like Entity.clone() does).
+     * Encodes every container and ItemStack to BSON and back - only used as a fallback.
      */
     private static Object cloneViaCodec(Object inventory) {
         try {
-            Class<?> inventoryClass = inventory.getClass();
-
-            // Get CODEC field
-            Field codecField = inventoryClass.getField("CODEC");
-            Object codec = codecField.get(null);
-
-            // Get ExtraInfo.THREAD_LOCAL
-            Class<?> extraInfoClass = Class.forName("com.hypixel.hytale.codec.ExtraInfo");
-            Field threadLocalField = extraInfoClass.getField("THREAD_LOCAL");
-            ThreadLocal<?> threadLocal = (ThreadLocal<?>) threadLocalField.get(null);
-            Object extraInfo = threadLocal.get();
+            InventoryPlan plan = inventoryPlans.get(inventory.getClass());
+            if (!plan.canCloneViaCodec()) {
+                return null;
+            }
 
+            Object extraInfo = plan.extraInfoThreadLocal.get();
             if (extraInfo == null) {
                 // Create default ExtraInfo if not available
                 return null;
             }
 
             // Encode inventory to BSON
-            Method encodeMethod = findMethod(codec.getClass(), "encode", Object.class, extraInfoClass);
-            if (encodeMethod == null) {
-                return null;
-            }
-            Object bsonValue = encodeMethod.invoke(codec, inventory, extraInfo);
+            Object bsonValue = plan.encode.invoke(plan.codec, inventory, extraInfo);
 
-            // Create new inventory instance using default constructor
-            Constructor<?> defaultConstructor = inventoryClass.getDeclaredConstructor();
-            defaultConstructor.setAccessible(true);
-            Object newInventory = defaultConstructor.newInstance();
-
-            // Decode BSON into new instance
-            Class<?> bsonValueClass = Class.forName("org.bson.BsonValue");
-            Method decodeMethod = findMethod(codec.getClass(), "decode", bsonValueClass, Object.class, extraInfoClass);
-            if (decodeMethod == null) {
-                return null;
-            }
-            decodeMethod.invoke(codec, bsonValue, newInventory, extraInfo);
+            // Decode BSON into a new instance created via the default constructor
+            Object newInventory = plan.newInstance.invoke();
+            plan.decode.invoke(plan.codec, bsonValue, newInventory, extraInfo);
 
             return newInventory;
 
-        } catch (Exception e) {
-            // CODEC clone failed, will try fallback
+        } catch (Throwable t) {
+            // CODEC clone failed
             return null;
         }
     }
 
     /**
      * Clone by cloning individual ItemContainers.
+     *
+     * ItemContainer.clone() copies the slot storage but shares the ItemStack
+     * instances, which Hytale treats as immutable values (with*() returns a copy).
+     * That breaks the shared container reference without re-encoding every item,
+     * so large backpacks stay cheap to clone on world transfer.
      */
     private static Object cloneViaContainers(Object inventory) {
         try {
-            Class<?> inventoryClass = inventory.getClass();
-
-            // Get current containers
-            Object storage = invokeGetter(inventory, "getStorage");
-            Object armor = invokeGetter(inventory, "getArmor");
-            Object hotbar = invokeGetter(inventory, "getHotbar");
-            Object utility = invokeGetter(inventory, "getUtility");
-            Object tools = invokeGetter(inventory, "getTools");
-            Object backpack = invokeGetter(inventory, "getBackpack");
-
-            // Clone each container
-            Object clonedStorage = cloneContainer(storage);
-            Object clonedArmor = cloneContainer(armor);
-            Object clonedHotbar = cloneContainer(hotbar);
-            Object clonedUtility = cloneContainer(utility);
-            Object clonedTools = cloneContainer(tools);
-            Object clonedBackpack = cloneContainer(backpack);
-
-            // Find constructor that takes 6 ItemContainers
-            Class<?> containerClass = Class.forName("com.hypixel.hytale.server.core.inventory.container.ItemContainer");
-            Constructor<?> constructor = inventoryClass.getConstructor(
-                containerClass, containerClass, containerClass,
-                containerClass, containerClass, containerClass
-            );
+            InventoryPlan plan = inventoryPlans.get(inventory.getClass());
+            if (plan.containerConstructor == null) {
+                return null;
+            }
 
-            return constructor.newInstance(
-                clonedStorage, clonedArmor, clonedHotbar,
-                clonedUtility, clonedTools, clonedBackpack
-            );
+            Object[] clonedContainers = new Object[CONTAINER_GETTERS.length];
+            for (int i = 0; i < CONTAINER_GETTERS.length; i++) {
+                Object container = plan.getContainer(inventory, i);
+                if (container == null) {
+                    continue;
+                }
+                Object clonedContainer = cloneContainer(container);
+                if (clonedContainer == null) {
+                    // Never hand back a container that is still shared - let CODEC clone handle it
+                    return null;
+                }
+                clonedContainers[i] = clonedContainer;
+            }
 
-        } catch (Exception e) {
+            return plan.containerConstructor.invokeWithArguments(clonedContainers);
+
+        } catch (Throwable t) {
             return null;
         }
     }
 
     /**
      * Clone a single ItemContainer using its clone() method.
+     *
+     * @return The clone, or null if the container can't be cloned
      */
     private static Object cloneContainer(Object container) {
-        if (container == null) {
+        MethodHandle cloneHandle = containerCloners.get(container.getClass());
+        if (cloneHandle == null) {
             return null;
         }
 
         try {
-            Method cloneMethod = container.getClass().getMethod("clone");
-            return cloneMethod.invoke(container);
-        } catch (Exception e) {
-            // Can't clone, return original (better than null)
-            return container;
-        }
-    }
-
-    /**
-     * Helper to invoke a getter method.
-     */
-    private static Object invokeGetter(Object obj, String methodName) {
-        try {
-            Method method = obj.getClass().getMethod(methodName);
-            return method.invoke(obj);
-        } catch (Exception e) {
+            return (Object) cloneHandle.invokeExact(container);
+        } catch (Throwable t) {
             return null;
         }
     }
@@ -373,6 +374,92 @@ public class InventoryOwnershipGuard {
         }
     }
 
+    /**
+     * Accessors for one Inventory class, compiled once on first use.
+     *
+     * Every handle is adapted to Object parameters so callers don't need the
+     * Hytale types. Missing members are left null and the matching clone path is skipped.
+     */
+    private static final class InventoryPlan {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        final MethodHandle[] containerGetters = new MethodHandle[CONTAINER_GETTERS.length];
+        MethodHandle containerConstructor;
+
+        // CODEC clone path
+        Object codec;
+        ThreadLocal<?> extraInfoThreadLocal;
+        MethodHandle encode;
+        MethodHandle decode;
+        MethodHandle newInstance;
+
+        static InventoryPlan compile(Class<?> inventoryClass) {
+            InventoryPlan plan = new InventoryPlan();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            for (int i = 0; i < CONTAINER_GETTERS.length; i++) {
+                try {
+                    plan.containerGetters[i] = lookup.unreflect(inventoryClass.getMethod(CONTAINER_GETTERS[i]))
+                        .asType(GETTER_TYPE);
+                } catch (Exception e) {
+                    // Method doesn't exist, skip
+                }
+            }
+
+            // Constructor that takes 6 ItemContainers
+            try {
+                Class<?> containerClass = Class.forName("com.hypixel.hytale.server.core.inventory.container.ItemContainer");
+                Class<?>[] params = new Class<?>[CONTAINER_GETTERS.length];
+                Arrays.fill(params, containerClass);
+                plan.containerConstructor = lookup.unreflectConstructor(inventoryClass.getConstructor(params));
+            } catch (Exception e) {
+                // Container clone path unavailable
+            }
+
+            try {
+                Field codecField = inventoryClass.getField("CODEC");
+                plan.codec = codecField.get(null);
+
+                Class<?> extraInfoClass = Class.forName("com.hypixel.hytale.codec.ExtraInfo");
+                Field threadLocalField = extraInfoClass.getField("THREAD_LOCAL");
+                plan.extraInfoThreadLocal = (ThreadLocal<?>) threadLocalField.get(null);
+
+                Method encodeMethod = findMethod(plan.codec.getClass(), "encode", Object.class, extraInfoClass);
+                Class<?> bsonValueClass = Class.forName("org.bson.BsonValue");
+                Method decodeMethod = findMethod(plan.codec.getClass(), "decode", bsonValueClass, Object.class, extraInfoClass);
+
+                Constructor<?> defaultConstructor = inventoryClass.getDeclaredConstructor();
+                defaultConstructor.setAccessible(true);
+
+                if (encodeMethod != null && decodeMethod != null) {
+                    plan.encode = lookup.unreflect(encodeMethod);
+                    plan.decode = lookup.unreflect(decodeMethod);
+                    plan.newInstance = lookup.unreflectConstructor(defaultConstructor);
+                }
+            } catch (Exception e) {
+                // CODEC clone path unavailable
+            }
+
+            return plan;
+        }
+
+        Object getContainer(Object inventory, int index) {
+            MethodHandle getter = containerGetters[index];
+            if (getter == null) {
+                return null;
+            }
+            try {
+                return (Object) getter.invokeExact(inventory);
+            } catch (Throwable t) {
+                return null;
+            }
+        }
+
+        boolean canCloneViaCodec() {
+            return codec != null && extraInfoThreadLocal != null && encode != null && newInstance != null;
+        }
+    }
+
     /**
      * Clean up tracking for a player that disconnected.
      * Called by HyFixes runtime plugin on player disconnect.
@@ -385,14 +472,10 @@ public class InventoryOwnershipGuard {
         int removed = 0;
 
         // Remove inventory entries for this player
-        removed += inventoryOwners.entrySet().removeIf(
-            entry -> playerUuid.equals(entry.getValue())
-        ) ? 1 : 0;
+        removed += inventoryOwners.removeValues(playerUuid::equals) ? 1 : 0;
 
         // Remove container entries for this player
-        removed += containerOwners.entrySet().removeIf(
-            entry -> playerUuid.equals(entry.getValue())
-        ) ? 1 : 0;
+        removed += containerOwners.removeValues(playerUuid::equals) ? 1 : 0;
 
         if (removed > 0) {
             LOGGER.log(Level.FINE,
@@ -414,13 +497,13 @@ public class InventoryOwnershipGuard {
             "  Tracked inventories: %d\n" +
             "  Tracked containers: %d\n" +
             "  Status: %s",
-            validationCalls,
-            sharedReferencesDetected,
-            inventoriesCloned,
+            validationCalls.sum(),
+            sharedReferencesDetected.sum(),
+            inventoriesCloned.sum(),
             inventoryOwners.size(),
             containerOwners.size(),
-            sharedReferencesDetected == 0 ? "No issues detected" :
-                (inventoriesCloned == sharedReferencesDetected ? "All issues resolved" : "ISSUES PRESENT")
+            sharedReferencesDetected.sum() == 0 ? "No issues detected" :
+                (inventoriesCloned.sum() == sharedReferencesDetected.sum() ? "All issues resolved" : "ISSUES PRESENT")
         );
     }
 
@@ -428,9 +511,9 @@ public class InventoryOwnershipGuard {
      * Reset statistics (for testing).
      */
     public static void resetStats() {
-        sharedReferencesDetected = 0;
-        inventoriesCloned = 0;
-        validationCalls = 0;
+        sharedReferencesDetected.reset();
+        inventoriesCloned.reset();
+        validationCalls.reset();
         inventoryOwners.clear();
         containerOwners.clear();
     }
@@ -4,18 +4,31 @@ import com.hyfixes.HyFixes;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
-import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
@@ -37,9 +50,15 @@ import java.util.logging.Level;
  * 4. Calling getStore() on null crashes
  *
  * The Fix:
- * This sanitizer runs each tick on entities with ChunkTracker components.
+ * This sanitizer runs on entities with ChunkTracker components.
  * It validates PlayerRef references and removes invalid ones before
  * Hytale's PlayerChunkTrackerSystems$UpdateSystem can crash on them.
+ *
+ * The ChunkTracker layout is analyzed once at discovery into a field plan - only fields
+ * whose declared type can actually hold a PlayerRef are visited, through pre-built
+ * MethodHandles. Refs only go stale when a player leaves, so validation only runs while
+ * the RefInvalidationBus has a delta of player invalidations for the world, and checks
+ * the tracked PlayerRefs for membership in it instead of every tick.
  */
 public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
 
@@ -48,21 +67,53 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     // Discovered via reflection
     private Class<?> chunkTrackerClass = null;
     private ComponentType chunkTrackerType = null;
-    private Class<?> playerRefClass = null;
-    private Method getReferencesMethod = null;  // Method to get player refs from ChunkTracker
-    private Method getReferenceMethod = null;   // PlayerRef.getReference()
-    private Field playerRefsField = null;       // Field holding player refs if no getter
+    private TrackedField[] fieldPlan = new TrackedField[0];
 
     private boolean initialized = false;
     private boolean apiDiscoveryFailed = false;
 
+    // Null if the bus isn't available - then we validate every tick as before
+    private final RefInvalidationBus.Cursor invalidationCursor;
+
     // Statistics
     private final AtomicInteger entitiesChecked = new AtomicInteger(0);
     private final AtomicInteger invalidRefsFound = new AtomicInteger(0);
     private final AtomicInteger crashesPrevented = new AtomicInteger(0);
 
+    /**
+     * What a ChunkTracker field holds, as far as PlayerRefs are concerned.
+     */
+    private enum FieldKind {
+        SINGLE,
+        COLLECTION,
+        MAP
+    }
+
+    /**
+     * One entry of the compiled field plan.
+     */
+    private record TrackedField(
+            String name,
+            FieldKind kind,
+            MethodHandle getter,
+            MethodHandle setter,
+            boolean checkKeys,
+            boolean checkValues
+    ) {
+        @Override
+        public String toString() {
+            return switch (kind) {
+                case SINGLE -> name + " (PlayerRef)";
+                case COLLECTION -> name + " (Collection)";
+                case MAP -> name + " (Map, keys=" + checkKeys + ", values=" + checkValues + ")";
+            };
+        }
+    }
+
     public ChunkTrackerSanitizer(HyFixes plugin) {
         this.plugin = plugin;
+        RefInvalidationBus refBus = plugin.getRefInvalidationBus();
+        this.invalidationCursor = refBus != null ? refBus.newCursor(true) : null;
     }
 
     @Override
@@ -83,10 +134,19 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             discoverApi();
         }
 
-        if (apiDiscoveryFailed || chunkTrackerType == null) {
+        if (apiDiscoveryFailed || chunkTrackerType == null || fieldPlan.length == 0) {
             return;
         }
 
+        // Nothing can be stale unless a player has left since this world was last swept
+        RefInvalidationBus.Delta delta = null;
+        if (invalidationCursor != null) {
+            delta = invalidationCursor.poll(store);
+            if (delta == null) {
+                return;
+            }
+        }
+
         try {
             entitiesChecked.incrementAndGet();
 
@@ -97,7 +157,7 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             }
 
             // Try to validate and clean player refs
-            validateAndCleanPlayerRefs(chunkTracker);
+            validateAndCleanPlayerRefs(chunkTracker, delta);
 
         } catch (Exception e) {
             plugin.getLogger().at(Level.FINE).log(
@@ -106,56 +166,53 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     }
 
     /**
-     * Validate and clean any invalid PlayerRefs in the ChunkTracker
+     * Validate and clean any invalid PlayerRefs in the ChunkTracker, following the field plan
      */
-    private void validateAndCleanPlayerRefs(Object chunkTracker) {
-        try {
-            // Try multiple approaches to find and validate player refs
-
-            // Approach 1: Look for fields that might contain PlayerRefs
-            for (Field field : chunkTrackerClass.getDeclaredFields()) {
-                field.setAccessible(true);
-                Object value = field.get(chunkTracker);
-
+    private void validateAndCleanPlayerRefs(Object chunkTracker, RefInvalidationBus.Delta delta) {
+        for (TrackedField field : fieldPlan) {
+            try {
+                Object value = (Object) field.getter().invokeExact(chunkTracker);
                 if (value == null) continue;
 
-                // Check if it's a collection that might contain PlayerRefs
-                if (value instanceof Collection) {
-                    cleanCollection((Collection<?>) value, field.getName());
-                } else if (value instanceof Map) {
-                    cleanMap((Map<?, ?>) value, field.getName());
-                } else if (playerRefClass != null && playerRefClass.isInstance(value)) {
-                    // Single PlayerRef field
-                    if (isInvalidPlayerRef(value)) {
-                        field.set(chunkTracker, null);
-                        invalidRefsFound.incrementAndGet();
-                        crashesPrevented.incrementAndGet();
-                        plugin.getLogger().at(Level.INFO).log(
-                                "[ChunkTrackerSanitizer] Cleared invalid PlayerRef in field: " + field.getName());
+                switch (field.kind()) {
+                    case COLLECTION -> {
+                        if (value instanceof Collection<?> collection) {
+                            cleanCollection(collection, field.name(), delta);
+                        }
+                    }
+                    case MAP -> {
+                        if (value instanceof Map<?, ?> map) {
+                            cleanMap(map, field, delta);
+                        }
+                    }
+                    case SINGLE -> {
+                        if (isInvalidPlayerRef(value, delta)) {
+                            field.setter().invokeExact(chunkTracker, (Object) null);
+                            invalidRefsFound.incrementAndGet();
+                            crashesPrevented.incrementAndGet();
+                            plugin.getLogger().at(Level.INFO).log(
+                                    "[ChunkTrackerSanitizer] Cleared invalid PlayerRef in field: " + field.name());
+                        }
                     }
                 }
+            } catch (Throwable t) {
+                plugin.getLogger().at(Level.FINE).log(
+                        "[ChunkTrackerSanitizer] Error validating field " + field.name() + ": " + t.getMessage());
             }
-
-        } catch (Exception e) {
-            plugin.getLogger().at(Level.FINE).log(
-                    "[ChunkTrackerSanitizer] Error validating refs: " + e.getMessage());
         }
     }
 
     /**
      * Clean invalid PlayerRefs from a collection
      */
-    private void cleanCollection(Collection<?> collection, String fieldName) {
+    private void cleanCollection(Collection<?> collection, String fieldName, RefInvalidationBus.Delta delta) {
         try {
             int removed = 0;
             Iterator<?> iterator = collection.iterator();
             while (iterator.hasNext()) {
-                Object item = iterator.next();
-                if (item != null && playerRefClass != null && playerRefClass.isInstance(item)) {
-                    if (isInvalidPlayerRef(item)) {
-                        iterator.remove();
-                        removed++;
-                    }
+                if (isInvalidPlayerRef(iterator.next(), delta)) {
+                    iterator.remove();
+                    removed++;
                 }
             }
             if (removed > 0) {
@@ -170,21 +227,17 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     }
 
     /**
-     * Clean invalid PlayerRefs from a map (keys or values)
+     * Clean invalid PlayerRefs from a map (keys and/or values, per the field plan)
      */
-    private void cleanMap(Map<?, ?> map, String fieldName) {
+    private void cleanMap(Map<?, ?> map, TrackedField field, RefInvalidationBus.Delta delta) {
         try {
             int removed = 0;
             Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
             while (iterator.hasNext()) {
                 Map.Entry<?, ?> entry = iterator.next();
-                Object key = entry.getKey();
-                Object value = entry.getValue();
 
-                boolean keyInvalid = key != null && playerRefClass != null &&
-                        playerRefClass.isInstance(key) && isInvalidPlayerRef(key);
-                boolean valueInvalid = value != null && playerRefClass != null &&
-                        playerRefClass.isInstance(value) && isInvalidPlayerRef(value);
+                boolean keyInvalid = field.checkKeys() && isInvalidPlayerRef(entry.getKey(), delta);
+                boolean valueInvalid = field.checkValues() && isInvalidPlayerRef(entry.getValue(), delta);
 
                 if (keyInvalid || valueInvalid) {
                     iterator.remove();
@@ -195,7 +248,7 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
                 invalidRefsFound.addAndGet(removed);
                 crashesPrevented.incrementAndGet();
                 plugin.getLogger().at(Level.INFO).log(
-                        "[ChunkTrackerSanitizer] Removed " + removed + " invalid PlayerRef entry(s) from map: " + fieldName);
+                        "[ChunkTrackerSanitizer] Removed " + removed + " invalid PlayerRef entry(s) from map: " + field.name());
             }
         } catch (Exception e) {
             // Map might not support removal, that's okay
@@ -203,18 +256,15 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     }
 
     /**
-     * Check if a PlayerRef has an invalid (null) internal reference
+     * Check if an object is a PlayerRef with an invalid (null) internal reference,
+     * or one invalidated within the current RefInvalidationBus delta
      */
-    private boolean isInvalidPlayerRef(Object playerRef) {
-        try {
-            if (getReferenceMethod != null) {
-                Object ref = getReferenceMethod.invoke(playerRef);
-                return ref == null;
-            }
-        } catch (Exception e) {
-            // If we can't check, assume it's valid
+    private boolean isInvalidPlayerRef(Object candidate, RefInvalidationBus.Delta delta) {
+        if (!(candidate instanceof PlayerRef playerRef)) {
+            return false;
         }
-        return false;
+        return playerRef.getReference() == null
+                || (delta != null && delta.contains(playerRef));
     }
 
     private void discoverApi() {
@@ -228,22 +278,21 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             Method getComponentTypeMethod = chunkTrackerClass.getMethod("getComponentType");
             chunkTrackerType = (ComponentType) getComponentTypeMethod.invoke(null);
 
-            // Find PlayerRef class
-            playerRefClass = Class.forName("com.hypixel.hytale.server.core.universe.PlayerRef");
-
-            // Find getReference() method on PlayerRef
-            getReferenceMethod = playerRefClass.getMethod("getReference");
+            // Compile the field plan once
+            fieldPlan = compileFieldPlan(chunkTrackerClass);
 
             initialized = true;
             plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] API discovery successful!");
             plugin.getLogger().at(Level.INFO).log("  - ChunkTracker type: " + chunkTrackerType);
-            plugin.getLogger().at(Level.INFO).log("  - PlayerRef class: " + playerRefClass);
-            plugin.getLogger().at(Level.INFO).log("  - getReference method: " + getReferenceMethod);
+            plugin.getLogger().at(Level.INFO).log("  - Fields that can hold PlayerRefs: " + fieldPlan.length);
+            for (TrackedField field : fieldPlan) {
+                plugin.getLogger().at(Level.INFO).log("    - " + field);
+            }
 
-            // Log fields for debugging
+            // Log all fields for debugging
             plugin.getLogger().at(Level.FINE).log("  - ChunkTracker fields:");
             for (Field field : chunkTrackerClass.getDeclaredFields()) {
-                plugin.getLogger().at(Level.FINE).log("    - " + field.getName() + ": " + field.getType().getSimpleName());
+                plugin.getLogger().at(Level.FINE).log("    - " + field.getName() + ": " + field.getGenericType().getTypeName());
             }
 
         } catch (ClassNotFoundException e) {
@@ -261,6 +310,132 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
         }
     }
 
+    /**
+     * Analyze the ChunkTracker layout and keep only the fields whose declared type can
+     * contain a PlayerRef (e.g. a Set<PlayerRef> is kept, a LongSet of chunk indexes is not).
+     */
+    private TrackedField[] compileFieldPlan(Class<?> trackerClass) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType getterType = MethodType.methodType(Object.class, Object.class);
+        List<TrackedField> plan = new ArrayList<>();
+
+        for (Field field : trackerClass.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            Class<?> type = field.getType();
+            if (Modifier.isStatic(modifiers) || type.isPrimitive()) {
+                continue;
+            }
+
+            Type genericType = field.getGenericType();
+            FieldKind kind;
+            boolean checkKeys = false;
+            boolean checkValues = false;
+
+            if (Collection.class.isAssignableFrom(type)) {
+                if (!typeArgumentsMayHoldPlayerRef(genericType, new HashSet<>())) {
+                    continue;
+                }
+                kind = FieldKind.COLLECTION;
+            } else if (Map.class.isAssignableFrom(type)) {
+                // Map<K, V> - check keys and values separately, anything else (e.g. Long2ObjectMap<V>) by any argument
+                if (genericType instanceof ParameterizedType parameterized
+                        && parameterized.getActualTypeArguments().length == 2) {
+                    Type[] args = parameterized.getActualTypeArguments();
+                    checkKeys = mayHoldPlayerRef(args[0]);
+                    checkValues = mayHoldPlayerRef(args[1]);
+                } else {
+                    checkKeys = checkValues = typeArgumentsMayHoldPlayerRef(genericType, new HashSet<>());
+                }
+                if (!checkKeys && !checkValues) {
+                    continue;
+                }
+                kind = FieldKind.MAP;
+            } else if (PlayerRef.class.isAssignableFrom(type) || type.isAssignableFrom(PlayerRef.class)) {
+                if (Modifier.isFinal(modifiers)) {
+                    continue;
+                }
+                kind = FieldKind.SINGLE;
+            } else {
+                continue;
+            }
+
+            field.setAccessible(true);
+            MethodHandle getter = lookup.unreflectGetter(field).asType(getterType);
+            MethodHandle setter = kind == FieldKind.SINGLE
+                    ? lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class))
+                    : null;
+            plan.add(new TrackedField(field.getName(), kind, getter, setter, checkKeys, checkValues));
+        }
+
+        return plan.toArray(new TrackedField[0]);
+    }
+
+    /**
+     * Whether any type argument of a collection/map type (directly, or through the
+     * generic supertypes of a non-generic class like LongSet) could be a PlayerRef.
+     */
+    private static boolean typeArgumentsMayHoldPlayerRef(Type type, Set<Type> visited) {
+        if (!visited.add(type)) {
+            return false;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            for (Type arg : parameterized.getActualTypeArguments()) {
+                if (mayHoldPlayerRef(arg)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (type instanceof Class<?> clazz) {
+            if (clazz.getTypeParameters().length > 0) {
+                // Raw use of a generic type - can't tell, stay conservative
+                return true;
+            }
+            // Non-generic class: its element types are fixed by its supertypes
+            for (Type supertype : clazz.getGenericInterfaces()) {
+                if (typeArgumentsMayHoldPlayerRef(supertype, visited)) {
+                    return true;
+                }
+            }
+            Type superclass = clazz.getGenericSuperclass();
+            return superclass != null && superclass != Object.class
+                    && typeArgumentsMayHoldPlayerRef(superclass, visited);
+        }
+        return true;
+    }
+
+    /**
+     * Whether a value of this declared type could be a PlayerRef.
+     */
+    private static boolean mayHoldPlayerRef(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return PlayerRef.class.isAssignableFrom(clazz) || clazz.isAssignableFrom(PlayerRef.class);
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return mayHoldPlayerRef(parameterized.getRawType());
+        }
+        if (type instanceof WildcardType wildcard) {
+            for (Type bound : wildcard.getUpperBounds()) {
+                if (!mayHoldPlayerRef(bound)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof TypeVariable<?> variable) {
+            for (Type bound : variable.getBounds()) {
+                if (!mayHoldPlayerRef(bound)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof GenericArrayType) {
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Get status for the /interactionstatus command
      */
@@ -268,6 +443,8 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
         StringBuilder sb = new StringBuilder();
         sb.append("Initialized: ").append(initialized).append("\n");
         sb.append("API Discovery Failed: ").append(apiDiscoveryFailed).append("\n");
+        sb.append("Tracked Fields: ").append(fieldPlan.length).append("\n");
+        sb.append("Invalidation Driven: ").append(invalidationCursor != null).append("\n");
         sb.append("Entities Checked: ").append(entitiesChecked.get()).append("\n");
         sb.append("Invalid Refs Found: ").append(invalidRefsFound.get()).append("\n");
         sb.append("Crashes Prevented: ").append(crashesPrevented.get());
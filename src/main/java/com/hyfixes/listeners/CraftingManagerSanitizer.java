@@ -1,17 +1,30 @@
 package com.hyfixes.listeners;
 
 import com.hyfixes.HyFixes;
+import com.hyfixes.util.HytaleAccess;
+import com.hyfixes.util.WeakIdentityMap;
+import com.hypixel.hytale.builtin.crafting.state.ProcessingBenchState;
+import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.meta.BlockStateModule;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 /**
@@ -29,9 +42,20 @@ import java.util.logging.Level;
  *
  * The error kicks the player from the server.
  *
- * SOLUTION: This system monitors Player entities each tick and clears any stale
- * bench references in CraftingManager when the player doesn't have a bench window
- * open. This prevents the IllegalArgumentException when opening a new bench.
+ * SOLUTION: This system clears any stale bench reference in CraftingManager when
+ * the player doesn't have a bench window open. This prevents the
+ * IllegalArgumentException when opening a new bench.
+ *
+ * A bench can only go stale when the player's bench window closes or a bench is
+ * destroyed, so the CraftingManager is not polled. Each player keeps a "window open"
+ * bit, and the bench is only checked for a few ticks after that bit flips to closed,
+ * or after a processing bench is removed ({@link BenchRemovalListener}).
+ *
+ * The server does not expose window open/close events to plugins, so the bit itself is
+ * read every tick through compiled handles (the player's window manager and its open
+ * window query are resolved once per player). This check is registered to run every
+ * tick: a sampled observer misses an open and close that both fall between two samples,
+ * which is exactly how a stale bench slips through.
  *
  * Uses reflection since CraftingManager API may not be directly accessible.
  */
@@ -47,14 +71,62 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
     private Class<?> craftingManagerClass = null;
     @SuppressWarnings("rawtypes")
     private ComponentType craftingManagerType = null;
-    private Method clearBenchMethod = null;
-    private Method getBenchMethod = null;
-    private Field benchBlockTypeField = null;
+
+    // Compiled accessors
+    private MethodHandle benchGetter = null;   // (Object)Object - getBench method or field
+    private MethodHandle benchClearer = null;  // (Object)void - clear method or field set to null
+    private MethodHandle windowManagerGetter = null;  // (Object)Object on Player
+    private final ClassValue<MethodHandle> openWindowQueries = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            MethodHandle query = HytaleAccess.method(type,
+                    new String[]{"hasOpenWindows", "hasWindows", "getOpenWindowCount", "isOpen"});
+            return query == null ? null : query.asType(MethodType.methodType(Object.class, Object.class));
+        }
+    };
+
+    // After a window closes / bench is destroyed, keep checking for this many ticks
+    // (Hytale's own cleanup of the bench may land a few ticks later)
+    private static final int RECHECK_TICKS = 20;
+
+    // Per-player window bit, keyed by the Player component so it goes away with the player
+    private final WeakIdentityMap<Player, WindowState> windowStates = new WeakIdentityMap<>();
+
+    // Bumped by BenchRemovalListener
+    private final AtomicInteger benchRemovalEpoch = new AtomicInteger(0);
+    private final BenchRemovalListener benchRemovalListener = new BenchRemovalListener();
+    private int windowFlips = 0;
+    private int benchChecks = 0;
+
+    /**
+     * What we last saw of a player's bench window. Only touched from that player's world thread.
+     */
+    private static final class WindowState {
+        final Object windowManager;   // null = could not be resolved, treated as open
+        final MethodHandle openQuery; // null = windowManager is a Collection/Map, or unknown
+        // Start as "open" so the first observation of a closed window triggers one check
+        boolean windowOpen = true;
+        int benchRemovalEpoch;
+        int recheckTicks = 0;
+
+        WindowState(Object windowManager, MethodHandle openQuery, int benchRemovalEpoch) {
+            this.windowManager = windowManager;
+            this.openQuery = openQuery;
+            this.benchRemovalEpoch = benchRemovalEpoch;
+        }
+    }
 
     public CraftingManagerSanitizer(HyFixes plugin) {
         this.plugin = plugin;
     }
 
+    /**
+     * The bench removal half - must be registered on the chunk store alongside this system.
+     */
+    public BenchRemovalListener getBenchRemovalListener() {
+        return benchRemovalListener;
+    }
+
     @Override
     public Query<EntityStore> getQuery() {
         return Player.getComponentType();
@@ -85,25 +157,52 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
         }
 
         try {
+            Player player = chunk.getComponent(entityIndex, Player.getComponentType());
+            if (player == null) {
+                return;
+            }
+
+            // Track the window bit - only a flip to closed (or a destroyed bench) can leave a stale bench
+            WindowState state = windowStates.get(player);
+            if (state == null) {
+                state = newWindowState(player);
+                windowStates.put(player, state);
+            }
+            boolean windowOpen = isWindowOpen(state);
+            int removalEpoch = benchRemovalEpoch.get();
+
+            if ((state.windowOpen && !windowOpen) || state.benchRemovalEpoch != removalEpoch) {
+                state.recheckTicks = RECHECK_TICKS;
+                windowFlips++;
+            }
+            state.windowOpen = windowOpen;
+            state.benchRemovalEpoch = removalEpoch;
+
+            if (state.recheckTicks == 0) {
+                return;
+            }
+            state.recheckTicks--;
+            if (windowOpen) {
+                return;
+            }
+
             // Get the CraftingManager component from the player
             Object craftingManager = chunk.getComponent(entityIndex, craftingManagerType);
             if (craftingManager == null) {
                 return;
             }
 
-            // Check if bench is currently set
+            // Check if bench is currently set - the window is known to be closed
+            benchChecks++;
             if (isBenchSet(craftingManager)) {
-                // Check if player actually has a bench window open
-                Player player = chunk.getComponent(entityIndex, Player.getComponentType());
-                if (player != null && !hasBenchWindowOpen(player)) {
-                    // Stale bench reference - clear it!
-                    clearBench(craftingManager);
-                    fixedCount++;
-                    plugin.getLogger().at(Level.WARNING).log(
-                        "[CraftingManagerSanitizer] Prevented crash #" + fixedCount +
-                        " - cleared stale bench reference for player"
-                    );
-                }
+                // Stale bench reference - clear it!
+                clearBench(craftingManager);
+                state.recheckTicks = 0;
+                fixedCount++;
+                plugin.getLogger().at(Level.WARNING).log(
+                    "[CraftingManagerSanitizer] Prevented crash #" + fixedCount +
+                    " - cleared stale bench reference for player"
+                );
             }
         } catch (Exception e) {
             // Silently fail - don't spam logs
@@ -115,6 +214,41 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
         }
     }
 
+    /**
+     * Bumps the bench removal epoch whenever a processing bench block is removed,
+     * so every player's CraftingManager gets checked once.
+     */
+    public class BenchRemovalListener extends RefSystem<ChunkStore> {
+
+        @Override
+        public Query<ChunkStore> getQuery() {
+            return BlockStateModule.get().getComponentType(ProcessingBenchState.class);
+        }
+
+        @Override
+        public void onEntityAdded(
+                Ref<ChunkStore> ref,
+                AddReason reason,
+                Store<ChunkStore> store,
+                CommandBuffer<ChunkStore> commandBuffer
+        ) {
+            // Nothing to do when benches are placed or loaded
+        }
+
+        @Override
+        public void onEntityRemove(
+                Ref<ChunkStore> ref,
+                RemoveReason reason,
+                Store<ChunkStore> store,
+                CommandBuffer<ChunkStore> commandBuffer
+        ) {
+            // Chunk unloads don't destroy benches
+            if (reason != RemoveReason.UNLOAD) {
+                benchRemovalEpoch.incrementAndGet();
+            }
+        }
+    }
+
     /**
      * Discover the CraftingManager API via reflection.
      */
@@ -128,23 +262,11 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
 
         try {
             // Find CraftingManager class
-            String[] possibleClasses = {
+            craftingManagerClass = HytaleAccess.findClass(
                 "com.hypixel.hytale.builtin.crafting.component.CraftingManager",
                 "com.hypixel.hytale.server.core.modules.crafting.CraftingManager",
                 "com.hypixel.hytale.builtin.crafting.CraftingManager"
-            };
-
-            for (String className : possibleClasses) {
-                try {
-                    craftingManagerClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[CraftingManagerSanitizer] Found CraftingManager: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
-            }
+            );
 
             if (craftingManagerClass == null) {
                 plugin.getLogger().at(Level.WARNING).log(
@@ -153,15 +275,13 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
                 discoveryFailed = true;
                 return;
             }
+            plugin.getLogger().at(Level.INFO).log(
+                "[CraftingManagerSanitizer] Found CraftingManager: " + craftingManagerClass.getName()
+            );
 
             // Get component type
-            try {
-                Method getTypeMethod = craftingManagerClass.getMethod("getComponentType");
-                craftingManagerType = (ComponentType) getTypeMethod.invoke(null);
-                plugin.getLogger().at(Level.INFO).log(
-                    "[CraftingManagerSanitizer] Got CraftingManager component type"
-                );
-            } catch (NoSuchMethodException e) {
+            craftingManagerType = (ComponentType) HytaleAccess.invokeStatic(craftingManagerClass, "getComponentType");
+            if (craftingManagerType == null) {
                 plugin.getLogger().at(Level.WARNING).log(
                     "[CraftingManagerSanitizer] CraftingManager has no getComponentType() method"
                 );
@@ -169,56 +289,34 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
                 return;
             }
 
-            // Find clearBench or similar method
-            String[] clearMethods = {"clearBench", "clear", "reset", "closeBench"};
-            for (String methodName : clearMethods) {
-                try {
-                    clearBenchMethod = craftingManagerClass.getMethod(methodName);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[CraftingManagerSanitizer] Found clear method: " + methodName + "()"
-                    );
-                    break;
-                } catch (NoSuchMethodException e) {
-                    // Try next
-                }
-            }
-
-            // Find getBench or benchBlockType field to check if set
-            String[] getterMethods = {"getBench", "getBenchBlockType", "getCurrentBench"};
-            for (String methodName : getterMethods) {
-                try {
-                    getBenchMethod = craftingManagerClass.getMethod(methodName);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[CraftingManagerSanitizer] Found getter method: " + methodName + "()"
-                    );
-                    break;
-                } catch (NoSuchMethodException e) {
-                    // Try next
+            // Find getBench method or benchBlockType field to check if set
+            benchGetter = HytaleAccess.getter(craftingManagerClass,
+                    "getBench", "getBenchBlockType", "getCurrentBench",
+                    "benchBlockType", "bench", "currentBench", "blockType");
+
+            // Find clearBench or similar method, or else null out the field
+            MethodHandle clearMethod = HytaleAccess.method(craftingManagerClass,
+                    new String[]{"clearBench", "clear", "reset", "closeBench"});
+            if (clearMethod != null) {
+                benchClearer = clearMethod.asType(MethodType.methodType(void.class, Object.class));
+            } else {
+                MethodHandle setter = HytaleAccess.fieldSetter(craftingManagerClass,
+                        "benchBlockType", "bench", "currentBench", "blockType");
+                if (setter != null) {
+                    benchClearer = MethodHandles.insertArguments(setter, 1, (Object) null);
                 }
             }
 
-            // Also look for benchBlockType field directly
-            String[] fieldNames = {"benchBlockType", "bench", "currentBench", "blockType"};
-            for (String fieldName : fieldNames) {
-                try {
-                    benchBlockTypeField = craftingManagerClass.getDeclaredField(fieldName);
-                    benchBlockTypeField.setAccessible(true);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[CraftingManagerSanitizer] Found field: " + fieldName
-                    );
-                    break;
-                } catch (NoSuchFieldException e) {
-                    // Try next
-                }
-            }
-
-            if (clearBenchMethod == null && benchBlockTypeField == null) {
+            if (benchClearer == null) {
                 plugin.getLogger().at(Level.WARNING).log(
                     "[CraftingManagerSanitizer] Could not find way to clear bench state. " +
                     "Will monitor only."
                 );
             }
 
+            // Find the WindowManager getter on Player
+            windowManagerGetter = HytaleAccess.getter(Player.class, "getWindowManager", "windowManager", "getWindows");
+
             plugin.getLogger().at(Level.INFO).log(
                 "[CraftingManagerSanitizer] API discovery complete"
             );
@@ -236,15 +334,10 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private boolean isBenchSet(Object craftingManager) {
         try {
-            if (getBenchMethod != null) {
-                Object bench = getBenchMethod.invoke(craftingManager);
-                return bench != null;
-            }
-            if (benchBlockTypeField != null) {
-                Object benchType = benchBlockTypeField.get(craftingManager);
-                return benchType != null;
+            if (benchGetter != null) {
+                return (Object) benchGetter.invokeExact(craftingManager) != null;
             }
-        } catch (Exception e) {
+        } catch (Throwable t) {
             // Ignore
         }
         return false;
@@ -255,20 +348,35 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private void clearBench(Object craftingManager) {
         try {
-            if (clearBenchMethod != null) {
-                clearBenchMethod.invoke(craftingManager);
-                return;
-            }
-            if (benchBlockTypeField != null) {
-                benchBlockTypeField.set(craftingManager, null);
+            if (benchClearer != null) {
+                benchClearer.invokeExact(craftingManager);
             }
-        } catch (Exception e) {
+        } catch (Throwable t) {
             plugin.getLogger().at(Level.WARNING).log(
-                "[CraftingManagerSanitizer] Failed to clear bench: " + e.getMessage()
+                "[CraftingManagerSanitizer] Failed to clear bench: " + t.getMessage()
             );
         }
     }
 
+    /**
+     * Resolve the player's window manager and its open-window query once.
+     */
+    private WindowState newWindowState(Player player) {
+        Object windowManager = null;
+        MethodHandle query = null;
+        try {
+            if (windowManagerGetter != null) {
+                windowManager = (Object) windowManagerGetter.invokeExact((Object) player);
+            }
+            if (windowManager != null) {
+                query = openWindowQueries.get(windowManager.getClass());
+            }
+        } catch (Throwable t) {
+            windowManager = null;
+        }
+        return new WindowState(windowManager, query, benchRemovalEpoch.get());
+    }
+
     /**
      * Check if player has a bench window open.
      * Returns TRUE if we can't determine - this is safer because:
@@ -276,71 +384,36 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
      * - If we return true when no window is open, we just miss clearing a stale ref
      *   (and Hytale will throw an error, but that's better than breaking ALL crafting)
      */
-    private boolean hasBenchWindowOpen(Player player) {
+    private boolean isWindowOpen(WindowState state) {
+        Object windowManager = state.windowManager;
+        // Can't find window manager - assume window IS open to be safe
+        // This means we won't clear the bench, which is better than
+        // accidentally clearing it while player is crafting
+        if (windowManager == null) {
+            return true;
+        }
         try {
-            // Try to check via WindowManager or PageManager
-            Object windowManager = getPlayerWindowManager(player);
-            if (windowManager == null) {
-                // Can't find window manager - assume window IS open to be safe
-                // This means we won't clear the bench, which is better than
-                // accidentally clearing it while player is crafting
-                return true;
-            }
-
             // Check if any bench window is open
-            Method hasOpenWindowsMethod = findMethod(windowManager.getClass(),
-                "hasOpenWindows", "hasWindows", "getOpenWindowCount", "isOpen");
-            if (hasOpenWindowsMethod != null) {
-                Object result = hasOpenWindowsMethod.invoke(windowManager);
-                if (result instanceof Boolean) {
-                    return (Boolean) result;
+            if (state.openQuery != null) {
+                Object result = (Object) state.openQuery.invokeExact(windowManager);
+                if (result instanceof Boolean open) {
+                    return open;
                 }
-                if (result instanceof Integer) {
-                    return ((Integer) result) > 0;
+                if (result instanceof Integer count) {
+                    return count > 0;
                 }
+            } else if (windowManager instanceof Collection<?> windows) {
+                return !windows.isEmpty();
+            } else if (windowManager instanceof Map<?, ?> windows) {
+                return !windows.isEmpty();
             }
-
-        } catch (Exception e) {
+        } catch (Throwable t) {
             // If we can't check, assume window IS open (safer - don't break crafting)
         }
         // Default to true - better to miss clearing a stale ref than break crafting
         return true;
     }
 
-    /**
-     * Get the WindowManager from a Player.
-     */
-    private Object getPlayerWindowManager(Player player) {
-        try {
-            String[] methodNames = {"getWindowManager", "windowManager", "getWindows"};
-            for (String methodName : methodNames) {
-                try {
-                    Method method = Player.class.getMethod(methodName);
-                    return method.invoke(player);
-                } catch (NoSuchMethodException e) {
-                    // Try next
-                }
-            }
-        } catch (Exception e) {
-            // Ignore
-        }
-        return null;
-    }
-
-    /**
-     * Find a method by trying multiple names.
-     */
-    private Method findMethod(Class<?> clazz, String... names) {
-        for (String name : names) {
-            try {
-                return clazz.getMethod(name);
-            } catch (NoSuchMethodException e) {
-                // Try next
-            }
-        }
-        return null;
-    }
-
     /**
      * Get the count of fixed crashes.
      */
@@ -357,14 +430,20 @@ public class CraftingManagerSanitizer extends EntityTickingSystem<EntityStore> {
             "  Discovery Complete: %s\n" +
             "  Discovery Failed: %s\n" +
             "  CraftingManager Found: %s\n" +
-            "  Clear Method Found: %s\n" +
-            "  Bench Field Found: %s\n" +
+            "  Bench Getter Found: %s\n" +
+            "  Bench Clearer Found: %s\n" +
+            "  Tracked Players: %d\n" +
+            "  Window Flips / Bench Removals: %d\n" +
+            "  Bench Checks: %d\n" +
             "  Crashes Prevented: %d",
             discoveryComplete,
             discoveryFailed,
             craftingManagerClass != null ? craftingManagerClass.getSimpleName() : "No",
-            clearBenchMethod != null,
-            benchBlockTypeField != null,
+            benchGetter != null,
+            benchClearer != null,
+            windowStates.size(),
+            windowFlips,
+            benchChecks,
             fixedCount
         );
     }
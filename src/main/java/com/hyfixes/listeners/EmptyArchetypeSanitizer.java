@@ -2,13 +2,19 @@ package com.hyfixes.listeners;
 
 import com.hyfixes.HyFixes;
 import com.hyfixes.config.ConfigManager;
+import com.hyfixes.systems.TickClock;
+import com.hyfixes.util.WeakIdentityMap;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.component.system.tick.ArchetypeTickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.util.logging.Level;
@@ -36,25 +42,42 @@ import java.util.logging.Level;
  * already excludes these entities from processing. This sanitizer provides
  * additional monitoring and cleanup for any that slip through.
  *
+ * PERFORMANCE: TransformComponent matches nearly every entity in the world, so this
+ * does not check entity-by-entity. It is an ArchetypeTickingSystem: the ECS calls it
+ * once per matching ArchetypeChunk, not once per entity. On the chunk's scan turn
+ * (every scanIntervalTicks of the world's {@link TickClock}, staggered per chunk) it
+ * streams the positions of the whole chunk through a tight primitive loop.
+ *
+ * Entities with NaN/Infinite positions (or no transform) are quarantined: logged once
+ * and removed through the command buffer. Players are never removed - they are logged
+ * once and left to the server. The quarantine set is only touched for invalid entities,
+ * never on the finite path.
+ *
  * TODO: Investigate chunk-level RefSystem or chunk loading hooks for better
  * prevention of empty archetype entities.
  */
-public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
+public class EmptyArchetypeSanitizer extends ArchetypeTickingSystem<EntityStore> {
 
     private final HyFixes plugin;
     private boolean loggedOnce = false;
     private int checkedCount = 0;
     private int removedCount = 0;
+    private int chunksScanned = 0;
+
+    // Entities with a non-finite position, already reported (and removed unless a player)
+    private final WeakIdentityMap<Ref<EntityStore>, Boolean> quarantined = new WeakIdentityMap<>();
 
     // Configuration (loaded from ConfigManager)
     private final int skipFirstN;
     private final int logEveryN;
+    private final int scanIntervalTicks;
 
     public EmptyArchetypeSanitizer(HyFixes plugin) {
         this.plugin = plugin;
         ConfigManager config = ConfigManager.getInstance();
         this.skipFirstN = config.getEmptyArchetypeSkipFirstN();
         this.logEveryN = config.getEmptyArchetypeLogEveryN();
+        this.scanIntervalTicks = Math.max(1, config.getEmptyArchetypeScanIntervalTicks());
     }
 
     @Override
@@ -66,26 +89,48 @@ public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
     @Override
     public void tick(
             float deltaTime,
-            int entityIndex,
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
     ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
-                "[EmptyArchetypeSanitizer] Active - monitoring for entities with invalid state"
+                "[EmptyArchetypeSanitizer] Active - scanning entity positions every " + scanIntervalTicks + " tick(s) per chunk"
             );
             loggedOnce = true;
         }
 
+        // Stagger chunks across the interval so scans don't all land on the same tick
+        long tick = TickClock.current(store);
+        if (Math.floorMod(tick + System.identityHashCode(chunk), scanIntervalTicks) != 0) {
+            return;
+        }
+
         try {
-            // Get the TransformComponent
-            TransformComponent transform = chunk.getComponent(entityIndex, TransformComponent.getComponentType());
+            scanChunk(chunk, commandBuffer);
+        } catch (Exception e) {
+            // Log at FINE level to avoid spam
+            plugin.getLogger().at(Level.FINE).log(
+                "[EmptyArchetypeSanitizer] Error scanning chunk: " + e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Stream every position in the chunk through the finiteness check.
+     */
+    private void scanChunk(ArchetypeChunk<EntityStore> chunk, CommandBuffer<EntityStore> commandBuffer) {
+        ComponentType<EntityStore, TransformComponent> transformType = TransformComponent.getComponentType();
+        int size = chunk.size();
+        chunksScanned++;
+
+        for (int i = 0; i < size; i++) {
+            TransformComponent transform = chunk.getComponent(i, transformType);
 
             // Skip first N entities silently to avoid log spam on startup
             checkedCount++;
             if (checkedCount <= skipFirstN) {
-                return;
+                continue;
             }
 
             // Only log occasionally to avoid spam
@@ -95,36 +140,51 @@ public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
                 );
             }
 
-            // Check if transform is valid
             if (transform == null) {
                 // Transform is null but entity was matched by query - something is wrong
-                plugin.getLogger().at(Level.WARNING).log(
-                    "[EmptyArchetypeSanitizer] Found entity with null TransformComponent at index " + entityIndex
-                );
-                return;
+                quarantine(chunk, i, "null TransformComponent", commandBuffer);
+                continue;
             }
 
-            // Check if position is valid (NaN/Infinite check)
-            var position = transform.getPosition();
-            if (position != null) {
-                // Vector3d has isFinite() method that checks for NaN and Infinite
-                if (!position.isFinite()) {
-                    removedCount++;
-                    plugin.getLogger().at(Level.WARNING).log(
-                        "[EmptyArchetypeSanitizer] Found entity #" + removedCount +
-                        " with invalid position (NaN/Infinite) at index " + entityIndex +
-                        " position: " + position
-                    );
-                    // Just log for now - removing might cause cascading issues
-                }
+            Vector3d position = transform.getPosition();
+            if (position == null) {
+                continue;
             }
 
-        } catch (Exception e) {
-            // Log at FINE level to avoid spam
-            plugin.getLogger().at(Level.FINE).log(
-                "[EmptyArchetypeSanitizer] Error checking entity: " + e.getMessage()
-            );
+            // v - v is 0 for any finite value and NaN for NaN/Infinite, so one
+            // compare covers all three axes without branching per component
+            double x = position.getX();
+            double y = position.getY();
+            double z = position.getZ();
+            if ((x - x) + (y - y) + (z - z) == 0.0) {
+                continue;
+            }
+
+            quarantine(chunk, i, "invalid position (NaN/Infinite): " + position, commandBuffer);
+        }
+    }
+
+    /**
+     * Report an invalid entity once, and remove it unless it is a player.
+     */
+    private void quarantine(ArchetypeChunk<EntityStore> chunk, int index, String problem,
+                            CommandBuffer<EntityStore> commandBuffer) {
+        Ref<EntityStore> ref = chunk.getReferenceTo(index);
+        if (ref == null || quarantined.get(ref) != null) {
+            return;
+        }
+        quarantined.put(ref, Boolean.TRUE);
+
+        // A connected player's entity can't just be dropped - leave it to the server
+        boolean player = chunk.getComponent(index, Player.getComponentType()) != null;
+        if (!player) {
+            commandBuffer.removeEntity(ref, RemoveReason.REMOVE);
+            removedCount++;
         }
+        plugin.getLogger().at(Level.WARNING).log(
+            "[EmptyArchetypeSanitizer] Quarantined entity at index " + index + " with " + problem +
+            (player ? " - player, not removed" : " - removed (#" + removedCount + ")")
+        );
     }
 
     public int getCheckedCount() {
@@ -134,4 +194,12 @@ public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
     public int getRemovedCount() {
         return removedCount;
     }
+
+    public int getQuarantinedCount() {
+        return quarantined.size();
+    }
+
+    public int getChunksScanned() {
+        return chunksScanned;
+    }
 }
@@ -1,6 +1,8 @@
 package com.hyfixes.listeners;
 
 import com.hyfixes.HyFixes;
+import com.hyfixes.util.HytaleAccess;
+import com.hyfixes.util.WeakIdentityMap;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -11,8 +13,17 @@ import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 /**
@@ -33,6 +44,15 @@ import java.util.logging.Level;
  *
  * NOTE: This uses reflection since we don't have direct API access to
  * GatherObjectiveTask. The component discovery happens at runtime.
+ *
+ * PERFORMANCE: Accessors are compiled once - the tasks getter into a MethodHandle,
+ * and per task class an ObjectivePlan of Ref field getters plus the clear method.
+ * Each player's data store keeps a "last validated" stamp: the tasks container (held
+ * weakly, compared with ==), its size and the RefInvalidationBus generation. Gather
+ * targets are mostly NPCs and item drops, so the generation counts every entity removal,
+ * not only players leaving. Unchanged objectives are skipped until some entity is removed
+ * or the stamp is a second old - that expiry bounds how long a ref invalidated outside
+ * a removal the bus sees can go unnoticed.
  */
 public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStore> {
 
@@ -42,18 +62,56 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
     private boolean discoveryFailed = false;
     private int fixedCount = 0;
 
+    // Entity removals/disconnects invalidate the refs objectives hold - null if the bus is not running
+    private final RefInvalidationBus refBus;
+
     // Discovered at runtime via reflection
     private Class<?> objectiveDataStoreClass = null;
     private Class<?> gatherObjectiveTaskClass = null;
     @SuppressWarnings("rawtypes")
     private ComponentType objectiveDataStoreType = null;
     private Method getActiveObjectivesMethod = null;
-    private Method getTasksMethod = null;
-    private Field tasksField = null;
-    private Field targetRefField = null;
+    private MethodHandle tasksGetter = null;  // (Object)Object - tasks getter method or field
+
+    // Unchanged objectives are still re-validated this often - the upper bound for anything the bus misses
+    private static final long REVALIDATE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String[] CLEAR_METHOD_NAMES = {"cancel", "clear", "fail", "complete", "setCompleted", "setCancelled"};
+
+    // Per task class: which fields hold Refs and how to clear the objective
+    private final ClassValue<ObjectivePlan> objectivePlans = new ClassValue<>() {
+        @Override
+        protected ObjectivePlan computeValue(Class<?> type) {
+            return compilePlan(type);
+        }
+    };
+
+    // Per player ObjectiveDataStore: what was last validated
+    private final WeakIdentityMap<Object, ValidatedStamp> validatedStamps = new WeakIdentityMap<>();
+    private int objectivesSkipped = 0;
+
+    /**
+     * Compiled accessors for one objective/task class.
+     */
+    private record ObjectivePlan(
+            String[] refFieldNames,
+            MethodHandle[] refGetters,
+            String clearMethodName,
+            MethodHandle clearer,          // (Object)void, or (Object, boolean)void if clearTakesFlag
+            boolean clearTakesFlag
+    ) {
+    }
+
+    /**
+     * Last validated version of a player's objectives.
+     */
+    private record ValidatedStamp(WeakReference<Object> tasks, int taskCount, long invalidationGeneration,
+                                  long validatedAtNanos) {
+    }
 
     public GatherObjectiveTaskSanitizer(HyFixes plugin) {
         this.plugin = plugin;
+        this.refBus = plugin.getRefInvalidationBus();
     }
 
     @Override
@@ -126,50 +184,35 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
 
         try {
             // Step 1: Find ObjectiveDataStore (the component on players)
-            String[] dataStoreClasses = {
+            objectiveDataStoreClass = HytaleAccess.findClass(
                 "com.hypixel.hytale.builtin.adventure.objectives.ObjectiveDataStore",
                 "com.hypixel.hytale.server.core.modules.adventure.ObjectiveDataStore"
-            };
-
-            for (String className : dataStoreClasses) {
-                try {
-                    objectiveDataStoreClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[GatherObjectiveTaskSanitizer] Found ObjectiveDataStore: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            );
+            if (objectiveDataStoreClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[GatherObjectiveTaskSanitizer] Found ObjectiveDataStore: " + objectiveDataStoreClass.getName()
+                );
             }
 
             // Step 2: Find GatherObjectiveTask (the task that crashes)
-            String[] taskClasses = {
+            gatherObjectiveTaskClass = HytaleAccess.findClass(
                 "com.hypixel.hytale.builtin.adventure.objectives.task.GatherObjectiveTask",
                 "com.hypixel.hytale.builtin.adventure.npcobjectives.task.GatherObjectiveTask"
-            };
-
-            for (String className : taskClasses) {
-                try {
-                    gatherObjectiveTaskClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[GatherObjectiveTaskSanitizer] Found GatherObjectiveTask: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            );
+            if (gatherObjectiveTaskClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[GatherObjectiveTaskSanitizer] Found GatherObjectiveTask: " + gatherObjectiveTaskClass.getName()
+                );
             }
 
             // Step 3: Get component type from ObjectiveDataStore
             if (objectiveDataStoreClass != null) {
-                try {
-                    Method getTypeMethod = objectiveDataStoreClass.getMethod("getComponentType");
-                    objectiveDataStoreType = (ComponentType) getTypeMethod.invoke(null);
+                objectiveDataStoreType = (ComponentType) HytaleAccess.invokeStatic(objectiveDataStoreClass, "getComponentType");
+                if (objectiveDataStoreType != null) {
                     plugin.getLogger().at(Level.INFO).log(
                         "[GatherObjectiveTaskSanitizer] Got ObjectiveDataStore component type"
                     );
-                } catch (NoSuchMethodException e) {
+                } else {
                     plugin.getLogger().at(Level.WARNING).log(
                         "[GatherObjectiveTaskSanitizer] ObjectiveDataStore has no getComponentType()"
                     );
@@ -178,53 +221,26 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
                 // Log methods for debugging
                 logClassMethods(objectiveDataStoreClass);
 
-                // Step 4: Find method to get tasks from ObjectiveDataStore
-                String[] taskMethods = {"getTasks", "getActiveTasks", "getObjectives", "getActiveObjectives"};
-                for (String methodName : taskMethods) {
-                    try {
-                        getTasksMethod = objectiveDataStoreClass.getMethod(methodName);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[GatherObjectiveTaskSanitizer] Found tasks getter: " + methodName + "()"
-                        );
-                        break;
-                    } catch (NoSuchMethodException e) {
-                        // Try next
-                    }
-                }
-
-                // Step 5: Find tasks field directly
-                String[] taskFields = {"tasks", "activeTasks", "objectives", "activeObjectives"};
-                for (String fieldName : taskFields) {
-                    try {
-                        tasksField = objectiveDataStoreClass.getDeclaredField(fieldName);
-                        tasksField.setAccessible(true);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[GatherObjectiveTaskSanitizer] Found tasks field: " + fieldName
-                        );
-                        break;
-                    } catch (NoSuchFieldException e) {
-                        // Try next
-                    }
+                // Step 4: Find method (preferred) or field to get tasks from ObjectiveDataStore
+                tasksGetter = HytaleAccess.getter(objectiveDataStoreClass,
+                        "getTasks", "getActiveTasks", "getObjectives", "getActiveObjectives",
+                        "tasks", "activeTasks", "objectives", "activeObjectives");
+                if (tasksGetter != null) {
+                    plugin.getLogger().at(Level.INFO).log(
+                        "[GatherObjectiveTaskSanitizer] Found tasks accessor"
+                    );
                 }
             }
 
-            // Step 6: Find targetRef field in GatherObjectiveTask
+            // Step 5: Find targetRef field in GatherObjectiveTask
             if (gatherObjectiveTaskClass != null) {
                 logClassMethods(gatherObjectiveTaskClass);
                 logClassFields(gatherObjectiveTaskClass);
 
-                String[] refFields = {"targetRef", "ref", "entityRef", "target"};
-                for (String fieldName : refFields) {
-                    try {
-                        targetRefField = gatherObjectiveTaskClass.getDeclaredField(fieldName);
-                        targetRefField.setAccessible(true);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[GatherObjectiveTaskSanitizer] Found target ref field: " + fieldName
-                        );
-                        break;
-                    } catch (NoSuchFieldException e) {
-                        // Try next
-                    }
+                if (HytaleAccess.fieldGetter(gatherObjectiveTaskClass, "targetRef", "ref", "entityRef", "target") != null) {
+                    plugin.getLogger().at(Level.INFO).log(
+                        "[GatherObjectiveTaskSanitizer] Found target ref field"
+                    );
                 }
             }
 
@@ -298,7 +314,6 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
     /**
      * Validate player objectives and check for null refs.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void validatePlayerObjectives(
             Player player,
             Store<EntityStore> store,
@@ -311,18 +326,14 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
 
         try {
             // Try to get the ObjectiveDataStore component from the player
+            @SuppressWarnings("unchecked")
             Object dataStore = chunk.getComponent(entityIndex, objectiveDataStoreType);
             if (dataStore == null) {
                 return;
             }
 
             // Get tasks from the data store
-            Object tasks = null;
-            if (getTasksMethod != null) {
-                tasks = getTasksMethod.invoke(dataStore);
-            } else if (tasksField != null) {
-                tasks = tasksField.get(dataStore);
-            }
+            Object tasks = tasksGetter != null ? (Object) tasksGetter.invokeExact(dataStore) : null;
 
             if (tasks == null) {
                 // Try direct validation on the dataStore itself
@@ -330,15 +341,31 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
                 return;
             }
 
+            // Skip if nothing changed and no ref was invalidated since the last validation
+            long now = System.nanoTime();
+            int taskCount = countTasks(tasks);
+            long generation = refBus != null ? refBus.getGeneration() : -1;
+            ValidatedStamp stamp = validatedStamps.get(dataStore);
+            if (stamp != null && taskCount >= 0 && refBus != null
+                    && stamp.tasks().get() == tasks
+                    && stamp.taskCount() == taskCount
+                    && stamp.invalidationGeneration() == generation
+                    && now - stamp.validatedAtNanos() < REVALIDATE_NANOS) {
+                objectivesSkipped++;
+                return;
+            }
+
+            int fixedBefore = fixedCount;
+
             // If tasks is iterable, check each task
-            if (tasks instanceof Iterable) {
-                for (Object task : (Iterable<?>) tasks) {
+            if (tasks instanceof Iterable<?> iterable) {
+                for (Object task : iterable) {
                     if (task != null) {
                         validateObjectiveRefs(task);
                     }
                 }
-            } else if (tasks.getClass().isArray()) {
-                for (Object task : (Object[]) tasks) {
+            } else if (tasks instanceof Object[] array) {
+                for (Object task : array) {
                     if (task != null) {
                         validateObjectiveRefs(task);
                     }
@@ -348,88 +375,146 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
                 validateObjectiveRefs(tasks);
             }
 
-        } catch (Exception e) {
+            // Only stamp a clean pass - anything we had to fix gets looked at again next time
+            if (fixedCount == fixedBefore) {
+                validatedStamps.put(dataStore, new ValidatedStamp(new WeakReference<>(tasks), taskCount, generation, now));
+            }
+
+        } catch (Throwable t) {
             // Silently fail - we're just trying to prevent crashes
         }
     }
 
     /**
-     * Validate refs in an objective component via reflection.
+     * Size of the tasks container, or -1 if it can't be known cheaply (never skipped).
+     */
+    private static int countTasks(Object tasks) {
+        if (tasks instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (tasks instanceof Object[] array) {
+            return array.length;
+        }
+        return tasks instanceof Iterable<?> ? -1 : 1;
+    }
+
+    /**
+     * Validate refs in an objective component using its compiled plan.
      */
     private void validateObjectiveRefs(Object objectiveComponent) {
-        try {
-            // Look for fields that might contain Refs
-            for (Field field : objectiveComponent.getClass().getDeclaredFields()) {
-                if (Ref.class.isAssignableFrom(field.getType())) {
-                    field.setAccessible(true);
-                    Object refValue = field.get(objectiveComponent);
-
-                    if (refValue == null) {
-                        plugin.getLogger().at(Level.WARNING).log(
-                            "[GatherObjectiveTaskSanitizer] Found null ref in objective field: " +
-                            field.getName() + " - attempting to clear objective"
-                        );
-                        fixedCount++;
-                        // Try to clear/cancel the objective
-                        tryToClearObjective(objectiveComponent);
-                    } else if (refValue instanceof Ref<?>) {
-                        Ref<?> ref = (Ref<?>) refValue;
-                        if (!ref.isValid()) {
-                            plugin.getLogger().at(Level.WARNING).log(
-                                "[GatherObjectiveTaskSanitizer] Found invalid ref in objective field: " +
-                                field.getName() + " - attempting to clear objective"
-                            );
-                            fixedCount++;
-                            tryToClearObjective(objectiveComponent);
-                        }
-                    }
+        ObjectivePlan plan = objectivePlans.get(objectiveComponent.getClass());
+        MethodHandle[] getters = plan.refGetters();
+        for (int i = 0; i < getters.length; i++) {
+            try {
+                Object refValue = (Object) getters[i].invokeExact(objectiveComponent);
+
+                if (refValue == null) {
+                    plugin.getLogger().at(Level.WARNING).log(
+                        "[GatherObjectiveTaskSanitizer] Found null ref in objective field: " +
+                        plan.refFieldNames()[i] + " - attempting to clear objective"
+                    );
+                    fixedCount++;
+                    // Try to clear/cancel the objective
+                    tryToClearObjective(objectiveComponent, plan);
+                } else if (refValue instanceof Ref<?> ref && !ref.isValid()) {
+                    plugin.getLogger().at(Level.WARNING).log(
+                        "[GatherObjectiveTaskSanitizer] Found invalid ref in objective field: " +
+                        plan.refFieldNames()[i] + " - attempting to clear objective"
+                    );
+                    fixedCount++;
+                    tryToClearObjective(objectiveComponent, plan);
                 }
+            } catch (Throwable t) {
+                // Silently fail
             }
-        } catch (Exception e) {
-            // Silently fail
         }
     }
 
     /**
      * Try to clear/cancel an objective with invalid refs.
      */
-    private void tryToClearObjective(Object objectiveComponent) {
+    private void tryToClearObjective(Object objectiveComponent, ObjectivePlan plan) {
+        if (plan.clearer() == null) {
+            return;
+        }
         try {
-            // Try common methods to cancel/clear
-            String[] methodNames = {"cancel", "clear", "fail", "complete", "setCompleted", "setCancelled"};
+            if (plan.clearTakesFlag()) {
+                plan.clearer().invokeExact(objectiveComponent, true);
+                plugin.getLogger().at(Level.INFO).log(
+                    "[GatherObjectiveTaskSanitizer] Called " + plan.clearMethodName() + "(true) to prevent crash"
+                );
+            } else {
+                plan.clearer().invokeExact(objectiveComponent);
+                plugin.getLogger().at(Level.INFO).log(
+                    "[GatherObjectiveTaskSanitizer] Called " + plan.clearMethodName() + "() to prevent crash"
+                );
+            }
+        } catch (Throwable t) {
+            plugin.getLogger().at(Level.WARNING).log(
+                "[GatherObjectiveTaskSanitizer] Could not clear objective: " + t.getMessage()
+            );
+        }
+    }
 
-            for (String methodName : methodNames) {
-                try {
-                    Method method = objectiveComponent.getClass().getMethod(methodName);
-                    method.invoke(objectiveComponent);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[GatherObjectiveTaskSanitizer] Called " + methodName + "() to prevent crash"
-                    );
-                    return;
-                } catch (NoSuchMethodException e) {
-                    // Try next method
-                }
+    /**
+     * Compile the accessor plan for one objective/task class. Runs once per class.
+     */
+    private ObjectivePlan compilePlan(Class<?> type) {
+        List<String> names = new ArrayList<>();
+        List<MethodHandle> getters = new ArrayList<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        // Look for fields that might contain Refs
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || !Ref.class.isAssignableFrom(field.getType())) {
+                continue;
             }
+            try {
+                field.setAccessible(true);
+                getters.add(lookup.unreflectGetter(field).asType(GETTER_TYPE));
+                names.add(field.getName());
+            } catch (Exception e) {
+                plugin.getLogger().at(Level.FINE).log(
+                    "[GatherObjectiveTaskSanitizer] Cannot access " + type.getSimpleName() + "." + field.getName()
+                );
+            }
+        }
 
-            // Try with boolean parameter
-            for (String methodName : methodNames) {
+        // Resolve the clear method - no-arg first, then (boolean)
+        String clearName = null;
+        MethodHandle clearer = null;
+        boolean takesFlag = false;
+        MethodHandles.Lookup publicLookup = MethodHandles.publicLookup();
+        for (int pass = 0; pass < 2 && clearer == null; pass++) {
+            for (String methodName : CLEAR_METHOD_NAMES) {
                 try {
-                    Method method = objectiveComponent.getClass().getMethod(methodName, boolean.class);
-                    method.invoke(objectiveComponent, true);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[GatherObjectiveTaskSanitizer] Called " + methodName + "(true) to prevent crash"
-                    );
-                    return;
-                } catch (NoSuchMethodException e) {
+                    Method method = pass == 0 ? type.getMethod(methodName) : type.getMethod(methodName, boolean.class);
+                    clearer = pass == 0
+                            ? publicLookup.unreflect(method).asType(MethodType.methodType(void.class, Object.class))
+                            : publicLookup.unreflect(method).asType(MethodType.methodType(void.class, Object.class, boolean.class));
+                    clearName = methodName;
+                    takesFlag = pass == 1;
+                    break;
+                } catch (NoSuchMethodException | IllegalAccessException e) {
                     // Try next method
                 }
             }
+        }
 
-        } catch (Exception e) {
-            plugin.getLogger().at(Level.WARNING).log(
-                "[GatherObjectiveTaskSanitizer] Could not clear objective: " + e.getMessage()
+        if (!getters.isEmpty()) {
+            plugin.getLogger().at(Level.INFO).log(
+                "[GatherObjectiveTaskSanitizer] Compiled plan for " + type.getSimpleName() +
+                ": ref fields " + names + ", clear via " + (clearName != null ? clearName + "()" : "none")
             );
         }
+
+        return new ObjectivePlan(
+                names.toArray(new String[0]),
+                getters.toArray(new MethodHandle[0]),
+                clearName,
+                clearer,
+                takesFlag
+        );
     }
 
     /**
@@ -451,13 +536,15 @@ public class GatherObjectiveTaskSanitizer extends EntityTickingSystem<EntityStor
             "  GatherObjectiveTask Found: %s\n" +
             "  Component Type Found: %s\n" +
             "  Tasks Field/Method Found: %s\n" +
+            "  Unchanged Objectives Skipped: %d\n" +
             "  Objectives Fixed: %d",
             discoveryComplete,
             discoveryFailed,
             objectiveDataStoreClass != null ? objectiveDataStoreClass.getSimpleName() : "None",
             gatherObjectiveTaskClass != null ? gatherObjectiveTaskClass.getSimpleName() : "None",
             objectiveDataStoreType != null,
-            (tasksField != null || getTasksMethod != null),
+            tasksGetter != null,
+            objectivesSkipped,
             fixedCount
         );
     }
@@ -12,12 +12,19 @@ import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 /**
@@ -47,16 +54,10 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     private final HyFixes plugin;
 
     // Discovered via reflection at runtime
-    private Class<?> interactionManagerClass = null;
+    // Chain accessors live in ChainAccess (static final handles) - see below
     private ComponentType interactionManagerType = null;
-    private Method getChainsMethod = null;
-    private Field contextField = null;  // InteractionChain.context
-    private Field owningEntityField = null;  // InteractionContext.owningEntity
-    private Method isValidMethod = null;  // Ref.isValid()
 
     // Timeout detection - added in v1.3.3
-    private Field callStateField = null;  // InteractionChain.callState (enum)
-    private Field waitStartTimeField = null;  // Timestamp when chain started waiting
     private Method cancelMethod = null;  // InteractionChain.cancel() or similar
     private Object waitingForClientDataState = null;  // CallState.WAITING_FOR_CLIENT_DATA enum value
 
@@ -64,8 +65,15 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     // Lowered from 2500ms in v1.3.6 to catch more timeout issues before player gets kicked
     private final long clientTimeoutMs;
 
-    // Track chains waiting for client data: chainKey -> firstSeenTimestamp
-    private final ConcurrentHashMap<String, Long> waitingChains = new ConcurrentHashMap<>();
+    private final long clientTimeoutNanos;
+
+    // Track chains waiting for client data, one slot per entity: chainId -> firstSeenNanos
+    private final ConcurrentHashMap<Ref<EntityStore>, ChainWaitSlot> waitingChains = new ConcurrentHashMap<>();
+    private static final Function<Ref<EntityStore>, ChainWaitSlot> NEW_WAIT_SLOT = ref -> new ChainWaitSlot();
+
+    // Slots not ticked for this long belong to entities that are gone
+    private static final long WAIT_SLOT_SWEEP_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private volatile long nextSlotSweepNanos = System.nanoTime() + WAIT_SLOT_SWEEP_NANOS;
 
     private boolean initialized = false;
     private boolean apiDiscoveryFailed = false;
@@ -80,6 +88,7 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     public InteractionManagerSanitizer(HyFixes plugin) {
         this.plugin = plugin;
         this.clientTimeoutMs = ConfigManager.getInstance().getInteractionManagerClientTimeoutMs();
+        this.clientTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(clientTimeoutMs);
     }
 
     @Override
@@ -116,14 +125,29 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
 
             // Get the chains map
             @SuppressWarnings("unchecked")
-            Map<Integer, Object> chains = (Map<Integer, Object>) getChainsMethod.invoke(interactionManager);
+            Map<Integer, Object> chains = (Map<Integer, Object>) ChainAccess.GET_CHAINS.invokeExact(interactionManager);
             if (chains == null || chains.isEmpty()) {
+                // No chains - nothing can be waiting, drop any tracking for this entity
+                if (timeoutDetectionEnabled) {
+                    waitingChains.remove(ref);
+                }
                 return;
             }
 
-            // Validate each chain
-            java.util.List<Integer> chainsToRemove = new java.util.ArrayList<>();
-            java.util.List<String> seenChainKeys = new java.util.ArrayList<>();
+            // Per-entity wait tracking slot (timeout detection only)
+            ChainWaitSlot waitSlot = null;
+            long now = 0;
+            if (timeoutDetectionEnabled) {
+                now = System.nanoTime();
+                waitSlot = waitingChains.computeIfAbsent(ref, NEW_WAIT_SLOT);
+                waitSlot.beginPass(now);
+                if (now - nextSlotSweepNanos > 0) {
+                    sweepStaleWaitSlots(now);
+                }
+            }
+
+            // Validate each chain - removal list is only allocated if something is actually wrong
+            List<Integer> chainsToRemove = null;
 
             for (Map.Entry<Integer, Object> entry : chains.entrySet()) {
                 chainsValidated.incrementAndGet();
@@ -131,78 +155,69 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
                 Integer chainId = entry.getKey();
 
                 if (chain == null) {
-                    chainsToRemove.add(chainId);
+                    chainsToRemove = addRemoval(chainsToRemove, chainId);
                     continue;
                 }
 
                 // Check if context is null
-                Object context = contextField.get(chain);
+                Object context = (Object) ChainAccess.CONTEXT.invokeExact(chain);
                 if (context == null) {
-                    chainsToRemove.add(chainId);
+                    chainsToRemove = addRemoval(chainsToRemove, chainId);
                     plugin.getLogger().at(Level.WARNING).log(
                             "[InteractionManagerSanitizer] Found chain with null context, removing to prevent crash");
                     continue;
                 }
 
                 // Check if owningEntity ref is null or invalid
-                Object owningEntityRef = owningEntityField.get(context);
+                Object owningEntityRef = (Object) ChainAccess.OWNING_ENTITY.invokeExact(context);
                 if (owningEntityRef == null) {
-                    chainsToRemove.add(chainId);
+                    chainsToRemove = addRemoval(chainsToRemove, chainId);
                     plugin.getLogger().at(Level.WARNING).log(
                             "[InteractionManagerSanitizer] Found chain with null owningEntity ref, removing to prevent crash");
                     continue;
                 }
 
-                // Check if the ref is valid
-                if (isValidMethod != null) {
-                    Boolean isValid = (Boolean) isValidMethod.invoke(owningEntityRef);
-                    if (!isValid) {
-                        chainsToRemove.add(chainId);
-                        plugin.getLogger().at(Level.WARNING).log(
-                                "[InteractionManagerSanitizer] Found chain with invalid owningEntity ref, removing to prevent crash");
-                        continue;
-                    }
+                // Check if the ref is valid (direct call - Ref is public API)
+                if (owningEntityRef instanceof Ref<?> owningRef && !owningRef.isValid()) {
+                    chainsToRemove = addRemoval(chainsToRemove, chainId);
+                    plugin.getLogger().at(Level.WARNING).log(
+                            "[InteractionManagerSanitizer] Found chain with invalid owningEntity ref, removing to prevent crash");
+                    continue;
                 }
 
                 // Client timeout detection (v1.3.3)
-                if (timeoutDetectionEnabled && callStateField != null) {
+                if (waitSlot != null) {
                     try {
-                        Object callState = callStateField.get(chain);
-                        String chainKey = ref.toString() + ":" + chainId;
-                        seenChainKeys.add(chainKey);
+                        Object callState = (Object) ChainAccess.CALL_STATE.invokeExact(chain);
 
                         // Check if chain is waiting for client data
+                        // Chains not marked this pass (no longer waiting, or gone) are swept below
                         if (isWaitingForClientData(callState)) {
-                            Long firstSeen = waitingChains.get(chainKey);
-                            long now = System.currentTimeMillis();
+                            long firstSeen = waitSlot.markWaiting(chainId, now);
 
-                            if (firstSeen == null) {
-                                // First time seeing this chain waiting
-                                waitingChains.put(chainKey, now);
-                            } else if (now - firstSeen > clientTimeoutMs) {
+                            if (now - firstSeen > clientTimeoutNanos) {
                                 // Chain has been waiting too long - proactively cancel it
-                                chainsToRemove.add(chainId);
-                                waitingChains.remove(chainKey);
+                                chainsToRemove = addRemoval(chainsToRemove, chainId);
+                                waitSlot.remove(chainId);
                                 timeoutsPrevented.incrementAndGet();
                                 plugin.getLogger().at(Level.WARNING).log(
                                         "[InteractionManagerSanitizer] Chain waiting for client data > " +
                                         clientTimeoutMs + "ms, removing to prevent kick (chain " + chainId + ")");
                             }
-                        } else {
-                            // Chain not waiting anymore - remove from tracking
-                            waitingChains.remove(chainKey);
                         }
-                    } catch (Exception e) {
+                    } catch (Throwable t) {
                         // Ignore timeout check errors - still have main validation
                     }
                 }
             }
 
-            // Clean up tracking for chains that no longer exist
-            waitingChains.keySet().removeIf(key -> !seenChainKeys.contains(key));
+            // Clean up tracking for chains that no longer exist or stopped waiting
+            if (waitSlot != null) {
+                waitSlot.sweep();
+            }
 
             // Remove invalid chains
-            if (!chainsToRemove.isEmpty()) {
+            if (chainsToRemove != null) {
                 for (Integer chainId : chainsToRemove) {
                     chains.remove(chainId);
                     chainsRemoved.incrementAndGet();
@@ -213,28 +228,38 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
                                 " invalid chain(s) to prevent player kick");
             }
 
-        } catch (Exception e) {
+        } catch (Throwable t) {
             // Don't crash on our sanitizer - log and continue
             plugin.getLogger().at(Level.FINE).log(
-                    "[InteractionManagerSanitizer] Error during validation: " + e.getMessage());
+                    "[InteractionManagerSanitizer] Error during validation: " + t.getMessage());
+        }
+    }
+
+    private static List<Integer> addRemoval(List<Integer> chainsToRemove, Integer chainId) {
+        if (chainsToRemove == null) {
+            chainsToRemove = new ArrayList<>();
         }
+        chainsToRemove.add(chainId);
+        return chainsToRemove;
+    }
+
+    /**
+     * Drop wait slots for entities that haven't been ticked recently (disconnected, unloaded).
+     * Runs at most once per WAIT_SLOT_SWEEP_NANOS.
+     */
+    private void sweepStaleWaitSlots(long now) {
+        nextSlotSweepNanos = now + WAIT_SLOT_SWEEP_NANOS;
+        waitingChains.values().removeIf(slot -> now - slot.lastPassNanos > WAIT_SLOT_SWEEP_NANOS);
     }
 
     private void discoverApi() {
         try {
             plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] Discovering InteractionManager API...");
 
-            // Find InteractionManager class
-            interactionManagerClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionManager");
-
-            // Find InteractionChain class
-            Class<?> interactionChainClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain");
-
-            // Find InteractionContext class
-            Class<?> interactionContextClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionContext");
-
-            // Find Ref class
-            Class<?> refClass = Class.forName("com.hypixel.hytale.component.Ref");
+            // Resolve chain accessors (runs ChainAccess's static initializer once)
+            if (ChainAccess.FAILURE != null) {
+                throw ChainAccess.FAILURE;
+            }
 
             // Get ComponentType for InteractionManager via InteractionModule
             Class<?> interactionModuleClass = Class.forName("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
@@ -243,30 +268,15 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             Method getComponentTypeMethod = interactionModuleClass.getMethod("getInteractionManagerComponent");
             interactionManagerType = (ComponentType) getComponentTypeMethod.invoke(interactionModule);
 
-            // Get getChains() method
-            getChainsMethod = interactionManagerClass.getMethod("getChains");
-
-            // Get context field from InteractionChain
-            contextField = interactionChainClass.getDeclaredField("context");
-            contextField.setAccessible(true);
-
-            // Get owningEntity field from InteractionContext
-            owningEntityField = interactionContextClass.getDeclaredField("owningEntity");
-            owningEntityField.setAccessible(true);
-
-            // Get isValid() method from Ref
-            isValidMethod = refClass.getMethod("isValid");
-
             initialized = true;
             plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] API discovery successful!");
             plugin.getLogger().at(Level.INFO).log("  - InteractionManager ComponentType: " + interactionManagerType);
-            plugin.getLogger().at(Level.INFO).log("  - getChains method: " + getChainsMethod);
-            plugin.getLogger().at(Level.INFO).log("  - context field: " + contextField);
-            plugin.getLogger().at(Level.INFO).log("  - owningEntity field: " + owningEntityField);
-            plugin.getLogger().at(Level.INFO).log("  - isValid method: " + isValidMethod);
+            plugin.getLogger().at(Level.INFO).log("  - getChains handle: " + ChainAccess.GET_CHAINS);
+            plugin.getLogger().at(Level.INFO).log("  - context handle: " + ChainAccess.CONTEXT);
+            plugin.getLogger().at(Level.INFO).log("  - owningEntity handle: " + ChainAccess.OWNING_ENTITY);
 
             // Timeout detection discovery (v1.3.3)
-            discoverTimeoutApi(interactionChainClass);
+            discoverTimeoutApi(ChainAccess.CHAIN_CLASS);
 
         } catch (ClassNotFoundException e) {
             plugin.getLogger().at(Level.WARNING).log(
@@ -280,9 +290,9 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             plugin.getLogger().at(Level.WARNING).log(
                     "[InteractionManagerSanitizer] API discovery failed - field not found: " + e.getMessage());
             apiDiscoveryFailed = true;
-        } catch (Exception e) {
+        } catch (Throwable t) {
             plugin.getLogger().at(Level.WARNING).log(
-                    "[InteractionManagerSanitizer] API discovery failed: " + e.getMessage());
+                    "[InteractionManagerSanitizer] API discovery failed: " + t.getMessage());
             apiDiscoveryFailed = true;
         }
     }
@@ -296,18 +306,10 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             // Find CallState enum
             Class<?> callStateClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain$CallState");
 
-            // Find callState field on InteractionChain
-            String[] stateFieldNames = {"callState", "state", "currentState"};
-            for (String fieldName : stateFieldNames) {
-                try {
-                    callStateField = interactionChainClass.getDeclaredField(fieldName);
-                    callStateField.setAccessible(true);
-                    plugin.getLogger().at(Level.INFO).log(
-                            "[InteractionManagerSanitizer] Found callState field: " + fieldName);
-                    break;
-                } catch (NoSuchFieldException e) {
-                    // Try next
-                }
+            // callState field on InteractionChain is resolved by ChainAccess
+            if (ChainAccess.CALL_STATE != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                        "[InteractionManagerSanitizer] Found callState field: " + ChainAccess.CALL_STATE_FIELD);
             }
 
             // Find WAITING_FOR_CLIENT_DATA enum value
@@ -337,7 +339,7 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             }
 
             // Enable timeout detection if we found the state field
-            if (callStateField != null && waitingForClientDataState != null) {
+            if (ChainAccess.CALL_STATE != null && waitingForClientDataState != null) {
                 timeoutDetectionEnabled = true;
                 plugin.getLogger().at(Level.INFO).log(
                         "[InteractionManagerSanitizer] Client timeout detection ENABLED (" +
@@ -345,7 +347,7 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             } else {
                 plugin.getLogger().at(Level.INFO).log(
                         "[InteractionManagerSanitizer] Client timeout detection not available " +
-                        "(callStateField=" + (callStateField != null) +
+                        "(callStateField=" + (ChainAccess.CALL_STATE != null) +
                         ", waitingState=" + (waitingForClientDataState != null) + ")");
             }
 
@@ -358,6 +360,149 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
         }
     }
 
+    /**
+     * Chain inspection handles, resolved once on first use (from discoverApi()).
+     *
+     * Kept as static final MethodHandles rather than Field/Method instances so the
+     * JIT treats them as constants and can inline the per-player validation loop.
+     * All handles are adapted to Object parameters; FAILURE is set if a required one is missing.
+     */
+    private static final class ChainAccess {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        static final Class<?> CHAIN_CLASS;
+        static final MethodHandle GET_CHAINS;     // InteractionManager.getChains() -> Map
+        static final MethodHandle CONTEXT;        // InteractionChain.context
+        static final MethodHandle OWNING_ENTITY;  // InteractionContext.owningEntity
+        static final MethodHandle CALL_STATE;     // InteractionChain.callState (optional, timeout detection)
+        static final String CALL_STATE_FIELD;
+        static final Throwable FAILURE;
+
+        static {
+            Class<?> chainClass = null;
+            MethodHandle getChains = null;
+            MethodHandle context = null;
+            MethodHandle owningEntity = null;
+            MethodHandle callState = null;
+            String callStateField = null;
+            Throwable failure = null;
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+                Class<?> managerClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionManager");
+                chainClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain");
+                Class<?> contextClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionContext");
+
+                getChains = lookup.unreflect(managerClass.getMethod("getChains"))
+                        .asType(MethodType.methodType(Map.class, Object.class));
+                context = getter(lookup, chainClass.getDeclaredField("context"));
+                owningEntity = getter(lookup, contextClass.getDeclaredField("owningEntity"));
+
+                for (String fieldName : new String[]{"callState", "state", "currentState"}) {
+                    try {
+                        callState = getter(lookup, chainClass.getDeclaredField(fieldName));
+                        callStateField = fieldName;
+                        break;
+                    } catch (NoSuchFieldException e) {
+                        // Try next
+                    }
+                }
+            } catch (Throwable t) {
+                failure = t;
+            }
+
+            CHAIN_CLASS = chainClass;
+            GET_CHAINS = getChains;
+            CONTEXT = context;
+            OWNING_ENTITY = owningEntity;
+            CALL_STATE = callState;
+            CALL_STATE_FIELD = callStateField;
+            FAILURE = failure;
+        }
+
+        private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+            field.setAccessible(true);
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        }
+    }
+
+    /**
+     * Wait tracking for one entity: chainId -> nanoTime the chain was first seen waiting for client data.
+     *
+     * Parallel primitive arrays with a linear scan - a player only has a handful of chains,
+     * and nothing is allocated once the arrays have grown to fit. Each tick is a new generation;
+     * entries not re-marked during the pass (chain finished, stopped waiting, or removed) are swept.
+     * Only touched from the world thread that ticks the owning entity.
+     */
+    private static final class ChainWaitSlot {
+        private int[] chainIds = new int[4];
+        private long[] firstSeenNanos = new long[4];
+        private int[] markedGeneration = new int[4];
+        private int size = 0;
+        private int generation = 0;
+        private volatile long lastPassNanos;
+
+        void beginPass(long now) {
+            generation++;
+            lastPassNanos = now;
+        }
+
+        /**
+         * Mark a chain as waiting in the current pass.
+         *
+         * @return When the chain was first seen waiting
+         */
+        long markWaiting(int chainId, long now) {
+            for (int i = 0; i < size; i++) {
+                if (chainIds[i] == chainId) {
+                    markedGeneration[i] = generation;
+                    return firstSeenNanos[i];
+                }
+            }
+
+            if (size == chainIds.length) {
+                int capacity = size * 2;
+                chainIds = Arrays.copyOf(chainIds, capacity);
+                firstSeenNanos = Arrays.copyOf(firstSeenNanos, capacity);
+                markedGeneration = Arrays.copyOf(markedGeneration, capacity);
+            }
+            chainIds[size] = chainId;
+            firstSeenNanos[size] = now;
+            markedGeneration[size] = generation;
+            size++;
+            return now;
+        }
+
+        void remove(int chainId) {
+            for (int i = 0; i < size; i++) {
+                if (chainIds[i] == chainId) {
+                    removeAt(i);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Drop every entry that wasn't marked during the current pass.
+         */
+        void sweep() {
+            for (int i = size - 1; i >= 0; i--) {
+                if (markedGeneration[i] != generation) {
+                    removeAt(i);
+                }
+            }
+        }
+
+        private void removeAt(int i) {
+            // Swap-remove, order doesn't matter
+            size--;
+            chainIds[i] = chainIds[size];
+            firstSeenNanos[i] = firstSeenNanos[size];
+            markedGeneration[i] = markedGeneration[size];
+        }
+    }
+
     /**
      * Check if a chain's CallState indicates it's waiting for client data.
      */
@@ -0,0 +1,304 @@
+package com.hyfixes.listeners;
+
+import com.hyfixes.HyFixes;
+import com.hyfixes.systems.TickClock;
+import com.hyfixes.util.WeakIdentityMap;
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * RefInvalidationBus - Central record of entity refs that just went invalid
+ *
+ * Several sanitizers only exist to catch refs that went stale when an entity was removed
+ * (ChunkTrackerSanitizer's PlayerRefs, GatherObjectiveTaskSanitizer's targets).
+ * Instead of each of them polling every structure every tick, this system records
+ * invalidations as they happen:
+ * - Entity removal (RefSystem on every entity with a transform - deaths, despawns, unloads,
+ *   and for players also disconnects and world changes, where the PlayerRef is recorded too)
+ * - PlayerDisconnectEvent (the PlayerRef itself)
+ *
+ * Each invalidation bumps a generation counter (player invalidations also bump a separate
+ * player generation), and the ref is kept with the generation it was recorded at in a weak
+ * identity map of the most recent ones - membership checks are a lock-free lookup, and an
+ * old ref held here never keeps an entity's objects alive.
+ * Consumers hold a {@link Cursor} and poll it per world: while nothing new has been
+ * invalidated that is a single volatile read. Otherwise it hands out a {@link Delta} - the
+ * refs invalidated since that world was last swept - until every entity of the world has
+ * been visited with it, then settles back to idle.
+ */
+public class RefInvalidationBus extends RefSystem<EntityStore> {
+
+    // Recent invalidations kept for membership checks. Pruned in batches once twice as many
+    // have piled up - a consumer further behind than that just falls back to its own checks
+    private static final int RECENT_CAPACITY = 1024;
+
+    // Progress of a world nobody polled for this long (no players left) no longer holds the cursor busy
+    private static final long STALE_PROGRESS_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final HyFixes plugin;
+
+    private volatile long generation = 0;
+    private volatile long playerGeneration = 0;
+    // Generation the last prune cut at - a delta reaching further back than this misses
+    // entries, and its consumer's own validity checks cover them
+    private long prunedThrough = 0;
+
+    // Recently invalidated Refs / PlayerRefs -> generation recorded at; written under this
+    private final WeakIdentityMap<Object, Long> recent = new WeakIdentityMap<>();
+
+    private boolean eventsRegistered = false;
+
+    // Statistics
+    private final AtomicInteger entityRemovals = new AtomicInteger(0);
+    private final AtomicInteger playerRemovals = new AtomicInteger(0);
+    private final AtomicInteger disconnects = new AtomicInteger(0);
+
+    public RefInvalidationBus(HyFixes plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Register for disconnect events. Entity removal arrives through the RefSystem callbacks.
+     */
+    public void register() {
+        try {
+            plugin.getEventRegistry().register(
+                    PlayerDisconnectEvent.class,
+                    this::onPlayerDisconnect
+            );
+            eventsRegistered = true;
+        } catch (Throwable t) {
+            plugin.getLogger().at(Level.WARNING).log(
+                    "[RefInvalidationBus] Could not register disconnect event: " + t.getMessage());
+        }
+    }
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        // Every positioned entity - anything a sanitizer may hold a ref to
+        return TransformComponent.getComponentType();
+    }
+
+    @Override
+    public void onEntityAdded(
+            Ref<EntityStore> ref,
+            AddReason reason,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        // New refs are valid - nothing to record
+    }
+
+    @Override
+    public void onEntityRemove(
+            Ref<EntityStore> ref,
+            RemoveReason reason,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        entityRemovals.incrementAndGet();
+        PlayerRef playerRef = null;
+        try {
+            playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        } catch (Throwable t) {
+            // Not readable any more - the ref alone is still recorded
+        }
+        if (playerRef != null) {
+            playerRemovals.incrementAndGet();
+        }
+        record(ref, playerRef, playerRef != null);
+    }
+
+    private void onPlayerDisconnect(PlayerDisconnectEvent event) {
+        disconnects.incrementAndGet();
+        try {
+            record(event.getPlayerRef(), null, true);
+        } catch (Throwable t) {
+            // Still bump the generation so consumers sweep
+            record(null, null, true);
+        }
+    }
+
+    private void record(Object invalidated, Object alsoInvalidated, boolean player) {
+        synchronized (this) {
+            long recorded = generation + 1;
+            if (invalidated != null) {
+                recent.put(invalidated, recorded);
+            }
+            if (alsoInvalidated != null) {
+                recent.put(alsoInvalidated, recorded);
+            }
+            if (recorded - prunedThrough > 2L * RECENT_CAPACITY) {
+                long oldest = recorded - RECENT_CAPACITY;
+                recent.removeValues(at -> at <= oldest);
+                prunedThrough = oldest;
+            }
+            generation = recorded;
+            if (player) {
+                playerGeneration = recorded;
+            }
+        }
+    }
+
+    /**
+     * Current invalidation generation - bumped by every entity removal and disconnect.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Create a cursor for one consumer.
+     *
+     * @param playersOnly Only wake up for player invalidations (removals and disconnects)
+     */
+    public Cursor newCursor(boolean playersOnly) {
+        return new Cursor(playersOnly, playersOnly ? playerGeneration : generation);
+    }
+
+    /**
+     * Refs invalidated within a range of generations.
+     */
+    public final class Delta {
+        private final long from;  // exclusive
+        private final long to;    // inclusive
+
+        private Delta(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Whether this exact Ref or PlayerRef was invalidated within this delta.
+         * Lock-free, so sweeps may call it per element.
+         */
+        public boolean contains(Object refOrPlayerRef) {
+            Long at = recent.get(refOrPlayerRef);
+            return at != null && at > from && at <= to;
+        }
+    }
+
+    /**
+     * Per-consumer view of the bus, tracked separately for each world.
+     */
+    public final class Cursor {
+        private final boolean playersOnly;
+
+        // Every world this consumer polls has been swept up to here. Written from world threads
+        // without synchronization - a stale value only costs an extra slow-path poll
+        private volatile long idleAt;
+
+        private final WeakIdentityMap<Store<EntityStore>, Progress> progress = new WeakIdentityMap<>();
+
+        private Cursor(boolean playersOnly, long idleAt) {
+            this.playersOnly = playersOnly;
+            this.idleAt = idleAt;
+        }
+
+        /**
+         * Refs invalidated since this consumer last swept the given world, or null if there is
+         * nothing new. Idle cost is a single volatile read compare. A sweep hands the same delta
+         * to every entity ticked over two full world ticks - the tick it started in may already
+         * have been half done - and the world settles on the tick after that.
+         * Must be called from the world's own thread.
+         */
+        public Delta poll(Store<EntityStore> store) {
+            long current = playersOnly ? playerGeneration : generation;
+            if (current == idleAt) {
+                return null;
+            }
+            return pollSlow(store, current);
+        }
+
+        private Delta pollSlow(Store<EntityStore> store, long current) {
+            long now = System.nanoTime();
+            Progress world = progress.get(store);
+            if (world == null) {
+                world = new Progress(idleAt);
+                progress.put(store, world);
+            }
+            world.lastPollNanos = now;
+
+            long tick = TickClock.current(store);
+            if (tick != world.tick) {
+                world.tick = tick;
+                if (world.delta != null && tick - world.sweepStartTick >= 2) {
+                    world.settled = world.sweepTo;
+                    world.delta = null;
+                }
+                if (current > world.sweepTo) {
+                    // New invalidations - (re)start the sweep with the widened delta
+                    world.sweepTo = current;
+                    world.sweepStartTick = tick;
+                    world.delta = new Delta(world.settled, current);
+                }
+                if (world.delta == null) {
+                    settleIfAllSwept(current, now);
+                }
+            }
+            return world.delta;
+        }
+
+        private void settleIfAllSwept(long current, long now) {
+            for (Progress world : progress.values()) {
+                if (world.settled < current && now - world.lastPollNanos < STALE_PROGRESS_NANOS) {
+                    return;
+                }
+            }
+            idleAt = current;
+        }
+    }
+
+    /**
+     * One consumer's sweep state in one world. Only that world's thread writes it;
+     * other worlds read settled / lastPollNanos when deciding whether the cursor is idle.
+     */
+    private static final class Progress {
+        volatile long settled;
+        volatile long lastPollNanos;
+        long sweepTo;
+        long sweepStartTick;
+        long tick = -1;
+        Delta delta;
+
+        Progress(long settled) {
+            this.settled = settled;
+            this.sweepTo = settled;
+        }
+    }
+
+    /**
+     * Get status for admin commands.
+     */
+    public String getStatus() {
+        return String.format(
+            "RefInvalidationBus Status:\n" +
+            "  Generation: %d\n" +
+            "  Disconnect Events: %s\n" +
+            "  Player Generation: %d\n" +
+            "  Entity Removals: %d (%d players)\n" +
+            "  Disconnects: %d\n" +
+            "  Tracked Recent: %d",
+            generation,
+            eventsRegistered,
+            playerGeneration,
+            entityRemovals.get(),
+            playerRemovals.get(),
+            disconnects.get(),
+            recent.size()
+        );
+    }
+}
@@ -4,6 +4,7 @@ import com.hyfixes.HyFixes;
 import com.hyfixes.config.ConfigManager;
 import com.hyfixes.data.BedChunkDatabase;
 import com.hyfixes.systems.ChunkProtectionRegistry;
+import com.hyfixes.util.HytaleAccess;
 import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
@@ -17,6 +18,7 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 import com.hypixel.hytale.server.core.universe.world.meta.state.RespawnBlock;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 import java.util.HashSet;
@@ -479,15 +481,15 @@ public class RespawnBlockProtectionListener extends RefSystem<ChunkStore> {
             } else if (externalData != null) {
                 // Try to get index from external data
                 try {
-                    Method getIndex = externalData.getClass().getMethod("getIndex");
-                    Object idxObj = getIndex.invoke(externalData);
+                    MethodHandle getIndex = HytaleAccess.getter(externalData.getClass(), "getIndex");
+                    Object idxObj = getIndex == null ? null : (Object) getIndex.invokeExact(externalData);
                     if (idxObj instanceof Long idx) {
                         plugin.getLogger().at(Level.INFO).log(
                             "[RespawnBlockProtection] Got chunk index from externalData.getIndex(): 0x%X", idx
                         );
                         return idx;
                     }
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     plugin.getLogger().at(Level.INFO).log(
                         "[RespawnBlockProtection] ExternalData type: %s", externalData.getClass().getName()
                     );
@@ -540,15 +542,15 @@ public class RespawnBlockProtectionListener extends RefSystem<ChunkStore> {
                     // Try to get index from the result
                     if (result != null) {
                         try {
-                            Method getIndex = result.getClass().getMethod("getIndex");
-                            Object idxObj = getIndex.invoke(result);
+                            MethodHandle getIndex = HytaleAccess.getter(result.getClass(), "getIndex");
+                            Object idxObj = getIndex == null ? null : (Object) getIndex.invokeExact(result);
                             if (idxObj instanceof Long idx) {
                                 plugin.getLogger().at(Level.INFO).log(
                                     "[RespawnBlockProtection] Got chunk index from store.%s().getIndex(): 0x%X", method.getName(), idx
                                 );
                                 return idx;
                             }
-                        } catch (Exception ignored) {}
+                        } catch (Throwable ignored) {}
                     }
                 }
             }
@@ -1,14 +1,22 @@
 package com.hyfixes.listeners;
 
 import com.hyfixes.HyFixes;
+import com.hyfixes.util.HytaleAccess;
+import com.hyfixes.util.WeakIdentityMap;
+import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
@@ -32,21 +40,43 @@ import java.util.logging.Level;
  *        at com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController.createRandomSpawnJob(BeaconSpawnController.java:110)
  *        at com.hypixel.hytale.server.spawning.beacons.SpawnBeaconSystems$ControllerTick.createRandomSpawnJobs(SpawnBeaconSystems.java:536)
  *
- * SOLUTION: This system monitors spawn beacon entities each tick and validates
- * spawn parameters before Hytale's spawn controller tries to use them.
- * If a null spawn is found, we remove it from the spawn list to prevent the crash.
+ * SOLUTION: Spawn parameters only change when a beacon is loaded or its spawn config
+ * is reassigned, so this is a RefSystem: each BeaconSpawnController is validated when
+ * it is added (spawned or loaded from a chunk) and stamped with its spawn list
+ * (the list's identity and the identity of every entry). A companion
+ * {@link ReassignmentCheck} ticking system compares each beacon against its stamp every
+ * tick in O(1): the list's identity and size, plus one entry (rotating) with ==. A swapped
+ * or resized list is caught on the next tick, an entry replaced or nulled in place within
+ * one pass over the list. The spawns are only validated again (getId() per entry) when
+ * the stamp no longer matches. If a null spawn is found, we remove it from the spawn
+ * list to prevent the crash.
  *
  * NOTE: This uses reflection since we don't have direct API access to
  * BeaconSpawnController. The component discovery happens at runtime.
  */
-public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
+public class SpawnBeaconSanitizer extends RefSystem<EntityStore> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final String[] CONTROLLER_CLASSES = {
+        "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
+        "com.hypixel.hytale.server.spawning.BeaconSpawnController",
+        "com.hypixel.hytale.builtin.spawning.controllers.BeaconSpawnController"
+    };
+    private static final String[] BEACON_CLASSES = {
+        "com.hypixel.hytale.server.spawning.beacons.SpawnBeacon",
+        "com.hypixel.hytale.server.spawning.SpawnBeacon",
+        "com.hypixel.hytale.builtin.spawning.SpawnBeacon"
+    };
 
     private final HyFixes plugin;
     private boolean loggedOnce = false;
     private boolean discoveryComplete = false;
+    private boolean spawnApiDiscovered = false;  // full discovery ran (early discovery only finds types)
     private boolean discoveryFailed = false;
     private int fixedCount = 0;
     private int checkedCount = 0;
+    private int stampChecks = 0;
 
     // Discovered at runtime via reflection
     private Class<?> beaconSpawnControllerClass = null;
@@ -57,11 +87,83 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     @SuppressWarnings("rawtypes")
     private ComponentType beaconSpawnControllerType = null;
 
-    // Fields for accessing spawn data
-    private Field spawnsField = null;  // Field containing spawn configurations
-    private Field roleSpawnsField = null;  // Alternative field name
-    private Field spawnListField = null;  // Another alternative
-    private Method getSpawnsMethod = null;  // Method to get spawns if no direct field
+    // Accessor for spawn data - spawns field, or a getter method if no direct field
+    private MethodHandle spawnsGetter = null;  // (Object)Object
+
+    // Per spawn class: getId() handle, or null if the class has none
+    private final ClassValue<MethodHandle> spawnIdGetters = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            MethodHandle getId = HytaleAccess.method(type, new String[]{"getId"});
+            return getId == null ? null : getId.asType(GETTER_TYPE);
+        }
+    };
+
+    // Last validated spawn list per controller
+    private final WeakIdentityMap<Object, SpawnStamp> validatedStamps = new WeakIdentityMap<>();
+
+    private final ReassignmentCheck reassignmentCheck = new ReassignmentCheck();
+
+    /**
+     * Spawn list a controller was last validated against, with the entries it held.
+     * Only touched from the beacon's world thread.
+     */
+    private static final class SpawnStamp {
+        private final Object spawns;
+        private final Object[] entries;
+        private int cursor = 0;   // next entry compared by matches()
+
+        SpawnStamp(Object spawns, Object[] entries) {
+            this.spawns = spawns;
+            this.entries = entries;
+        }
+
+        /**
+         * O(1): same list and size, and the next entry in rotation is the same instance.
+         * Collections that can't be indexed are compared whole.
+         */
+        boolean matches(Object current) {
+            if (current != spawns || entries == null) {
+                return false;
+            }
+            int size = entries.length;
+            if (sizeOf(current) != size) {
+                return false;
+            }
+            if (size == 0) {
+                return true;
+            }
+            int i = cursor;
+            cursor = i + 1 == size ? 0 : i + 1;
+            if (current instanceof Object[] array) {
+                return array[i] == entries[i];
+            }
+            if (current instanceof List<?> list) {
+                return list.get(i) == entries[i];
+            }
+            Collection<?> values = current instanceof Map<?, ?> map ? map.values() : (Collection<?>) current;
+            int j = 0;
+            for (Object value : values) {
+                if (value != entries[j++]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int sizeOf(Object spawns) {
+            if (spawns instanceof Object[] array) {
+                return array.length;
+            }
+            if (spawns instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (spawns instanceof Map<?, ?> map) {
+                return map.size();
+            }
+            return -1;
+        }
+    }
 
     public SpawnBeaconSanitizer(HyFixes plugin) {
         this.plugin = plugin;
@@ -69,6 +171,13 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
         discoverSpawnAPIEarly();
     }
 
+    /**
+     * The ticking half - must be registered alongside this system.
+     */
+    public ReassignmentCheck getReassignmentCheck() {
+        return reassignmentCheck;
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public Query<EntityStore> getQuery() {
@@ -95,64 +204,17 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     private void discoverSpawnAPIEarly() {
         try {
             // Try to find and get component type for BeaconSpawnController
-            String[] controllerClasses = {
-                "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
-                "com.hypixel.hytale.server.spawning.BeaconSpawnController",
-                "com.hypixel.hytale.builtin.spawning.controllers.BeaconSpawnController"
-            };
-
-            for (String className : controllerClasses) {
-                try {
-                    beaconSpawnControllerClass = Class.forName(className);
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
-            }
-
+            beaconSpawnControllerClass = HytaleAccess.findClass(CONTROLLER_CLASSES);
             if (beaconSpawnControllerClass != null) {
-                try {
-                    Method getTypeMethod = beaconSpawnControllerClass.getMethod("getComponentType");
-                    beaconSpawnControllerType = (ComponentType) getTypeMethod.invoke(null);
-                } catch (Exception e) {
-                    // Try TYPE field
-                    try {
-                        Field typeField = beaconSpawnControllerClass.getField("TYPE");
-                        beaconSpawnControllerType = (ComponentType) typeField.get(null);
-                    } catch (Exception ex) {
-                        // Continue without it
-                    }
-                }
+                beaconSpawnControllerType = (ComponentType) HytaleAccess.invokeStatic(
+                        beaconSpawnControllerClass, "getComponentType", "TYPE");
             }
 
             // Also try SpawnBeacon
-            String[] beaconClasses = {
-                "com.hypixel.hytale.server.spawning.beacons.SpawnBeacon",
-                "com.hypixel.hytale.server.spawning.SpawnBeacon",
-                "com.hypixel.hytale.builtin.spawning.SpawnBeacon"
-            };
-
-            for (String className : beaconClasses) {
-                try {
-                    spawnBeaconClass = Class.forName(className);
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
-            }
-
+            spawnBeaconClass = HytaleAccess.findClass(BEACON_CLASSES);
             if (spawnBeaconClass != null && spawnBeaconType == null) {
-                try {
-                    Method getTypeMethod = spawnBeaconClass.getMethod("getComponentType");
-                    spawnBeaconType = (ComponentType) getTypeMethod.invoke(null);
-                } catch (Exception e) {
-                    try {
-                        Field typeField = spawnBeaconClass.getField("TYPE");
-                        spawnBeaconType = (ComponentType) typeField.get(null);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+                spawnBeaconType = (ComponentType) HytaleAccess.invokeStatic(
+                        spawnBeaconClass, "getComponentType", "TYPE");
             }
 
             if (beaconSpawnControllerType != null || spawnBeaconType != null) {
@@ -171,48 +233,107 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     }
 
     @Override
-    public void tick(
-            float deltaTime,
-            int entityIndex,
-            ArchetypeChunk<EntityStore> chunk,
+    public void onEntityAdded(
+            Ref<EntityStore> ref,
+            AddReason reason,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        if (!ensureDiscovered()) {
+            return;
+        }
+
+        try {
+            @SuppressWarnings("unchecked")
+            Object controller = store.getComponent(ref, beaconSpawnControllerType);
+            if (controller != null) {
+                checkedCount++;
+                validateSpawnParameters(controller);
+            }
+        } catch (Exception e) {
+            // Don't spam logs - only log first error
+            if (fixedCount == 0 && checkedCount < 10) {
+                plugin.getLogger().at(Level.WARNING).log(
+                    "[SpawnBeaconSanitizer] Error during validation: " + e.getMessage()
+                );
+            }
+        }
+    }
+
+    @Override
+    public void onEntityRemove(
+            Ref<EntityStore> ref,
+            RemoveReason reason,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
     ) {
+        // Stamps are weakly keyed - nothing to clean up
+    }
+
+    /**
+     * Log once and run discovery on first use.
+     * @return true if beacons can be validated
+     */
+    private boolean ensureDiscovered() {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
-                "[SpawnBeaconSanitizer] Active - monitoring spawn beacons for null spawn parameters"
+                "[SpawnBeaconSanitizer] Active - validating spawn beacons on load and spawn config change"
             );
             loggedOnce = true;
         }
 
         // Try to discover spawn API on first run
-        if (!discoveryComplete && !discoveryFailed) {
+        if (!spawnApiDiscovered && !discoveryFailed) {
             discoverSpawnAPI();
         }
 
         // If discovery failed, we can only log and hope for the best
-        if (discoveryFailed || beaconSpawnControllerType == null) {
-            return;
-        }
+        return !discoveryFailed && beaconSpawnControllerType != null;
+    }
 
-        try {
-            checkedCount++;
+    /**
+     * Epoch check for spawn config reassignment.
+     *
+     * Ticks on BeaconSpawnController entities and compares each spawn list against
+     * the stamp from its last validation (O(1) per beacon per tick).
+     */
+    public class ReassignmentCheck extends EntityTickingSystem<EntityStore> {
 
-            // Get the spawn controller component
-            Object controller = chunk.getComponent(entityIndex, beaconSpawnControllerType);
-            if (controller == null) {
+        @Override
+        public Query<EntityStore> getQuery() {
+            return SpawnBeaconSanitizer.this.getQuery();
+        }
+
+        @Override
+        public void tick(
+                float deltaTime,
+                int entityIndex,
+                ArchetypeChunk<EntityStore> chunk,
+                Store<EntityStore> store,
+                CommandBuffer<EntityStore> commandBuffer
+        ) {
+            if (!ensureDiscovered()) {
                 return;
             }
 
-            // Validate spawn parameters
-            validateSpawnParameters(controller);
+            try {
+                @SuppressWarnings("unchecked")
+                Object controller = chunk.getComponent(entityIndex, beaconSpawnControllerType);
+                if (controller == null) {
+                    return;
+                }
 
-        } catch (Exception e) {
-            // Don't spam logs - only log first error
-            if (fixedCount == 0 && checkedCount < 10) {
-                plugin.getLogger().at(Level.WARNING).log(
-                    "[SpawnBeaconSanitizer] Error during validation: " + e.getMessage()
-                );
+                stampChecks++;
+                Object spawns = readSpawns(controller);
+                SpawnStamp stamp = validatedStamps.get(controller);
+                if (stamp != null && stamp.matches(spawns)) {
+                    return;
+                }
+
+                checkedCount++;
+                validateSpawnParameters(controller);
+            } catch (Throwable t) {
+                // Silently fail - we're just trying to prevent crashes
             }
         }
     }
@@ -224,6 +345,7 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void discoverSpawnAPI() {
         discoveryComplete = true;
+        spawnApiDiscovered = true;
 
         plugin.getLogger().at(Level.INFO).log(
             "[SpawnBeaconSanitizer] Attempting to discover spawn beacon API..."
@@ -231,143 +353,76 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
 
         try {
             // Step 1: Find BeaconSpawnController class
-            String[] controllerClasses = {
-                "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
-                "com.hypixel.hytale.server.spawning.BeaconSpawnController",
-                "com.hypixel.hytale.builtin.spawning.controllers.BeaconSpawnController"
-            };
-
-            for (String className : controllerClasses) {
-                try {
-                    beaconSpawnControllerClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Found BeaconSpawnController: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            beaconSpawnControllerClass = HytaleAccess.findClass(CONTROLLER_CLASSES);
+            if (beaconSpawnControllerClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Found BeaconSpawnController: " + beaconSpawnControllerClass.getName()
+                );
             }
 
             // Step 2: Find RoleSpawnParameters class
-            String[] paramClasses = {
+            roleSpawnParametersClass = HytaleAccess.findClass(
                 "com.hypixel.hytale.server.spawning.assets.spawns.config.RoleSpawnParameters",
                 "com.hypixel.hytale.server.spawning.config.RoleSpawnParameters",
                 "com.hypixel.hytale.builtin.spawning.config.RoleSpawnParameters"
-            };
-
-            for (String className : paramClasses) {
-                try {
-                    roleSpawnParametersClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Found RoleSpawnParameters: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            );
+            if (roleSpawnParametersClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Found RoleSpawnParameters: " + roleSpawnParametersClass.getName()
+                );
             }
 
             // Step 3: Find SpawnBeacon component class
-            String[] beaconClasses = {
-                "com.hypixel.hytale.server.spawning.beacons.SpawnBeacon",
-                "com.hypixel.hytale.server.spawning.SpawnBeacon",
-                "com.hypixel.hytale.builtin.spawning.SpawnBeacon"
-            };
-
-            for (String className : beaconClasses) {
-                try {
-                    spawnBeaconClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Found SpawnBeacon: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            spawnBeaconClass = HytaleAccess.findClass(BEACON_CLASSES);
+            if (spawnBeaconClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Found SpawnBeacon: " + spawnBeaconClass.getName()
+                );
             }
 
-            // Step 4: Get component types
+            // Step 4: Get component types (getComponentType(), or a TYPE field)
             if (beaconSpawnControllerClass != null) {
-                try {
-                    Method getTypeMethod = beaconSpawnControllerClass.getMethod("getComponentType");
-                    beaconSpawnControllerType = (ComponentType) getTypeMethod.invoke(null);
+                beaconSpawnControllerType = (ComponentType) HytaleAccess.invokeStatic(
+                        beaconSpawnControllerClass, "getComponentType", "TYPE");
+                if (beaconSpawnControllerType != null) {
                     plugin.getLogger().at(Level.INFO).log(
                         "[SpawnBeaconSanitizer] Got BeaconSpawnController component type"
                     );
-                } catch (NoSuchMethodException e) {
+                } else {
                     plugin.getLogger().at(Level.WARNING).log(
-                        "[SpawnBeaconSanitizer] BeaconSpawnController has no getComponentType() - trying fields"
+                        "[SpawnBeaconSanitizer] BeaconSpawnController has no getComponentType() or TYPE field"
                     );
-                    // Try to find TYPE field
-                    try {
-                        Field typeField = beaconSpawnControllerClass.getField("TYPE");
-                        beaconSpawnControllerType = (ComponentType) typeField.get(null);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[SpawnBeaconSanitizer] Got BeaconSpawnController component type from TYPE field"
-                        );
-                    } catch (NoSuchFieldException ex) {
-                        // Continue
-                    }
                 }
 
                 // Log fields for debugging
                 logClassFields(beaconSpawnControllerClass);
                 logClassMethods(beaconSpawnControllerClass);
 
-                // Step 5: Find spawns field/method in BeaconSpawnController
-                String[] spawnFieldNames = {
-                    "spawns", "roleSpawns", "spawnList", "spawnParameters",
-                    "roleSpawnParameters", "spawnConfigs", "spawnEntries"
-                };
-
-                for (String fieldName : spawnFieldNames) {
-                    try {
-                        spawnsField = beaconSpawnControllerClass.getDeclaredField(fieldName);
-                        spawnsField.setAccessible(true);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[SpawnBeaconSanitizer] Found spawns field: " + fieldName +
-                            " (type: " + spawnsField.getType().getSimpleName() + ")"
-                        );
-                        break;
-                    } catch (NoSuchFieldException e) {
-                        // Try next
+                // Step 5: Find spawns field (preferred) or getter method in BeaconSpawnController
+                spawnsGetter = HytaleAccess.fieldGetter(beaconSpawnControllerClass,
+                        "spawns", "roleSpawns", "spawnList", "spawnParameters",
+                        "roleSpawnParameters", "spawnConfigs", "spawnEntries");
+                if (spawnsGetter == null) {
+                    MethodHandle spawnsMethod = HytaleAccess.method(beaconSpawnControllerClass,
+                            new String[]{"getSpawns", "getRoleSpawns", "getSpawnList", "getSpawnParameters"});
+                    if (spawnsMethod != null) {
+                        spawnsGetter = spawnsMethod.asType(GETTER_TYPE);
                     }
                 }
-
-                // Try getter methods
-                String[] spawnMethodNames = {
-                    "getSpawns", "getRoleSpawns", "getSpawnList", "getSpawnParameters"
-                };
-
-                for (String methodName : spawnMethodNames) {
-                    try {
-                        getSpawnsMethod = beaconSpawnControllerClass.getMethod(methodName);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[SpawnBeaconSanitizer] Found spawns method: " + methodName + "()"
-                        );
-                        break;
-                    } catch (NoSuchMethodException e) {
-                        // Try next
-                    }
+                if (spawnsGetter != null) {
+                    plugin.getLogger().at(Level.INFO).log(
+                        "[SpawnBeaconSanitizer] Found spawns accessor"
+                    );
                 }
             }
 
             if (spawnBeaconClass != null) {
-                try {
-                    Method getTypeMethod = spawnBeaconClass.getMethod("getComponentType");
-                    spawnBeaconType = (ComponentType) getTypeMethod.invoke(null);
+                spawnBeaconType = (ComponentType) HytaleAccess.invokeStatic(
+                        spawnBeaconClass, "getComponentType", "TYPE");
+                if (spawnBeaconType != null) {
                     plugin.getLogger().at(Level.INFO).log(
                         "[SpawnBeaconSanitizer] Got SpawnBeacon component type"
                     );
-                } catch (NoSuchMethodException e) {
-                    // Try TYPE field
-                    try {
-                        Field typeField = spawnBeaconClass.getField("TYPE");
-                        spawnBeaconType = (ComponentType) typeField.get(null);
-                    } catch (NoSuchFieldException ex) {
-                        // Continue
-                    }
                 }
             }
 
@@ -384,7 +439,7 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
                     "Controller=" + (beaconSpawnControllerClass != null ? "YES" : "NO") +
                     ", SpawnParams=" + (roleSpawnParametersClass != null ? "YES" : "NO") +
                     ", ComponentType=" + (beaconSpawnControllerType != null ? "YES" : "NO") +
-                    ", SpawnsField=" + (spawnsField != null ? "YES" : "NO")
+                    ", SpawnsField=" + (spawnsGetter != null ? "YES" : "NO")
                 );
             }
 
@@ -441,33 +496,45 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     }
 
     /**
-     * Validate spawn parameters in a BeaconSpawnController and remove nulls.
+     * Read the spawn list of a controller.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private void validateSpawnParameters(Object controller) {
-        try {
-            Object spawns = null;
+    private Object readSpawns(Object controller) throws Throwable {
+        if (spawnsGetter != null) {
+            return (Object) spawnsGetter.invokeExact(controller);
+        }
 
-            // Try to get spawns via field
-            if (spawnsField != null) {
-                spawns = spawnsField.get(controller);
-            } else if (getSpawnsMethod != null) {
-                spawns = getSpawnsMethod.invoke(controller);
+        // Try to find any field that looks like a collection of spawns
+        for (Field field : controller.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            Object value = field.get(controller);
+            if (value instanceof Collection || value instanceof Map ||
+                (value != null && value.getClass().isArray())) {
+                return value;
             }
+        }
+        return null;
+    }
 
-            if (spawns == null) {
-                // Try to find any field that looks like a collection of spawns
-                for (Field field : controller.getClass().getDeclaredFields()) {
-                    field.setAccessible(true);
-                    Object value = field.get(controller);
-                    if (value instanceof Collection || value instanceof Map ||
-                        (value != null && value.getClass().isArray())) {
-                        spawns = value;
-                        break;
-                    }
-                }
-            }
+    // Entries of a spawn list in iteration order, or null if it is not a collection we can stamp
+    private static Object[] entriesOf(Object spawns) {
+        if (spawns instanceof Collection<?> collection) {
+            return collection.toArray();
+        }
+        if (spawns instanceof Map<?, ?> map) {
+            return map.values().toArray();
+        }
+        if (spawns instanceof Object[] array) {
+            return array.clone();
+        }
+        return null;
+    }
 
+    /**
+     * Validate spawn parameters in a BeaconSpawnController, remove nulls, and stamp it.
+     */
+    private void validateSpawnParameters(Object controller) {
+        try {
+            Object spawns = readSpawns(controller);
             if (spawns == null) {
                 return;
             }
@@ -482,7 +549,9 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
                 );
             }
 
-        } catch (Exception e) {
+            validatedStamps.put(controller, new SpawnStamp(spawns, entriesOf(spawns)));
+
+        } catch (Throwable t) {
             // Silently fail - we're just trying to prevent crashes
         }
     }
@@ -563,16 +632,18 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     private boolean isInvalidSpawn(Object spawn) {
         if (spawn == null) return true;
 
+        MethodHandle getId = spawnIdGetters.get(spawn.getClass());
+        if (getId == null) {
+            // No getId method, can't validate this way
+            return false;
+        }
         try {
             // Check if getId() would return null or throw
-            Method getIdMethod = spawn.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(spawn);
+            Object id = (Object) getId.invokeExact(spawn);
             if (id == null) {
                 return true;
             }
-        } catch (NoSuchMethodException e) {
-            // No getId method, can't validate this way
-        } catch (Exception e) {
+        } catch (Throwable t) {
             // getId() threw an exception, spawn is invalid
             return true;
         }
@@ -599,15 +670,17 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             "  RoleSpawnParameters Found: %s\n" +
             "  Component Type Found: %s\n" +
             "  Spawns Field Found: %s\n" +
-            "  Beacons Checked: %d\n" +
+            "  Beacons Validated: %d\n" +
+            "  Reassignment Checks: %d\n" +
             "  Null Spawns Removed: %d",
             discoveryComplete,
             discoveryFailed,
             beaconSpawnControllerClass != null ? beaconSpawnControllerClass.getSimpleName() : "None",
             roleSpawnParametersClass != null ? roleSpawnParametersClass.getSimpleName() : "None",
             beaconSpawnControllerType != null,
-            spawnsField != null || getSpawnsMethod != null,
+            spawnsGetter != null,
             checkedCount,
+            stampChecks,
             fixedCount
         );
     }
@@ -2,6 +2,7 @@ package com.hyfixes.systems;
 
 import com.hyfixes.HyFixes;
 import com.hyfixes.config.ConfigManager;
+import com.hyfixes.util.HytaleAccess;
 import com.hyfixes.util.ReflectionHelper;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -64,7 +65,9 @@ public class ChunkUnloadManager {
     private Object chunkStoreInstance = null;
     private Object chunkLightingInstance = null;
     private final List<Method> cleanupMethods = new ArrayList<>();
-    private final List<Method> allChunkStoreMethods = new ArrayList<>();
+    private final List<Method> chunkStoreReleaseMethods = new ArrayList<>();  // ChunkStore release/remove/unload methods
+    private final List<Field> managerFields = new ArrayList<>();
+    private boolean discoveryFromCache = false;
     private Method getChunkIndexesMethod = null;
     private Method releaseRefMethod = null;
 
@@ -293,8 +296,19 @@ public class ChunkUnloadManager {
         // Use ReflectionHelper for initial scan
         reflectionHelper.discoverAPIs(world, "World");
 
+        // Same server build as last time - reuse what the deep dive found instead of repeating it
+        if (restoreDiscovery(world)) {
+            discoveryFromCache = true;
+            plugin.getLogger().at(Level.INFO).log(
+                "[ChunkUnloadManager] Discovery restored from cache: " + cleanupMethods.size() +
+                " potential cleanup methods, " + managerFields.size() + " managers"
+            );
+            return;
+        }
+
         // Now do our own deep dive
         scanWorldForChunkManagers(world);
+        rememberDiscovery(world);
 
         // Log what we found
         plugin.getLogger().at(Level.INFO).log(
@@ -332,30 +346,15 @@ public class ChunkUnloadManager {
                                 "[ChunkUnloadManager] Found manager: " +
                                 f.getName() + " (" + f.getType().getSimpleName() + ")"
                             );
-
-                            // Save references and pass to main-thread cleanup system
-                            // NOTE: ChunkStore is no longer passed to cleanup system because
-                            // waitForLoadingChunks() causes "Store is currently processing!" errors
-                            if (type.contains("chunkstore") || name.equals("chunkstore")) {
-                                chunkStoreInstance = manager;
-                                // ChunkStore reference kept for other potential uses, but NOT passed
-                                // to ChunkCleanupSystem anymore
-                            }
-                            if (type.contains("chunklighting") || name.contains("lighting")) {
-                                chunkLightingInstance = manager;
-                                if (chunkCleanupSystem != null) {
-                                    chunkCleanupSystem.setChunkLightingInstance(manager);
-                                    plugin.getLogger().at(Level.INFO).log(
-                                        "[ChunkUnloadManager] Passed ChunkLightingManager to main-thread cleanup system"
-                                    );
-                                }
-                            }
+                            adoptManager(f, manager);
 
                             // Scan ALL methods on this manager
                             scanManagerAggressively(manager);
 
-                            // Also scan internal fields of the manager for caches
-                            scanManagerInternals(manager);
+                            // Also scan internal fields of the manager for caches (diagnostics only)
+                            if (ConfigManager.getInstance().isVerbose()) {
+                                scanManagerInternals(manager);
+                            }
                         }
                     }
                 }
@@ -369,6 +368,127 @@ public class ChunkUnloadManager {
         }
     }
 
+    /**
+     * Save references to a discovered manager and pass it to the main-thread cleanup system.
+     */
+    private void adoptManager(Field f, Object manager) {
+        String name = f.getName().toLowerCase();
+        String type = f.getType().getSimpleName().toLowerCase();
+        managerFields.add(f);
+
+        // NOTE: ChunkStore is no longer passed to cleanup system because
+        // waitForLoadingChunks() causes "Store is currently processing!" errors
+        if (type.contains("chunkstore") || name.equals("chunkstore")) {
+            chunkStoreInstance = manager;
+            // ChunkStore reference kept for other potential uses, but NOT passed
+            // to ChunkCleanupSystem anymore
+        }
+        if (type.contains("chunklighting") || name.contains("lighting")) {
+            chunkLightingInstance = manager;
+            if (chunkCleanupSystem != null) {
+                chunkCleanupSystem.setChunkLightingInstance(manager);
+                plugin.getLogger().at(Level.INFO).log(
+                    "[ChunkUnloadManager] Passed ChunkLightingManager to main-thread cleanup system"
+                );
+            }
+        }
+    }
+
+    /**
+     * Record which manager fields and methods the deep dive matched, keyed by World class,
+     * in the HytaleAccess table (persisted per server build).
+     */
+    private void rememberDiscovery(World world) {
+        String key = "ChunkUnloadManager|" + world.getClass().getName();
+        HytaleAccess.remember(key + "|managers", describeAll(managerFields));
+        HytaleAccess.remember(key + "|cleanup", describeAll(cleanupMethods));
+        HytaleAccess.remember(key + "|release", describeAll(chunkStoreReleaseMethods));
+        HytaleAccess.remember(key + "|chunkIndexes",
+                getChunkIndexesMethod != null ? HytaleAccess.describe(getChunkIndexesMethod) : null);
+        HytaleAccess.save();
+    }
+
+    /**
+     * Rebuild discovery results from the HytaleAccess table without scanning.
+     * Returns false (leaving nothing half-restored) if there is no entry or any member is gone.
+     */
+    private boolean restoreDiscovery(World world) {
+        String key = "ChunkUnloadManager|" + world.getClass().getName();
+        String managers = HytaleAccess.recall(key + "|managers");
+        String cleanup = HytaleAccess.recall(key + "|cleanup");
+        String release = HytaleAccess.recall(key + "|release");
+        String chunkIndexes = HytaleAccess.recall(key + "|chunkIndexes");
+        if (managers == null || cleanup == null || release == null || chunkIndexes == null) {
+            return false;
+        }
+
+        ClassLoader loader = world.getClass().getClassLoader();
+        List<Field> fields = new ArrayList<>();
+        List<Method> cleanups = new ArrayList<>();
+        List<Method> releases = new ArrayList<>();
+        Method indexes = null;
+        for (String descriptor : split(managers)) {
+            Field f = HytaleAccess.resolveField(descriptor, loader);
+            if (f == null) {
+                return false;
+            }
+            fields.add(f);
+        }
+        for (String descriptor : split(cleanup)) {
+            Method m = HytaleAccess.resolveMethod(descriptor, loader);
+            if (m == null) {
+                return false;
+            }
+            cleanups.add(m);
+        }
+        for (String descriptor : split(release)) {
+            Method m = HytaleAccess.resolveMethod(descriptor, loader);
+            if (m == null) {
+                return false;
+            }
+            releases.add(m);
+        }
+        if (!chunkIndexes.isEmpty()) {
+            indexes = HytaleAccess.resolveMethod(chunkIndexes, loader);
+            if (indexes == null) {
+                return false;
+            }
+        }
+
+        // Instances are per world and per boot - read them through the recorded fields
+        for (Field f : fields) {
+            try {
+                Object manager = f.get(world);
+                if (manager != null) {
+                    adoptManager(f, manager);
+                }
+            } catch (Exception e) {
+                plugin.getLogger().at(Level.FINE).log(
+                    "[ChunkUnloadManager] Could not read cached manager field " + f.getName() + ": " + e.getMessage()
+                );
+            }
+        }
+        cleanupMethods.addAll(cleanups);
+        chunkStoreReleaseMethods.addAll(releases);
+        getChunkIndexesMethod = indexes;
+        return true;
+    }
+
+    private static String describeAll(List<? extends java.lang.reflect.Member> members) {
+        StringBuilder sb = new StringBuilder();
+        for (java.lang.reflect.Member member : members) {
+            if (sb.length() > 0) {
+                sb.append(';');
+            }
+            sb.append(member instanceof Method m ? HytaleAccess.describe(m) : HytaleAccess.describe((Field) member));
+        }
+        return sb.toString();
+    }
+
+    private static String[] split(String descriptors) {
+        return descriptors.isEmpty() ? new String[0] : descriptors.split(";");
+    }
+
     /**
      * Aggressively scan a manager for ALL methods, especially cleanup-related ones.
      */
@@ -394,9 +514,10 @@ public class ChunkUnloadManager {
                 continue;
             }
 
-            // Save all ChunkStore methods
-            if (className.contains("ChunkStore")) {
-                allChunkStoreMethods.add(m);
+            // Save ChunkStore methods that might release a chunk
+            if (className.contains("ChunkStore") &&
+                (name.contains("release") || name.contains("remove") || name.contains("unload"))) {
+                chunkStoreReleaseMethods.add(m);
             }
 
             // Look for getChunkIndexes specifically
@@ -419,8 +540,8 @@ public class ChunkUnloadManager {
                 }
             }
 
-            // Log count/size methods to understand current state
-            if (name.contains("count") || name.contains("size")) {
+            // Log count/size methods to understand current state (verbose only - this invokes them)
+            if ((name.contains("count") || name.contains("size")) && ConfigManager.getInstance().isVerbose()) {
                 try {
                     if (m.getParameterCount() == 0) {
                         Object result = m.invoke(manager);
@@ -708,17 +829,14 @@ public class ChunkUnloadManager {
                 );
 
                 // Look for a release method that takes chunk index
-                for (Method m : allChunkStoreMethods) {
-                    String name = m.getName().toLowerCase();
-                    if (name.contains("release") || name.contains("remove") || name.contains("unload")) {
-                        Class<?>[] params = m.getParameterTypes();
-                        if (params.length == 1 && (params[0] == long.class || params[0] == Long.class)) {
-                            releaseRefMethod = m;
-                            plugin.getLogger().at(Level.INFO).log(
-                                "[ChunkUnloadManager] Found potential release method: " + m.getName() + "(long) - protected chunks will be skipped"
-                            );
-                            break;
-                        }
+                for (Method m : chunkStoreReleaseMethods) {
+                    Class<?>[] params = m.getParameterTypes();
+                    if (params.length == 1 && (params[0] == long.class || params[0] == Long.class)) {
+                        releaseRefMethod = m;
+                        plugin.getLogger().at(Level.INFO).log(
+                            "[ChunkUnloadManager] Found potential release method: " + m.getName() + "(long) - protected chunks will be skipped"
+                        );
+                        break;
                     }
                 }
             }
@@ -919,7 +1037,7 @@ public class ChunkUnloadManager {
             "  Last Run: %s\n" +
             "  Chunk Protection: %s\n" +
             "  Map-Aware Mode: %s",
-            apiDiscovered,
+            apiDiscovered + (discoveryFromCache ? " (from cache)" : ""),
             chunkStoreInstance != null,
             chunkLightingInstance != null,
             cleanupMethods.size(),
@@ -2,6 +2,7 @@ package com.hyfixes.systems;
 
 import com.hyfixes.HyFixes;
 import com.hyfixes.config.ConfigManager;
+import com.hyfixes.util.EarlyFixStats;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Store;
@@ -54,6 +55,11 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
     private final AtomicInteger objectiveFixes = new AtomicInteger(0);
     private final AtomicInteger chunkCleanups = new AtomicInteger(0);
 
+    // Statistics - hyfixes-early bytecode fixes (snapshot of EarlyFixCounters)
+    private volatile long[] earlyFixCounts = new long[0];
+    private long[] lastSummaryEarlyFixCounts = new long[0];
+    private volatile long staleComponentAccesses = -1;
+
     // Known unfixable issues (from log analysis)
     // These are constants based on our analysis - we can't track them in real-time
     // but we document them for admin awareness
@@ -149,6 +155,36 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
                 ", Objective: " + objectiveFixes.get() + ")"
             );
         }
+
+        logEarlyFixSummary();
+    }
+
+    /**
+     * Log which bytecode fixes fired since the last summary.
+     */
+    private void logEarlyFixSummary() {
+        long[] counts = earlyFixCounts;
+        StringBuilder fired = new StringBuilder();
+        long total = 0;
+        for (int fixId = 0; fixId < counts.length; fixId++) {
+            long previous = fixId < lastSummaryEarlyFixCounts.length ? lastSummaryEarlyFixCounts[fixId] : 0;
+            long delta = counts[fixId] - previous;
+            if (delta > 0) {
+                fired.append(fired.length() == 0 ? "" : ", ")
+                     .append(EarlyFixStats.name(fixId)).append(": ").append(delta);
+                if (EarlyFixStats.isPreventedFailure(fixId)) {
+                    total += delta;
+                }
+            }
+        }
+        lastSummaryEarlyFixCounts = counts;
+
+        if (fired.length() > 0) {
+            plugin.getLogger().at(Level.INFO).log(
+                "[InteractionChainMonitor] 5-minute summary - Bytecode fixes prevented " + total +
+                " failure(s) (" + fired + ")"
+            );
+        }
     }
 
     /**
@@ -156,8 +192,9 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
      * Called periodically to sync statistics.
      */
     private void updateFixCounts() {
-        // These would need to be wired up to actual systems
-        // For now, just track what we can
+        // Bytecode fixes count themselves in the early plugin - take a snapshot
+        earlyFixCounts = EarlyFixStats.snapshot();
+        staleComponentAccesses = EarlyFixStats.staleComponentAccesses();
     }
 
     /**
@@ -230,6 +267,20 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
         sb.append("--- Memory Management ---\n");
         sb.append(String.format("  Chunk Cleanups: %d\n", chunkCleanups.get()));
         sb.append("\n");
+        sb.append("--- Bytecode Fixes (Early Plugin) ---\n");
+        if (EarlyFixStats.isAvailable()) {
+            updateFixCounts();
+            sb.append(String.format("  Sync Buffer Expansions: %d\n", EarlyFixStats.count("SYNC_BUFFER_EXPANDED")));
+            sb.append(String.format("  Out-of-order Interaction Removals: %d\n", EarlyFixStats.count("INTERACTION_REMOVE_OUT_OF_ORDER")));
+            sb.append(String.format("  serverTick Timeouts Recovered: %d\n", EarlyFixStats.count("SERVER_TICK_TIMEOUT_RECOVERED")));
+            sb.append(String.format("  Null spawnController Despawns: %d\n", EarlyFixStats.count("NULL_SPAWN_CONTROLLER")));
+            sb.append(String.format("  Stale ArchetypeChunk Accesses: %d\n",
+                Math.max(0, staleComponentAccesses) + EarlyFixStats.count("COPY_SERIALIZABLE_STALE")));
+            sb.append(String.format("  Failures Prevented (all bytecode fixes): %d\n", EarlyFixStats.total()));
+        } else {
+            sb.append("  hyfixes-early not loaded\n");
+        }
+        sb.append("\n");
         sb.append("--- Known Unfixable Issues ---\n");
         sb.append("(These are Hytale core bugs - report to developers)\n");
         sb.append("  InteractionChain Overflow: ~408/session (estimated)\n");
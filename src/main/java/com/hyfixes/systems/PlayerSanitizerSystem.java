@@ -0,0 +1,237 @@
+package com.hyfixes.systems;
+
+import com.hyfixes.HyFixes;
+import com.hyfixes.config.ConfigManager;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.logging.Level;
+
+/**
+ * PlayerSanitizerSystem - Runs every per-player HyFixes check from a single system
+ *
+ * CraftingManagerSanitizer, GatherObjectiveTaskSanitizer, ChunkTrackerSanitizer,
+ * InteractionManagerSanitizer, ChunkCleanupSystem and InteractionChainMonitor all
+ * query Player entities. Registered separately, the ECS walks the Player archetype
+ * chunks once per system and dispatches each entity six times.
+ *
+ * Instead they are collected here and only this system is registered: each matching
+ * chunk is walked once, and for each entity the enabled checks run back to back
+ * from a fixed array. The checks keep their own tick() logic, state and status output.
+ *
+ * Adaptive scheduling (sanitizerScheduling in config.json):
+ * Sanitizers almost never find anything, so while idle each one only checks a rotating
+ * 1/N of players per tick - every player is still visited once every N ticks. As soon as
+ * a check's fix counter moves it escalates to every player, every tick, for a while.
+ * The rotation uses the world's own tick number ({@link TickClock}).
+ * Checks added with {@link #addEveryTick} (interval-based or time-critical checks) are never sampled.
+ */
+public class PlayerSanitizerSystem extends EntityTickingSystem<EntityStore> {
+
+    private final HyFixes plugin;
+    private final boolean adaptive;
+    private final int sampleIntervalTicks;
+    private final int escalationTicks;
+    private final long escalationNanos;
+
+    private final List<Slot> pending = new ArrayList<>();
+    private Slot[] slots = new Slot[0];
+    private boolean loggedOnce = false;
+
+    /**
+     * One scheduled check with its cost / hit statistics.
+     */
+    private static final class Slot {
+        final EntityTickingSystem<EntityStore> check;
+        final String name;
+        final IntSupplier fixCounter;  // null = not sampled, runs every tick
+
+        volatile long escalatedUntilNanos = 0;   // 0 = never escalated, else escalated until then
+        final LongAdder runs = new LongAdder();
+        final LongAdder skipped = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder hits = new LongAdder();
+        final LongAdder escalations = new LongAdder();
+
+        Slot(EntityTickingSystem<EntityStore> check, IntSupplier fixCounter) {
+            this.check = check;
+            this.name = check.getClass().getSimpleName();
+            this.fixCounter = fixCounter;
+        }
+
+        boolean isEscalated() {
+            long until = escalatedUntilNanos;
+            if (until == 0) {
+                return false;
+            }
+            // Expiry is left in place: clearing it here could race with another
+            // world thread re-escalating, and would erase the newer deadline
+            return System.nanoTime() - until < 0;
+        }
+    }
+
+    public PlayerSanitizerSystem(HyFixes plugin) {
+        this.plugin = plugin;
+        ConfigManager config = ConfigManager.getInstance();
+        this.adaptive = config.isSanitizerSchedulingAdaptive();
+        this.sampleIntervalTicks = Math.max(1, config.getSanitizerSampleIntervalTicks());
+        this.escalationTicks = Math.max(0, config.getSanitizerEscalationTicks());
+        // Escalation is shared by all worlds, so it is timed at the nominal 20 TPS rather than per world
+        this.escalationNanos = TimeUnit.MILLISECONDS.toNanos(escalationTicks * 50L);
+    }
+
+    /**
+     * Add a sanitizer that may be sampled. The fix counter is read around each run;
+     * any increase escalates the sanitizer to every-tick checking.
+     * Must be called during setup, before the system is registered.
+     */
+    public void add(EntityTickingSystem<EntityStore> check, IntSupplier fixCounter) {
+        pending.add(new Slot(check, fixCounter));
+        slots = pending.toArray(new Slot[0]);
+    }
+
+    /**
+     * Add a check that must see every tick (it keeps its own interval counter).
+     * Must be called during setup, before the system is registered.
+     */
+    public void addEveryTick(EntityTickingSystem<EntityStore> check) {
+        pending.add(new Slot(check, null));
+        slots = pending.toArray(new Slot[0]);
+    }
+
+    public int getCheckCount() {
+        return slots.length;
+    }
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Player.getComponentType();
+    }
+
+    @Override
+    public void tick(
+            float deltaTime,
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        if (!loggedOnce) {
+            plugin.getLogger().at(Level.INFO).log(
+                "[PlayerSanitizerSystem] Active - running " + slots.length + " per-player check(s) in one pass" +
+                (adaptive ? " (adaptive: 1/" + sampleIntervalTicks + " of players per tick when idle)" : "")
+            );
+            loggedOnce = true;
+        }
+
+        Slot[] current = slots;
+        // This entity's turn in the 1/N rotation
+        boolean sampled = !adaptive || (entityIndex + TickClock.current(store)) % sampleIntervalTicks == 0;
+
+        for (int i = 0; i < current.length; i++) {
+            Slot slot = current[i];
+            if (slot.fixCounter == null) {
+                runUnmeasured(slot, deltaTime, entityIndex, chunk, store, commandBuffer);
+                continue;
+            }
+            if (!sampled && !slot.isEscalated()) {
+                slot.skipped.increment();
+                continue;
+            }
+            runMeasured(slot, deltaTime, entityIndex, chunk, store, commandBuffer);
+        }
+    }
+
+    private void runUnmeasured(
+            Slot slot,
+            float deltaTime,
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        try {
+            slot.check.tick(deltaTime, entityIndex, chunk, store, commandBuffer);
+        } catch (Exception e) {
+            // One failing check must not starve the ones after it
+            plugin.getLogger().at(Level.FINE).log(
+                "[PlayerSanitizerSystem] " + slot.name + " failed: " + e.getMessage()
+            );
+        }
+    }
+
+    private void runMeasured(
+            Slot slot,
+            float deltaTime,
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        int fixesBefore = slot.fixCounter.getAsInt();
+        long start = System.nanoTime();
+        try {
+            slot.check.tick(deltaTime, entityIndex, chunk, store, commandBuffer);
+        } catch (Exception e) {
+            plugin.getLogger().at(Level.FINE).log(
+                "[PlayerSanitizerSystem] " + slot.name + " failed: " + e.getMessage()
+            );
+        }
+        slot.nanos.add(System.nanoTime() - start);
+        slot.runs.increment();
+
+        int fixed = slot.fixCounter.getAsInt() - fixesBefore;
+        if (fixed > 0) {
+            slot.hits.add(fixed);
+            if (adaptive) {
+                if (!slot.isEscalated()) {
+                    slot.escalations.increment();
+                    plugin.getLogger().at(Level.INFO).log(
+                        "[PlayerSanitizerSystem] " + slot.name + " fixed something - checking every tick for " +
+                        (escalationTicks / 20) + "s"
+                    );
+                }
+                slot.escalatedUntilNanos = System.nanoTime() + escalationNanos;
+            }
+        }
+    }
+
+    /**
+     * Get status for admin commands.
+     */
+    public String getStatus() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Adaptive: ").append(adaptive);
+        if (adaptive) {
+            sb.append(" (1/").append(sampleIntervalTicks).append(" players per tick, escalate for ")
+              .append(escalationTicks).append(" ticks)");
+        }
+        for (Slot slot : slots) {
+            sb.append("\n").append(slot.name).append(": ");
+            if (slot.fixCounter == null) {
+                sb.append("every tick");
+                continue;
+            }
+            long runs = slot.runs.sum();
+            long hits = slot.hits.sum();
+            sb.append(slot.isEscalated() ? "ESCALATED" : "sampled")
+              .append(", runs ").append(runs)
+              .append(", skipped ").append(slot.skipped.sum())
+              .append(", avg ").append(runs > 0 ? slot.nanos.sum() / runs : 0).append("ns")
+              .append(", hits ").append(hits)
+              .append(String.format(" (%.4f%%)", runs > 0 ? hits * 100.0 / runs : 0.0))
+              .append(", escalations ").append(slot.escalations.sum());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hyfixes.systems;
+
+import com.hyfixes.util.WeakIdentityMap;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * TickClock - Per-world tick counter shared by the sampled HyFixes systems
+ *
+ * PlayerSanitizerSystem, EmptyArchetypeSanitizer and SpawnBeaconSanitizer spread their
+ * work over N ticks with (index + tick) % N. That only covers every index if the tick
+ * advances by exactly one per tick of the world being checked - a number derived from
+ * System.nanoTime() does not (at 10 TPS it moves by 2, so half the indices never match).
+ *
+ * This system is ticked once per EntityStore tick and counts ticks per store. Worlds
+ * tick independently, so each store has its own counter; it is only ever written by
+ * that world's thread.
+ */
+public class TickClock extends TickingSystem<EntityStore> {
+
+    private static final TickClock INSTANCE = new TickClock();
+
+    private final WeakIdentityMap<Store<EntityStore>, Counter> counters = new WeakIdentityMap<>();
+
+    private static final class Counter {
+        volatile long tick = 0;
+    }
+
+    private TickClock() {
+    }
+
+    public static TickClock getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void tick(float deltaTime, int systemIndex, Store<EntityStore> store) {
+        Counter counter = counters.get(store);
+        if (counter == null) {
+            counter = new Counter();
+            counters.put(store, counter);
+        }
+        counter.tick = counter.tick + 1;
+    }
+
+    /**
+     * Number of ticks this store has run since the clock was registered, or 0 if it has not ticked yet.
+     */
+    public static long current(Store<EntityStore> store) {
+        Counter counter = INSTANCE.counters.get(store);
+        return counter != null ? counter.tick : 0;
+    }
+}
@@ -5,6 +5,7 @@ import com.hyfixes.config.ConfigManager;
 import com.hyfixes.config.HyFixesConfig;
 import com.hyfixes.listeners.*;
 import com.hyfixes.systems.*;
+import com.hyfixes.util.EarlyFixStats;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
@@ -253,6 +254,18 @@ public class DashboardStats {
             totalSanitizers++;
         }
 
+        // Bytecode fixes from hyfixes-early (counted in the early plugin's counter table)
+        if (EarlyFixStats.isAvailable()) {
+            int fixes = (int) Math.min(Integer.MAX_VALUE, EarlyFixStats.total());
+            totalCrashesPrevented += fixes;
+            sanitizerInfos.add(new SanitizerInfo("Bytecode Fixes (Early)", true, fixes));
+            totalSanitizers++;
+            activeSanitizers++;
+        } else {
+            sanitizerInfos.add(new SanitizerInfo("Bytecode Fixes (Early)", false, 0));
+            totalSanitizers++;
+        }
+
         // Add additional sanitizers that may not have getters
         // These are registered via transformers/early loading
         sanitizerInfos.add(new SanitizerInfo("Pickup Item Sanitizer", true, 0));
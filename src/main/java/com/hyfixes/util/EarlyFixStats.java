@@ -0,0 +1,240 @@
+package com.hyfixes.util;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EarlyFixStats - Read-only view of the hyfixes-early fix counters
+ *
+ * The bytecode fixes count every time they fire in com.hyfixes.early.EarlyFixCounters,
+ * indexed by the fix ids declared in com.hyfixes.early.EarlyEventSink. Those classes are
+ * loaded by the server's class loader (transformed server code calls them), not by ours,
+ * and the runtime plugin is not compiled against the early plugin - so they are located
+ * through a server class's loader and read through a cached MethodHandle.
+ *
+ * A snapshot is one lock-free array copy, cheap enough for the dashboard and the
+ * periodic monitor summary. If the early plugin is not installed every count reads 0.
+ *
+ * Some ids are informational (EarlyEventSink.isPreventedFailure() is false for them, e.g.
+ * BLOCK_COUNTER_DECREMENTED on every normal removal), so {@link #total()} only sums the
+ * ids that stand for a prevented failure.
+ *
+ * Stale ArchetypeChunk.getComponent() accesses are not in the table - that path is hot
+ * enough that the fix counts them in a LongAdder injected into ArchetypeChunk itself
+ * (hyfixes$staleComponentAccesses), which is read here as well.
+ */
+public final class EarlyFixStats {
+
+    private static final String COUNTERS_CLASS = "com.hyfixes.early.EarlyFixCounters";
+    private static final String SINK_CLASS = "com.hyfixes.early.EarlyEventSink";
+    private static final String STALE_COUNTER_FIELD = "hyfixes$staleComponentAccesses";
+
+    private static final long[] EMPTY = new long[0];
+
+    private static volatile boolean resolved = false;
+    private static MethodHandle snapshotHandle;   // ()long[]
+    private static String[] fixNames = new String[0];
+    private static boolean[] preventedFailures = new boolean[0];
+    private static LongAdder staleComponentCounter;
+
+    private EarlyFixStats() {
+    }
+
+    /**
+     * Whether the early plugin's counter table was found.
+     */
+    public static boolean isAvailable() {
+        resolve();
+        return snapshotHandle != null;
+    }
+
+    /**
+     * Copy of all fix counters, indexed by fix id. Empty if the early plugin is not loaded.
+     */
+    public static long[] snapshot() {
+        resolve();
+        if (snapshotHandle == null) {
+            return EMPTY;
+        }
+        try {
+            return (long[]) snapshotHandle.invokeExact();
+        } catch (Throwable t) {
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Constant name of a fix id (e.g. SYNC_BUFFER_EXPANDED).
+     */
+    public static String name(int fixId) {
+        resolve();
+        return fixId >= 0 && fixId < fixNames.length && fixNames[fixId] != null ? fixNames[fixId] : "FIX_" + fixId;
+    }
+
+    /**
+     * Count for a single fix by constant name, or 0 if unknown.
+     */
+    public static long count(String fixName) {
+        long[] counts = snapshot();
+        for (int fixId = 0; fixId < counts.length; fixId++) {
+            if (fixName.equals(name(fixId))) {
+                return counts[fixId];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Whether a fix id stands for a prevented failure rather than an informational event.
+     */
+    public static boolean isPreventedFailure(int fixId) {
+        resolve();
+        return fixId >= 0 && fixId < preventedFailures.length && preventedFailures[fixId];
+    }
+
+    /**
+     * Failures prevented by bytecode fixes: prevented-failure counters plus stale getComponent() accesses.
+     */
+    public static long total() {
+        long total = Math.max(0, staleComponentAccesses());
+        long[] counts = snapshot();
+        for (int fixId = 0; fixId < counts.length; fixId++) {
+            if (isPreventedFailure(fixId)) {
+                total += counts[fixId];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Stale ArchetypeChunk.getComponent() accesses, or -1 if ArchetypeChunk was not transformed.
+     */
+    public static long staleComponentAccesses() {
+        resolve();
+        LongAdder counter = staleComponentCounter;
+        return counter != null ? counter.sum() : -1;
+    }
+
+    /**
+     * Get status for admin command - only fixes that have fired are listed.
+     */
+    public static String getStatus() {
+        if (!isAvailable()) {
+            return "Early Plugin Fix Counters:\n  Not available (hyfixes-early not loaded)";
+        }
+        StringBuilder sb = new StringBuilder("Early Plugin Fix Counters:\n");
+        long[] counts = snapshot();
+        boolean any = false;
+        for (int fixId = 0; fixId < counts.length; fixId++) {
+            if (counts[fixId] > 0) {
+                sb.append(String.format("  %s: %d\n", name(fixId), counts[fixId]));
+                any = true;
+            }
+        }
+        long stale = staleComponentAccesses();
+        if (stale > 0) {
+            sb.append(String.format("  STALE_COMPONENT_ACCESS: %d\n", stale));
+            any = true;
+        }
+        if (!any) {
+            sb.append("  No bytecode fixes have fired yet\n");
+        }
+        return sb.toString().trim();
+    }
+
+    // =========================================================================
+    // Internals
+    // =========================================================================
+
+    private static void resolve() {
+        if (resolved) {
+            return;
+        }
+        synchronized (EarlyFixStats.class) {
+            if (resolved) {
+                return;
+            }
+            try {
+                Class<?> counters = findClass(COUNTERS_CLASS);
+                Class<?> sink = findClass(SINK_CLASS);
+                if (counters != null && sink != null) {
+                    fixNames = readFixNames(sink);
+                    preventedFailures = readPreventedFailures(sink, fixNames.length);
+                    snapshotHandle = MethodHandles.publicLookup().findStatic(
+                        counters, "snapshot", MethodType.methodType(long[].class));
+                }
+            } catch (Throwable ignored) {
+                snapshotHandle = null;
+            }
+            try {
+                Field field = ArchetypeChunk.class.getField(STALE_COUNTER_FIELD);
+                staleComponentCounter = (LongAdder) field.get(null);
+            } catch (Throwable ignored) {
+                staleComponentCounter = null;
+            }
+            resolved = true;
+        }
+    }
+
+    private static Class<?> findClass(String name) {
+        ClassLoader[] loaders = {
+            ArchetypeChunk.class.getClassLoader(),
+            Thread.currentThread().getContextClassLoader(),
+            EarlyFixStats.class.getClassLoader()
+        };
+        for (ClassLoader loader : loaders) {
+            if (loader == null) {
+                continue;
+            }
+            try {
+                return Class.forName(name, false, loader);
+            } catch (ClassNotFoundException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private static boolean[] readPreventedFailures(Class<?> sink, int fixCount) throws Throwable {
+        boolean[] prevented = new boolean[fixCount];
+        MethodHandle isPrevented;
+        try {
+            isPrevented = MethodHandles.publicLookup().findStatic(
+                sink, "isPreventedFailure", MethodType.methodType(boolean.class, int.class));
+        } catch (NoSuchMethodException e) {
+            return prevented;
+        }
+        for (int fixId = 0; fixId < fixCount; fixId++) {
+            prevented[fixId] = (boolean) isPrevented.invokeExact(fixId);
+        }
+        return prevented;
+    }
+
+    // Fix ids are the public static final int constants of EarlyEventSink
+    private static String[] readFixNames(Class<?> sink) throws IllegalAccessException {
+        int fixCount = 0;
+        try {
+            fixCount = sink.getField("FIX_COUNT").getInt(null);
+        } catch (NoSuchFieldException e) {
+            return new String[0];
+        }
+        String[] names = new String[fixCount];
+        for (Field field : sink.getFields()) {
+            int modifiers = field.getModifiers();
+            if (field.getType() != int.class || !Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers)
+                    || field.getName().equals("FIX_COUNT")) {
+                continue;
+            }
+            int fixId = field.getInt(null);
+            if (fixId >= 0 && fixId < fixCount) {
+                names[fixId] = field.getName();
+            }
+        }
+        return names;
+    }
+}
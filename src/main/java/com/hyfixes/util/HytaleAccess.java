@@ -0,0 +1,522 @@
+package com.hyfixes.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.hyfixes.HyFixes;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.logging.Level;
+
+/**
+ * HytaleAccess - Shared reflective access to Hytale internals
+ *
+ * Most fixes reach into server classes whose names shift between builds, so they try
+ * a list of candidate class / field / method names. Doing that per class meant every
+ * sanitizer re-ran its own Class.forName and getDeclaredField loops (each miss throws)
+ * and then called Method.invoke / Field.get on the hot path.
+ *
+ * Here every lookup is resolved once into a MethodHandle and cached per
+ * owner class in a ClassValue. The outcome of each candidate search (which name matched,
+ * or that none did) is recorded in a resolution table keyed by a fingerprint of the
+ * HytaleServer.jar build. The table is persisted to mods/hyfixes/cache/reflection.json,
+ * and on the next boot with the same server build each lookup goes straight to the
+ * recorded name - or straight to "not found" - without trying the other candidates.
+ *
+ * Handles are adapted to erased types so callers can use invokeExact:
+ * getters are (Object)Object, methods take Object for the receiver and every reference
+ * parameter/result.
+ */
+public final class HytaleAccess {
+
+    private static final Path CACHE_PATH = Paths.get("mods/hyfixes/cache", "reflection.json");
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final Object MISSING = new Object();
+    private static final String NOT_FOUND = "";
+
+    // Persisted: lookup key -> resolved name ("" = none of the candidates exist)
+    private static final Map<String, String> resolutions = new ConcurrentHashMap<>();
+    private static volatile String fingerprint = null;
+    private static volatile boolean dirty = false;
+    private static volatile boolean loadedFromCache = false;
+
+    // Statistics
+    private static final AtomicInteger cacheHits = new AtomicInteger(0);
+    private static final AtomicInteger scans = new AtomicInteger(0);
+
+    // Per owner class: lookup key -> handle (or MISSING)
+    private static final ClassValue<Map<String, Object>> HANDLES = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final Map<String, Object> CLASSES = new ConcurrentHashMap<>();
+
+    /**
+     * Persisted form of the resolution table.
+     */
+    private static final class Table {
+        String fingerprint;
+        Map<String, String> resolutions;
+    }
+
+    private HytaleAccess() {
+    }
+
+    // =========================================================================
+    // Resolution table lifecycle
+    // =========================================================================
+
+    /**
+     * Fingerprint the server build and load the persisted resolution table if it
+     * was written for the same build. Call once during plugin setup.
+     *
+     * @param serverAnchor Any class loaded from HytaleServer.jar
+     */
+    public static void load(Class<?> serverAnchor) {
+        fingerprint = fingerprintServer(serverAnchor);
+        if (fingerprint == null || !Files.exists(CACHE_PATH)) {
+            return;
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(
+                Files.newInputStream(CACHE_PATH), StandardCharsets.UTF_8))) {
+            Table table = new Gson().fromJson(reader, Table.class);
+            if (table == null || table.resolutions == null || !fingerprint.equals(table.fingerprint)) {
+                log(Level.INFO, "Server build changed - reflection cache will be rebuilt");
+                dirty = true;
+                return;
+            }
+            resolutions.putAll(table.resolutions);
+            loadedFromCache = true;
+            log(Level.INFO, "Loaded " + table.resolutions.size() + " cached API resolution(s)");
+        } catch (Exception e) {
+            log(Level.WARNING, "Could not read reflection cache: " + e.getMessage());
+            dirty = true;
+        }
+    }
+
+    /**
+     * Write the resolution table if anything new was resolved since it was loaded.
+     */
+    public static void save() {
+        if (!dirty || fingerprint == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(CACHE_PATH.getParent());
+            Table table = new Table();
+            table.fingerprint = fingerprint;
+            table.resolutions = new TreeMap<>(resolutions);
+
+            Path temp = CACHE_PATH.resolveSibling(CACHE_PATH.getFileName() + ".tmp");
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(temp), StandardCharsets.UTF_8))) {
+                new GsonBuilder().setPrettyPrinting().create().toJson(table, writer);
+            }
+            Files.move(temp, CACHE_PATH, StandardCopyOption.REPLACE_EXISTING);
+            dirty = false;
+        } catch (Exception e) {
+            log(Level.WARNING, "Could not write reflection cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fingerprint of the server build the table belongs to, or null if unknown.
+     */
+    public static String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Whether the resolution table came from disk for this server build.
+     */
+    public static boolean isLoadedFromCache() {
+        return loadedFromCache;
+    }
+
+    /**
+     * Record a resolution made outside this class (e.g. a structural scan) so it is
+     * persisted with the table.
+     */
+    public static void remember(String key, String value) {
+        String resolved = value == null ? NOT_FOUND : value;
+        if (!resolved.equals(resolutions.put(key, resolved))) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * A resolution recorded for this server build, or null if this key was never resolved.
+     */
+    public static String recall(String key) {
+        return resolutions.get(key);
+    }
+
+    // =========================================================================
+    // Lookups
+    // =========================================================================
+
+    /**
+     * The first of the candidate classes that exists, or null.
+     */
+    public static Class<?> findClass(String... classNames) {
+        String key = "class|" + String.join(",", classNames);
+        Object cached = CLASSES.get(key);
+        if (cached != null) {
+            return cached == MISSING ? null : (Class<?>) cached;
+        }
+
+        Class<?> found = null;
+        String recorded = resolutions.get(key);
+        if (recorded != null) {
+            cacheHits.incrementAndGet();
+            found = recorded.isEmpty() ? null : loadClass(recorded);
+        }
+        if (found == null && (recorded == null || !recorded.isEmpty())) {
+            scans.incrementAndGet();
+            for (String className : classNames) {
+                found = loadClass(className);
+                if (found != null) {
+                    break;
+                }
+            }
+            remember(key, found == null ? null : found.getName());
+        }
+
+        CLASSES.put(key, found == null ? MISSING : found);
+        return found;
+    }
+
+    /**
+     * A (Object)Object getter for the first candidate that exists on the owner:
+     * a public no-arg method, or else a field (any visibility, declared on the owner
+     * or a superclass). Returns null if none match.
+     */
+    public static MethodHandle getter(Class<?> owner, String... names) {
+        return (MethodHandle) resolve(owner, "getter", null, names);
+    }
+
+    /**
+     * A (Object)Object getter for the first candidate field on the owner, or null.
+     */
+    public static MethodHandle fieldGetter(Class<?> owner, String... names) {
+        return (MethodHandle) resolve(owner, "fieldGetter", null, names);
+    }
+
+    /**
+     * A (Object,Object)void setter for the first candidate field on the owner, or null.
+     */
+    public static MethodHandle fieldSetter(Class<?> owner, String... names) {
+        return (MethodHandle) resolve(owner, "fieldSetter", null, names);
+    }
+
+    /**
+     * The first public method among the candidates with these parameter types, or null.
+     * The handle is adapted to the erased type: Object receiver (omitted for static
+     * methods), Object for every reference parameter and result.
+     */
+    public static MethodHandle method(Class<?> owner, String[] names, Class<?>... parameterTypes) {
+        return (MethodHandle) resolve(owner, "method", parameterTypes, names);
+    }
+
+    /**
+     * Read the first candidate static accessor that exists - a public static no-arg
+     * method such as InteractionModule.get(), or a public static field such as TYPE.
+     * Returns null if none exist or the accessor returned null.
+     */
+    public static Object invokeStatic(Class<?> owner, String... names) {
+        MethodHandle handle = (MethodHandle) resolve(owner, "static", null, names);
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return (Object) handle.invokeExact();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    // =========================================================================
+    // Member descriptors - for callers that persist the result of a structural scan
+    // =========================================================================
+
+    /**
+     * Describe a method as "declaringClass#name(paramType,...)" for {@link #remember}.
+     */
+    public static String describe(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName() + signature(method.getParameterTypes());
+    }
+
+    /**
+     * Describe a field as "declaringClass#name" for {@link #remember}.
+     */
+    public static String describe(Field field) {
+        return field.getDeclaringClass().getName() + "#" + field.getName();
+    }
+
+    /**
+     * Resolve a {@link #describe(Method)} descriptor back to an accessible method, or null.
+     */
+    public static Method resolveMethod(String descriptor, ClassLoader loader) {
+        try {
+            int hash = descriptor.indexOf('#');
+            int open = descriptor.indexOf('(', hash);
+            Class<?> owner = Class.forName(descriptor.substring(0, hash), false, loader);
+            String params = descriptor.substring(open + 1, descriptor.length() - 1);
+            String[] names = params.isEmpty() ? new String[0] : params.split(",");
+            Class<?>[] types = new Class<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                types[i] = typeForName(names[i], loader);
+            }
+            Method method = owner.getDeclaredMethod(descriptor.substring(hash + 1, open), types);
+            method.setAccessible(true);
+            return method;
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolve a {@link #describe(Field)} descriptor back to an accessible field, or null.
+     */
+    public static Field resolveField(String descriptor, ClassLoader loader) {
+        try {
+            int hash = descriptor.indexOf('#');
+            Class<?> owner = Class.forName(descriptor.substring(0, hash), false, loader);
+            Field field = owner.getDeclaredField(descriptor.substring(hash + 1));
+            field.setAccessible(true);
+            return field;
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Class<?> typeForName(String name, ClassLoader loader) throws ClassNotFoundException {
+        switch (name) {
+            case "boolean": return boolean.class;
+            case "byte": return byte.class;
+            case "char": return char.class;
+            case "short": return short.class;
+            case "int": return int.class;
+            case "long": return long.class;
+            case "float": return float.class;
+            case "double": return double.class;
+            default: return Class.forName(name, false, loader);
+        }
+    }
+
+    /**
+     * Get status for admin commands.
+     */
+    public static String getStatus() {
+        return String.format(
+            "HytaleAccess Status:\n" +
+            "  Server Fingerprint: %s\n" +
+            "  Loaded From Cache: %s\n" +
+            "  Recorded Resolutions: %d\n" +
+            "  Cache Hits: %d\n" +
+            "  Candidate Scans: %d",
+            fingerprint == null ? "unknown" : fingerprint.substring(0, Math.min(12, fingerprint.length())),
+            loadedFromCache,
+            resolutions.size(),
+            cacheHits.get(),
+            scans.get()
+        );
+    }
+
+    // =========================================================================
+    // Internals
+    // =========================================================================
+
+    private static Object resolve(Class<?> owner, String kind, Class<?>[] parameterTypes, String... names) {
+        if (owner == null) {
+            return null;
+        }
+        String key = owner.getName() + "|" + kind + "|" + String.join(",", names)
+                + (parameterTypes == null ? "" : signature(parameterTypes));
+        Map<String, Object> handles = HANDLES.get(owner);
+        Object cached = handles.get(key);
+        if (cached != null) {
+            return cached == MISSING ? null : cached;
+        }
+
+        Object handle = null;
+        String recorded = resolutions.get(key);
+        if (recorded != null) {
+            cacheHits.incrementAndGet();
+            if (!recorded.isEmpty()) {
+                handle = resolveName(owner, kind, parameterTypes, recorded);
+            }
+        }
+        if (handle == null && (recorded == null || !recorded.isEmpty())) {
+            scans.incrementAndGet();
+            String matched = null;
+            for (String name : names) {
+                handle = resolveName(owner, kind, parameterTypes, name);
+                if (handle != null) {
+                    matched = name;
+                    break;
+                }
+            }
+            remember(key, matched);
+        }
+
+        handles.put(key, handle == null ? MISSING : handle);
+        return handle;
+    }
+
+    private static Object resolveName(Class<?> owner, String kind, Class<?>[] parameterTypes, String name) {
+        try {
+            switch (kind) {
+                case "getter": {
+                    Method method = publicMethod(owner, name);
+                    if (method != null && method.getReturnType() != void.class) {
+                        return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+                    }
+                    Field field = declaredField(owner, name);
+                    return field == null ? null : MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+                }
+                case "static": {
+                    MethodType type = MethodType.methodType(Object.class);
+                    Method method = publicMethod(owner, name);
+                    if (method != null && Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) {
+                        return MethodHandles.publicLookup().unreflect(method).asType(type);
+                    }
+                    Field field = owner.getField(name);
+                    return Modifier.isStatic(field.getModifiers())
+                            ? MethodHandles.publicLookup().unreflectGetter(field).asType(type) : null;
+                }
+                case "fieldGetter": {
+                    Field field = declaredField(owner, name);
+                    return field == null ? null : MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+                }
+                case "fieldSetter": {
+                    Field field = declaredField(owner, name);
+                    return field == null || Modifier.isFinal(field.getModifiers()) ? null
+                            : MethodHandles.lookup().unreflectSetter(field)
+                                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                }
+                case "method": {
+                    Method method = owner.getMethod(name, parameterTypes);
+                    MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                    return handle.asType(handle.type().erase());
+                }
+                default:
+                    return null;
+            }
+        } catch (NoSuchMethodException | NoSuchFieldException | IllegalAccessException | SecurityException e) {
+            return null;
+        } catch (RuntimeException e) {
+            // InaccessibleObjectException and friends
+            return null;
+        }
+    }
+
+    private static Method publicMethod(Class<?> owner, String name) {
+        try {
+            return owner.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Field declaredField(Class<?> owner, String name) {
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                // Try superclass
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static String signature(Class<?>[] parameterTypes) {
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(parameterTypes[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Identify the server build from the jar the anchor class was loaded from:
+     * file name, size, modification time and manifest version. Cheap enough to run
+     * on every boot, unlike hashing the whole jar.
+     */
+    private static String fingerprintServer(Class<?> serverAnchor) {
+        try {
+            URL location = serverAnchor.getProtectionDomain().getCodeSource().getLocation();
+            Path jar = Paths.get(location.toURI());
+            StringBuilder identity = new StringBuilder()
+                    .append(jar.getFileName()).append('|')
+                    .append(Files.size(jar)).append('|')
+                    .append(Files.getLastModifiedTime(jar).toMillis());
+            if (Files.isRegularFile(jar)) {
+                try (JarFile jarFile = new JarFile(jar.toFile())) {
+                    Manifest manifest = jarFile.getManifest();
+                    if (manifest != null) {
+                        identity.append('|').append(manifest.getMainAttributes().getValue("Implementation-Version"));
+                    }
+                }
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(identity.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (Exception e) {
+            log(Level.WARNING, "Could not fingerprint server jar - reflection cache disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void log(Level level, String message) {
+        HyFixes plugin = HyFixes.getInstance();
+        if (plugin != null) {
+            plugin.getLogger().at(level).log("[HytaleAccess] " + message);
+        }
+    }
+}
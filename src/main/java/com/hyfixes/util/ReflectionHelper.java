@@ -17,6 +17,9 @@ import java.util.stream.Collectors;
  * This class uses reflection to scan the World class and find chunk-related
  * methods that may not be part of the public API but can be used to force
  * chunk unloading.
+ *
+ * The scan result is recorded in the HytaleAccess table, so later boots on the
+ * same server build restore it instead of crawling the class again.
  */
 public class ReflectionHelper {
 
@@ -49,6 +52,14 @@ public class ReflectionHelper {
         }
 
         Class<?> clazz = target.getClass();
+        if (restoreFromCache(clazz)) {
+            plugin.getLogger().at(Level.INFO).log(
+                "[ReflectionHelper] Restored " + targetName + " discovery from cache: " +
+                chunkMethods.size() + " chunk-related APIs"
+            );
+            return;
+        }
+
         plugin.getLogger().at(Level.INFO).log(
             "[ReflectionHelper] Scanning " + targetName + " (" + clazz.getName() + ")"
         );
@@ -74,10 +85,59 @@ public class ReflectionHelper {
             );
         }
 
+        rememberDiscovery(clazz);
+
         // Log summary
         logSummary();
     }
 
+    /**
+     * Record the scan result for this class in the HytaleAccess table.
+     */
+    private void rememberDiscovery(Class<?> clazz) {
+        String key = "ReflectionHelper|" + clazz.getName();
+        HytaleAccess.remember(key + "|unloadChunk",
+                unloadChunkMethod != null ? HytaleAccess.describe(unloadChunkMethod) : null);
+        HytaleAccess.remember(key + "|getLoadedChunks",
+                getLoadedChunksMethod != null ? HytaleAccess.describe(getLoadedChunksMethod) : null);
+        HytaleAccess.remember(key + "|chunkField",
+                chunkManagerField != null ? HytaleAccess.describe(chunkManagerField) : null);
+        HytaleAccess.remember(key + "|chunkMethods", String.join(";", chunkMethods));
+    }
+
+    /**
+     * Restore a previous scan of this class from the HytaleAccess table.
+     * Returns false if there is none or a recorded member no longer resolves.
+     */
+    private boolean restoreFromCache(Class<?> clazz) {
+        String key = "ReflectionHelper|" + clazz.getName();
+        String unload = HytaleAccess.recall(key + "|unloadChunk");
+        String loaded = HytaleAccess.recall(key + "|getLoadedChunks");
+        String field = HytaleAccess.recall(key + "|chunkField");
+        String methods = HytaleAccess.recall(key + "|chunkMethods");
+        if (unload == null || loaded == null || field == null || methods == null) {
+            return false;
+        }
+
+        ClassLoader loader = clazz.getClassLoader();
+        Method unloadMethod = unload.isEmpty() ? null : HytaleAccess.resolveMethod(unload, loader);
+        Method loadedMethod = loaded.isEmpty() ? null : HytaleAccess.resolveMethod(loaded, loader);
+        Field managerField = field.isEmpty() ? null : HytaleAccess.resolveField(field, loader);
+        if ((!unload.isEmpty() && unloadMethod == null) ||
+            (!loaded.isEmpty() && loadedMethod == null) ||
+            (!field.isEmpty() && managerField == null)) {
+            return false;
+        }
+
+        unloadChunkMethod = unloadMethod;
+        getLoadedChunksMethod = loadedMethod;
+        chunkManagerField = managerField;
+        if (!methods.isEmpty()) {
+            chunkMethods.addAll(Arrays.asList(methods.split(";")));
+        }
+        return true;
+    }
+
     private void scanMethods(Method[] methods, String scope) {
         for (Method m : methods) {
             String methodSig = formatMethod(m);
@@ -0,0 +1,165 @@
+package com.hyfixes.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * WeakIdentityMap - Concurrent map with weak, identity-compared keys
+ *
+ * Used to attach HyFixes bookkeeping to Hytale objects (inventories, containers)
+ * without keeping them alive and without relying on equals()/hashCode().
+ *
+ * - Keys are compared with == so two distinct objects never alias,
+ *   even when their System.identityHashCode values collide.
+ * - Keys are held weakly; once the server drops an object its entry
+ *   is expunged on the next write or size() call.
+ */
+public class WeakIdentityMap<K, V> {
+
+    private final Map<Object, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    /**
+     * Get the value mapped to this exact instance, or null.
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        return map.get(new LookupKey(key));
+    }
+
+    /**
+     * Map this exact instance to a value.
+     *
+     * @return The previous value, or null
+     */
+    public V put(K key, V value) {
+        expungeStaleEntries();
+        return map.put(new WeakKey<>(key, queue), value);
+    }
+
+    /**
+     * Remove the mapping for this exact instance.
+     *
+     * @return The removed value, or null
+     */
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        expungeStaleEntries();
+        return map.remove(new LookupKey(key));
+    }
+
+    /**
+     * Remove every entry whose value matches the predicate.
+     *
+     * @return true if anything was removed
+     */
+    public boolean removeValues(Predicate<? super V> predicate) {
+        expungeStaleEntries();
+        return map.values().removeIf(predicate);
+    }
+
+    /**
+     * Number of live entries (stale entries are expunged first).
+     */
+    public int size() {
+        expungeStaleEntries();
+        return map.size();
+    }
+
+    /**
+     * Snapshot of the values of all live entries.
+     */
+    public List<V> values() {
+        expungeStaleEntries();
+        return new ArrayList<>(map.values());
+    }
+
+    public void clear() {
+        map.clear();
+        while (queue.poll() != null) {
+            // Drain - the keys are gone with the map
+        }
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends K> stale;
+        while ((stale = queue.poll()) != null) {
+            map.remove(stale);
+        }
+    }
+
+    /**
+     * Stored key - weak reference with the referent's identity hash captured up front,
+     * so the entry can still be located and removed after the referent is cleared.
+     */
+    private static final class WeakKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        WeakKey(K referent, ReferenceQueue<K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object referent = get();
+            if (referent == null) {
+                return false;
+            }
+            if (other instanceof WeakKey<?> weakKey) {
+                return referent == weakKey.get();
+            }
+            if (other instanceof LookupKey lookupKey) {
+                return referent == lookupKey.referent;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Transient strong key used only for lookups.
+     */
+    private static final class LookupKey {
+        private final Object referent;
+        private final int hash;
+
+        LookupKey(Object referent) {
+            this.referent = referent;
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other instanceof WeakKey<?> weakKey) {
+                return referent == weakKey.get();
+            }
+            return false;
+        }
+    }
+}